@@ -0,0 +1,94 @@
+package org.chzz.market.common.util;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository.AuctionOrder;
+import org.chzz.market.domain.bid.repository.BidQueryRepository.BidOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 요청 시점 정렬 변환 비용 비교
+ * <p>
+ * legacy: 정렬마다 이름 조회 후 내림차순이면 {@link OrderSpecifier} 를 새로 생성하던 기존 방식
+ * <br> table: 시작 시점에 계산된 {@link QuerydslOrderTable} 조회
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuerydslOrderBenchmark {
+    @Param({"popularity", "popularity,DESC", "newest,DESC&cheap"})
+    private String sort;
+
+    private Pageable pageable;
+    private ConcurrentMap<String, QuerydslOrder> legacyMap;
+    private QuerydslOrderProvider provider;
+
+    @Setup
+    public void setUp() {
+        List<QuerydslOrder> orders = Stream.concat(Stream.of(AuctionOrder.values()), Stream.of(BidOrder.values()))
+                .map(QuerydslOrder.class::cast)
+                .toList();
+        legacyMap = orders.stream().collect(Collectors.toConcurrentMap(QuerydslOrder::getName, order -> order));
+        provider = new QuerydslOrderProvider(new QuerydslOrderRegistry(orders));
+        pageable = PageRequest.of(0, 20, parseSort(sort));
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] legacy() {
+        List<OrderSpecifier<?>> orderSpecifiers = pageable.getSort().stream()
+                .map(order -> Optional.ofNullable(legacyMap.get(order.getProperty()))
+                        .map(querydslOrder -> reverseIfDescending(querydslOrder.getOrderSpecifier(),
+                                order.isAscending())))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(OrderByNull.DEFAULT);
+        }
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] table() {
+        return provider.getOrderSpecifiers(pageable);
+    }
+
+    private static OrderSpecifier<?> reverseIfDescending(OrderSpecifier<?> base, boolean isAscending) {
+        if (isAscending) {
+            return base;
+        }
+        Order oppositeOrder = (base.getOrder() == Order.ASC) ? Order.DESC : Order.ASC;
+        return new OrderSpecifier<>(oppositeOrder, base.getTarget());
+    }
+
+    /**
+     * "name,DIRECTION&name" 형식을 {@link Sort} 로 변환
+     */
+    private static Sort parseSort(String value) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String token : value.split("&")) {
+            String[] parts = token.split(",");
+            Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1]) : Sort.Direction.ASC;
+            orders.add(new Sort.Order(direction, parts[0]));
+        }
+        return Sort.by(orders);
+    }
+}
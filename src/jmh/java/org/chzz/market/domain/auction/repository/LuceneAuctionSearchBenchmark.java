@@ -0,0 +1,102 @@
+package org.chzz.market.domain.auction.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.store.MMapDirectory;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 내장 Lucene 검색 엔진의 검색 비용 (Elasticsearch 없이 실행)
+ * <p>
+ * search: 키워드/상태 검색 첫 페이지
+ * <br> facets: 집계 포함 검색
+ * <br> suggest: 자동완성
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LuceneAuctionSearchBenchmark {
+    private static final String[] NAMES = {"맥북 프로", "아이패드 에어", "갤럭시 탭", "닌텐도 스위치", "캠핑 의자", "나이키 운동화"};
+
+    @Param({"10000", "100000"})
+    private int documentCount;
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by("newest"));
+    private Path indexPath;
+    private LuceneAuctionSearchEngine engine;
+
+    @Setup
+    public void setUp() throws IOException {
+        indexPath = Files.createTempDirectory("auction-lucene-benchmark");
+        engine = new LuceneAuctionSearchEngine(new MMapDirectory(indexPath), new AuctionPageableAdjuster(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), 10000);
+        AuctionStatus[] statuses = AuctionStatus.values();
+        Category[] categories = Category.values();
+        List<AuctionDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= documentCount; id++) {
+            documents.add(AuctionDocument.builder()
+                    .auctionId(id)
+                    .sellerId(id % 100)
+                    .name(NAMES[(int) (id % NAMES.length)] + " " + id)
+                    .description(NAMES[(int) (id % NAMES.length)] + " 팝니다.")
+                    .minPrice((int) (id % 100) * 1000)
+                    .category(categories[(int) (id % categories.length)].getDisplayName())
+                    .auctionStatus(statuses[(int) (id % statuses.length)])
+                    .createAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id))
+                    .build());
+            if (documents.size() == 1000) {
+                engine.write(documents, List.of());
+                documents.clear();
+            }
+        }
+        engine.write(documents, List.of());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        engine.close();
+        try (var files = Files.walk(indexPath)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public AuctionSearchResult search() {
+        return engine.search("맥북", AuctionStatus.PROCEEDING, pageable, false);
+    }
+
+    @Benchmark
+    public AuctionSearchResult facets() {
+        return engine.search("맥북", AuctionStatus.PROCEEDING, pageable, true);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return engine.suggestNames("아이", 10);
+    }
+}
@@ -0,0 +1,327 @@
+package org.chzz.market.domain.notification.repository;
+
+import static org.chzz.market.common.filter.JWTFilter.AUTHORIZATION_HEADER;
+import static org.chzz.market.common.filter.JWTFilter.BEARER_TOKEN_PREFIX;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.chzz.market.common.config.LoginUserArgumentResolver;
+import org.chzz.market.common.filter.JWTFilter;
+import org.chzz.market.common.util.JWTUtil;
+import org.chzz.market.domain.notification.controller.NotificationController;
+import org.chzz.market.domain.notification.controller.NotificationStreamServer;
+import org.chzz.market.domain.notification.service.NotificationService;
+import org.chzz.market.domain.notification.service.SseHeartbeatWheel;
+import org.chzz.market.domain.token.entity.TokenType;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.entity.User.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실제로 열린 SSE 연결 수에 따른 전송 방식별 비용 (루프백 HTTP 연결)
+ * <p>
+ * emitter: 내장 Tomcat 의 NotificationController → NotificationService.subscribe (SseEmitter)
+ * <br> stream: NotificationStreamServer (Reactor Netty) → NotificationService.subscribeStream (사용자별 싱크)
+ * <p>
+ * openConnections: 연결 수만큼 액세스 토큰으로 구독 요청을 보내고 모든 연결이 초기 이벤트를 받을 때까지의 시간
+ * <br> heartbeat: 열린 모든 연결에 하트비트 쓰기 (stream 은 싱크 발행까지, 소켓 쓰기는 이벤트 루프에서 비동기로 진행)
+ * <p>
+ * 두 방식 모두 운영과 같은 인증 필터, 컨트롤러/라우터, 서비스, 하트비트 휠 등록을 거치며, Redis 연결 노드 등록만 아무것도 하지 않는
+ * 저장소로 대체한다. 연결당 메모리는 {@code -prof gc} 의 gc.alloc.rate.norm 을 연결 수로 나누어 확인한다. 연결 수만큼 파일
+ * 디스크립터가 두 배로 필요하므로 {@code ulimit -n} 을 충분히 늘려 실행한다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+public class NotificationConnectionBenchmark {
+    private static final String SECRET = "notification-connection-benchmark-secret-key";
+    private static final ServerSentEvent<String> STREAM_HEARTBEAT = ServerSentEvent.<String>builder()
+            .comment("heartbeat")
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        @Param({"1000", "5000"})
+        private int connectionCount;
+
+        @Param({"emitter", "stream"})
+        private String transport;
+
+        private AnnotationConfigServletWebServerApplicationContext context;
+        private EmitterRepositoryImpl emitterRepository;
+        private NotificationSinkRepository notificationSinkRepository;
+        private HttpClient client;
+        private URI subscribeUri;
+        private List<String> accessTokens;
+
+        @Setup(Level.Trial)
+        public void start() {
+            LoggingSystem.get(getClass().getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+            context = new AnnotationConfigServletWebServerApplicationContext(ServerConfig.class);
+            emitterRepository = context.getBean(EmitterRepositoryImpl.class);
+            notificationSinkRepository = context.getBean(NotificationSinkRepository.class);
+            client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            subscribeUri = isStream()
+                    ? URI.create("http://localhost:" + context.getBean(NotificationStreamServer.class).getPort()
+                    + NotificationStreamServer.STREAM_PATH)
+                    : URI.create("http://localhost:" + context.getWebServer().getPort()
+                    + "/api/v1/notifications/subscribe");
+            JWTUtil jwtUtil = context.getBean(JWTUtil.class);
+            accessTokens = LongStream.rangeClosed(1, connectionCount)
+                    .mapToObj(userId -> jwtUtil.createToken(
+                            User.builder().id(userId).userRole(UserRole.USER).build(), TokenType.ACCESS))
+                    .toList();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+
+        private boolean isStream() {
+            return "stream".equals(transport);
+        }
+
+        /**
+         * 연결 수만큼 구독하고, 모든 응답 헤더(초기 이벤트와 함께 전송됨)를 받을 때까지 기다립니다.
+         */
+        List<InputStream> open() {
+            List<CompletableFuture<HttpResponse<InputStream>>> responses = accessTokens.stream()
+                    .map(accessToken -> client.sendAsync(HttpRequest.newBuilder(subscribeUri)
+                                    .header(AUTHORIZATION_HEADER, BEARER_TOKEN_PREFIX + accessToken)
+                                    .build(),
+                            BodyHandlers.ofInputStream()))
+                    .toList();
+            return responses.stream()
+                    .map(CompletableFuture::join)
+                    .map(HttpResponse::body)
+                    .toList();
+        }
+
+        void close(List<InputStream> connections) {
+            for (InputStream connection : connections) {
+                try {
+                    connection.close();
+                } catch (IOException e) {
+                    // 이미 끊긴 연결
+                }
+            }
+            // 리액티브 스트림은 연결이 끊기면 구독이 취소되어 싱크가 해제된다
+            emitterRepository.findAllEmitters().values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        }
+
+        int heartbeat() {
+            if (isStream()) {
+                return notificationSinkRepository.emitToAll(STREAM_HEARTBEAT, userId -> true).size();
+            }
+            int sent = 0;
+            for (List<SseEmitter> emitters : emitterRepository.findAllEmitters().values()) {
+                for (SseEmitter emitter : emitters) {
+                    try {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        sent++;
+                    } catch (IOException e) {
+                        // 끊긴 연결은 완료 콜백에서 제거된다
+                    }
+                }
+            }
+            return sent;
+        }
+    }
+
+    /**
+     * openConnections 가 연 연결 (호출마다 정리)
+     */
+    @State(Scope.Benchmark)
+    public static class Opened {
+        private final List<InputStream> connections = new ArrayList<>();
+        private Server server;
+
+        @Setup(Level.Trial)
+        public void setUp(Server server) {
+            this.server = server;
+        }
+
+        @TearDown(Level.Invocation)
+        public void close() {
+            server.close(connections);
+            connections.clear();
+        }
+    }
+
+    /**
+     * heartbeat 측정 동안 열어 두는 연결
+     */
+    @State(Scope.Benchmark)
+    public static class Connected {
+        private List<InputStream> connections;
+        private Server server;
+
+        @Setup(Level.Trial)
+        public void setUp(Server server) {
+            this.server = server;
+            this.connections = server.open();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            server.close(connections);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int openConnections(Server server, Opened opened) {
+        opened.connections.addAll(server.open());
+        return opened.connections.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int heartbeat(Server server, Connected connected) {
+        return server.heartbeat();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(NotificationController.class)
+    public static class ServerConfig implements WebMvcConfigurer {
+        @Bean
+        TomcatServletWebServerFactory webServerFactory() {
+            TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+            factory.setContextPath("/api");
+            factory.addConnectorCustomizers(connector -> {
+                connector.setProperty("maxConnections", "-1");
+                connector.setProperty("acceptCount", "10000");
+            });
+            return factory;
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Override
+        public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+            resolvers.add(new LoginUserArgumentResolver());
+        }
+
+        @Bean
+        JWTUtil jwtUtil() {
+            return new JWTUtil(SECRET);
+        }
+
+        @Bean
+        JWTFilter jwtFilter(JWTUtil jwtUtil) {
+            return new JWTFilter(jwtUtil);
+        }
+
+        @Bean
+        EmitterRepositoryImpl emitterRepository() {
+            return new EmitterRepositoryImpl();
+        }
+
+        @Bean
+        NotificationSinkRepository notificationSinkRepository() {
+            return new NotificationSinkRepository(32);
+        }
+
+        /**
+         * Redis 없이 실행하도록 연결 노드 등록/해제를 생략
+         */
+        @Bean
+        NotificationPresenceRepository notificationPresenceRepository() {
+            return new NotificationPresenceRepository(null, "benchmark", 180_000) {
+                @Override
+                public void register(Collection<Long> userIds) {
+                }
+
+                @Override
+                public void unregister(Collection<Long> userIds) {
+                }
+            };
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor sseHeartbeatExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(4);
+            executor.setMaxPoolSize(4);
+            executor.setQueueCapacity(10_000);
+            return executor;
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor sseCloseExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(2);
+            executor.setQueueCapacity(10_000);
+            return executor;
+        }
+
+        @Bean
+        SseHeartbeatWheel sseHeartbeatWheel(NotificationPresenceRepository notificationPresenceRepository,
+                                            NotificationSinkRepository notificationSinkRepository,
+                                            ThreadPoolTaskExecutor sseHeartbeatExecutor,
+                                            ThreadPoolTaskExecutor sseCloseExecutor) {
+            return new SseHeartbeatWheel(notificationPresenceRepository, notificationSinkRepository,
+                    new SimpleMeterRegistry(), sseHeartbeatExecutor, sseCloseExecutor, 60, 5000);
+        }
+
+        @Bean
+        NotificationService notificationService(EmitterRepositoryImpl emitterRepository,
+                                                NotificationSinkRepository notificationSinkRepository,
+                                                NotificationPresenceRepository notificationPresenceRepository,
+                                                SseHeartbeatWheel sseHeartbeatWheel) {
+            // 구독 경로는 알림 조회 저장소를 사용하지 않는다
+            return new NotificationService(null, emitterRepository, notificationSinkRepository,
+                    notificationPresenceRepository, sseHeartbeatWheel, new ObjectMapper());
+        }
+
+        @Bean
+        NotificationStreamServer notificationStreamServer(NotificationService notificationService,
+                                                          NotificationSinkRepository notificationSinkRepository,
+                                                          JWTUtil jwtUtil) {
+            return new NotificationStreamServer(notificationService, notificationSinkRepository, jwtUtil, 0);
+        }
+    }
+}
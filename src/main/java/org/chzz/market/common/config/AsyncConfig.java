@@ -1,6 +1,7 @@
 package org.chzz.market.common.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -20,4 +21,37 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * SSE 하트비트 쓰기 전용 스레드. 한 틱의 연결 수보다 대기열이 작으면 넘친 연결은 다음 주기에 하트비트를 받는다.
+     */
+    @Bean(name = "sseHeartbeatExecutor")
+    public Executor sseHeartbeatExecutor(
+            @Value("${notification.sse.heartbeat.writer-threads:4}") int writerThreads,
+            @Value("${notification.sse.heartbeat.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writerThreads);
+        executor.setMaxPoolSize(writerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("SseHeartbeat-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 응답 없는 SSE 연결 종료 전용 스레드. 종료는 진행 중인 쓰기가 끝날 때까지 대기하므로, 막힌 쓰기 스레드 뒤에 대기하지 않도록
+     * 하트비트 쓰기와 분리한다.
+     */
+    @Bean(name = "sseCloseExecutor")
+    public Executor sseCloseExecutor(
+            @Value("${notification.sse.heartbeat.closer-threads:2}") int closerThreads,
+            @Value("${notification.sse.heartbeat.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(closerThreads);
+        executor.setMaxPoolSize(closerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("SseClose-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,6 +1,7 @@
 package org.chzz.market.common.config;
 
 import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.dto.SlicePageRequest;
 import org.chzz.market.common.error.GlobalErrorCode;
 import org.chzz.market.common.error.GlobalException;
 import org.chzz.market.common.util.QuerydslOrderRegistry;
@@ -16,6 +17,11 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 @RequiredArgsConstructor
 public class CustomPageableHandlerMethodArgumentResolver extends PageableHandlerMethodArgumentResolver {
+    /**
+     * false 인 경우 전체 개수를 계산하지 않는 {@link SlicePageRequest} 로 조회
+     */
+    public static final String WITH_TOTAL_PARAMETER = "withTotal";
+
     private final QuerydslOrderRegistry querydslOrderRegistry;
 
     @Override
@@ -31,6 +37,9 @@ public class CustomPageableHandlerMethodArgumentResolver extends PageableHandler
             }
         });
 
+        if (pageable.isPaged() && "false".equalsIgnoreCase(webRequest.getParameter(WITH_TOTAL_PARAMETER))) {
+            return SlicePageRequest.of(pageable);
+        }
         return pageable;
     }
 }
@@ -0,0 +1,41 @@
+package org.chzz.market.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.lucene.store.MMapDirectory;
+import org.chzz.market.domain.auction.repository.LuceneAuctionSearchEngine;
+import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * 내장 Lucene 검색 엔진 ({@code auction.search.engine=lucene})
+ * <p>
+ * 인덱스는 메모리 매핑 디렉터리에 두며, 재시작 후에도 인덱스가 남도록 {@code auction.search.lucene.path} 를 지정해야 한다. 경로를
+ * 지정하지 않으면 test 프로필에서만 임시 디렉터리를 사용하고 그 외에는 기동을 중단한다. Elasticsearch 없이 실행하려면
+ * {@code spring.data.elasticsearch.repositories.enabled=false} 도 함께 설정한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "lucene")
+public class LuceneSearchEngineConfig {
+    @Bean
+    public LuceneAuctionSearchEngine luceneAuctionSearchEngine(
+            AuctionPageableAdjuster pageableAdjuster,
+            ObjectMapper objectMapper,
+            Environment environment,
+            @Value("${auction.search.lucene.path:}") String path,
+            @Value("${auction.search.facet.price-interval:10000}") long priceInterval) throws IOException {
+        if (path.isBlank() && !environment.acceptsProfiles(Profiles.of("test"))) {
+            throw new IllegalStateException("내장 Lucene 검색 엔진은 auction.search.lucene.path 설정이 필요합니다.");
+        }
+        Path indexPath = path.isBlank() ? Files.createTempDirectory("auction-lucene") : Path.of(path);
+        return new LuceneAuctionSearchEngine(new MMapDirectory(indexPath), pageableAdjuster, objectMapper,
+                priceInterval);
+    }
+}
@@ -1,5 +1,9 @@
 package org.chzz.market.common.config;
 
+import java.util.List;
+import org.chzz.market.domain.auction.repository.AuctionDetailCacheRepository;
+import org.chzz.market.domain.auction.service.AuctionDetailCacheService;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
 import org.chzz.market.domain.notification.service.RedisSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -46,10 +50,17 @@ public class RedisConfig {
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       MessageListenerAdapter listenerAdapter) {
+                                                                       MessageListenerAdapter listenerAdapter,
+                                                                       MessageListenerAdapter auctionDetailCacheListenerAdapter,
+                                                                       NotificationPresenceRepository notificationPresenceRepository) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, new ChannelTopic("notification"));
+        // 연결 노드 조회 실패 시의 전체 발행 채널과 현재 노드 전용 채널을 함께 수신
+        container.addMessageListener(listenerAdapter, List.of(
+                new ChannelTopic(NotificationPresenceRepository.BROADCAST_CHANNEL),
+                new ChannelTopic(notificationPresenceRepository.nodeChannel())));
+        container.addMessageListener(auctionDetailCacheListenerAdapter,
+                new ChannelTopic(AuctionDetailCacheRepository.INVALIDATION_CHANNEL));
         return container;
     }
 
@@ -58,8 +69,13 @@ public class RedisConfig {
         return new MessageListenerAdapter(redisSubscriber, "onMessage");
     }
 
+    @Bean
+    public MessageListenerAdapter auctionDetailCacheListenerAdapter(AuctionDetailCacheService auctionDetailCacheService) {
+        return new MessageListenerAdapter(auctionDetailCacheService, "onMessage");
+    }
+
     @Bean
     public ChannelTopic topic() {
-        return new ChannelTopic("notification");
+        return new ChannelTopic(NotificationPresenceRepository.BROADCAST_CHANNEL);
     }
 }
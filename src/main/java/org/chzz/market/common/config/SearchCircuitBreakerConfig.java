@@ -0,0 +1,93 @@
+package org.chzz.market.common.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Elasticsearch 검색 서킷 브레이커
+ * <p>
+ * 최근 호출 중 실패 비율 또는 느린 호출 비율이 임계치를 넘으면 열려 대체 검색으로 전환하고, 대기 시간이 지나면 일부 호출만 허용해
+ * 회복 여부를 확인한다.
+ * <p>
+ * 느린 호출 비율은 호출이 끝난 뒤에야 집계되므로, 검색 엔진 호출은 크기가 제한된 전용 스레드에서 실행하고 제한 시간을 넘기면
+ * 실패로 처리하여 요청 스레드가 응답 없는 검색 엔진에 묶이지 않도록 한다. 실패로 집계하는 예외는 검색 엔진 장애에 해당하는 것으로
+ * 한정한다.
+ */
+@Configuration
+public class SearchCircuitBreakerConfig {
+    public static final String AUCTION_SEARCH = "auctionSearch";
+    public static final String AUCTION_SEARCH_EXECUTOR = "auctionSearchExecutor";
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public CircuitBreaker auctionSearchCircuitBreaker(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${auction.search.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${auction.search.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${auction.search.circuit-breaker.slow-call-duration-millis:1000}") long slowCallDurationMillis,
+            @Value("${auction.search.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${auction.search.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+            @Value("${auction.search.circuit-breaker.wait-duration-in-open-millis:30000}") long waitDurationInOpenMillis,
+            @Value("${auction.search.circuit-breaker.permitted-calls-in-half-open:5}") int permittedCallsInHalfOpen) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenMillis))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpen)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(TimeoutException.class, RejectedExecutionException.class, DataAccessException.class,
+                        UncheckedIOException.class)
+                .build();
+        return circuitBreakerRegistry.circuitBreaker(AUCTION_SEARCH, config);
+    }
+
+    @Bean
+    public TimeLimiter auctionSearchTimeLimiter(
+            @Value("${auction.search.time-limiter.timeout-millis:2000}") long timeoutMillis) {
+        return TimeLimiter.of(AUCTION_SEARCH, TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(timeoutMillis))
+                .cancelRunningFuture(true)
+                .build());
+    }
+
+    /**
+     * 검색 엔진 호출 전용 스레드. 대기열이 가득 차면 호출을 거절하여 대체 검색으로 전환한다.
+     */
+    @Bean(name = AUCTION_SEARCH_EXECUTOR)
+    public Executor auctionSearchExecutor(
+            @Value("${auction.search.executor.pool-size:16}") int poolSize,
+            @Value("${auction.search.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("AuctionSearch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -64,6 +64,8 @@ public class SecurityConfig {
                         .requestMatchers(GET,
                                 "/api/v1/auctions",
                                 "/api/v1/auctions/search",
+                                "/api/v1/auctions/search/suggest",
+                                "/api/v1/auctions/search/trending",
                                 "/api/v1/auctions/{auctionId:\\d+}",
                                 "/api/v1/auctions/categories",
                                 "/api/v1/notifications/subscribe",
@@ -72,6 +74,7 @@ public class SecurityConfig {
                         .requestMatchers(POST,
                                 "/api/v1/users/tokens/reissue").permitAll()
                         .requestMatchers(POST, "/api/v1/users").hasRole("TEMP_USER")
+                        .requestMatchers(POST, "/api/v1/auctions/search/reindex").hasRole("ADMIN")
                         .anyRequest().hasRole("USER")
                 )
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
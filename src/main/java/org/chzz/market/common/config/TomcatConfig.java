@@ -0,0 +1,23 @@
+package org.chzz.market.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내장 Tomcat 커넥터 설정
+ * <p>
+ * Tomcat 은 connectionTimeout 을 소켓 쓰기 제한 시간으로도 사용한다. 응답 없는 클라이언트로의 SSE 쓰기가 이 시간 안에 실패하도록
+ * 제한하여, 막힌 쓰기를 기다리는 하트비트 쓰기/종료 스레드가 계속 점유되지 않도록 한다. 요청 읽기 대기 시간에도 같은 값이 적용된다.
+ */
+@Configuration
+public class TomcatConfig {
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> socketTimeoutCustomizer(
+            @Value("${notification.sse.socket-write-timeout-millis:10000}") int socketWriteTimeoutMillis) {
+        return factory -> factory.addConnectorCustomizers(connector ->
+                connector.setProperty("connectionTimeout", String.valueOf(socketWriteTimeoutMillis)));
+    }
+}
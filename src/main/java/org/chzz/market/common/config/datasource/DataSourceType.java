@@ -0,0 +1,5 @@
+package org.chzz.market.common.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
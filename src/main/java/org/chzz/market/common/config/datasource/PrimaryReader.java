@@ -0,0 +1,28 @@
+package org.chzz.market.common.config.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 레플리카 지연과 무관하게 프라이머리에서 조회
+ * <p>
+ * 캐시 무효화나 버전 증가 직후의 재적재는 방금 커밋된 변경을 읽어야 하므로, 지연된 레플리카에서 읽은 이전 데이터가 캐시에 다시
+ * 저장되지 않도록 이 경로로 조회한다. 쓰기 트랜잭션은 항상 프라이머리로 라우팅되므로 읽기 전용이 아닌 새 트랜잭션에서 실행하며, 바깥
+ * 트랜잭션이 이미 레플리카 연결을 잡고 있어도 영향을 받지 않는다.
+ */
+@Component
+public class PrimaryReader {
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,74 @@
+package org.chzz.market.common.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카 복제 지연 감시
+ * <p>
+ * 복제 설정이 없는 독립 스키마(로컬 테스트용)는 지연이 없는 것으로 간주하고, 복제가 중단되었거나 조회에 실패하면 사용 불가로 판단한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private volatile boolean replicaAvailable = false;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("레플리카 복제 지연(초), 확인 불가 시 -1")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("읽기 전용 트랜잭션의 레플리카 사용 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-millis:1000}")
+    public void checkReplicaLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+            if (!resultSet.next()) {
+                // 복제 설정이 없는 독립 스키마
+                updateStatus(0, true);
+                return;
+            }
+            long lag = resultSet.getLong(SECONDS_BEHIND_SOURCE);
+            if (resultSet.wasNull()) {
+                // 복제 스레드가 중단된 상태
+                updateStatus(-1, false);
+                return;
+            }
+            updateStatus(lag, lag <= maxLagSeconds);
+        } catch (SQLException e) {
+            log.debug("레플리카 상태 조회 실패", e);
+            updateStatus(-1, false);
+        }
+    }
+
+    private void updateStatus(long lag, boolean available) {
+        this.lagSeconds = lag;
+        if (this.replicaAvailable != available) {
+            log.warn("레플리카 사용 여부 변경: {} -> {} (지연: {}초, 허용: {}초)", this.replicaAvailable, available, lag,
+                    maxLagSeconds);
+        }
+        this.replicaAvailable = available;
+    }
+}
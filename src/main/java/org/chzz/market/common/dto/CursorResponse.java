@@ -0,0 +1,14 @@
+package org.chzz.market.common.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지는 null)
+ */
+public record CursorResponse<E>(List<E> items, String nextCursor, boolean hasNext) {
+    public static <E> CursorResponse<E> last(List<E> items) {
+        return new CursorResponse<>(items, null, false);
+    }
+}
@@ -1,23 +1,32 @@
 package org.chzz.market.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
+/**
+ * {@link SlicePage} 인 경우 전체 페이지 수와 전체 개수는 응답에서 제외된다
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public final class PageResponse<E> {
     private final boolean hasNext;
     private final List<E> items;
     private final int pageNumber;
     private final int pageSize;
-    private final int totalPages;
-    private final long totalElements;
+    private final Integer totalPages;
+    private final Long totalElements;
     private final boolean isLast;
 
     public static <E> PageResponse<E> from(final Page<E> page) {
+        if (page instanceof SlicePage<?>) {
+            return new PageResponse<>(page.hasNext(), page.getContent(), page.getNumber(), page.getSize(), null, null,
+                    page.isLast());
+        }
         return new PageResponse<>(page.hasNext(), page.getContent(), page.getNumber(), page.getSize(), page.getTotalPages(), page.getTotalElements(), page.isLast());
     }
 }
@@ -0,0 +1,55 @@
+package org.chzz.market.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * count 쿼리 없이 조회한 페이지
+ * <p>
+ * 다음 페이지 존재 여부만 정확하며, 전체 개수는 직렬화하지 않는다. ({@link PageResponse} 참고)
+ */
+public class SlicePage<T> extends PageImpl<T> {
+    private final boolean hasNext;
+
+    public SlicePage(List<T> content, Pageable pageable, boolean hasNext) {
+        super(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * {@code pageSize + 1} 건으로 조회한 결과에서 초과분을 잘라 다음 페이지 존재 여부를 판단
+     */
+    public static <T> SlicePage<T> fromOverFetched(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SlicePage<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * 근사 전체 개수를 적용한 페이지로 변환
+     * <p>
+     * 마지막 페이지면 실제 개수로, 다음 페이지가 있는데 근사값이 현재 페이지 이하이면 다음 페이지가 보이도록 보정한다.
+     */
+    public Page<T> withApproximateTotal(long approximateTotal) {
+        long fetched = getPageable().getOffset() + getNumberOfElements();
+        long total = hasNext ? Math.max(approximateTotal, fetched + 1) : fetched;
+        return new PageImpl<>(getContent(), getPageable(), total);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new SlicePage<>(getConvertedContent(converter), getPageable(), hasNext);
+    }
+}
@@ -0,0 +1,24 @@
+package org.chzz.market.common.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 전체 개수 없이 다음 페이지 존재 여부만 필요한 요청 (무한 스크롤)
+ * <p>
+ * 저장소는 count 쿼리 대신 {@code pageSize + 1} 건을 조회해 {@link SlicePage} 를 반환한다.
+ */
+public class SlicePageRequest extends PageRequest {
+    protected SlicePageRequest(int pageNumber, int pageSize, Sort sort) {
+        super(pageNumber, pageSize, sort);
+    }
+
+    public static SlicePageRequest of(Pageable pageable) {
+        return new SlicePageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+
+    public static boolean isSlice(Pageable pageable) {
+        return pageable instanceof SlicePageRequest;
+    }
+}
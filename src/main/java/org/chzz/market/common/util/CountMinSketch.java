@@ -0,0 +1,70 @@
+package org.chzz.market.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 메모리 빈도 추정기 (count-min sketch)
+ * <p>
+ * depth 개의 행마다 해시로 고른 칸을 증가시키고, 조회 시 행별 값의 최솟값을 반환한다. 추정값은 실제 빈도보다 작지 않으며
+ * 오차는 전체 증가량 / width 에 비례한다. 동기화하지 않으므로 호출하는 쪽에서 보호해야 한다.
+ */
+public final class CountMinSketch {
+    private final int depth;
+    private final int width;
+    private final long[][] table;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth 와 width 는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth][width];
+    }
+
+    /**
+     * @return 증가 후 추정 빈도
+     */
+    public long add(String item, long count) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = index(h1, h2, row);
+            table[row][column] += count;
+            estimate = Math.min(estimate, table[row][column]);
+        }
+        return estimate;
+    }
+
+    public long estimate(String item) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table[row][index(h1, h2, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * 두 해시를 조합해 행마다 다른 칸을 고른다 (Kirsch-Mitzenmacher)
+     */
+    private int index(int h1, int h2, int row) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * 64-bit FNV-1a
+     */
+    private static long hash(String item) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : item.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
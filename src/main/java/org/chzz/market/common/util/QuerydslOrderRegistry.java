@@ -2,28 +2,36 @@ package org.chzz.market.common.util;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import org.chzz.market.common.error.GlobalErrorCode;
-import org.chzz.market.common.error.GlobalException;
 
+/**
+ * 도메인별 {@link QuerydslOrder} 를 정렬 이름으로 등록하고, 시작 시점에 정렬 테이블을 한 번만 구성한다
+ */
 public class QuerydslOrderRegistry {
 
     private final Map<String, QuerydslOrder> querydslOrderMap;
+    private final QuerydslOrderTable querydslOrderTable;
 
+    /**
+     * @throws IllegalStateException 서로 다른 정렬 타입이 같은 이름을 사용하는 경우
+     */
     public QuerydslOrderRegistry(List<QuerydslOrder> querydslOrders) {
         this.querydslOrderMap = querydslOrders.stream()
-                .collect(Collectors.toConcurrentMap(QuerydslOrder::getName, order -> order));
+                .collect(Collectors.toUnmodifiableMap(QuerydslOrder::getName, order -> order));
+        this.querydslOrderTable = QuerydslOrderTable.from(querydslOrderMap.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getOrderSpecifier())));
     }
 
-    public QuerydslOrder getOrderByName(String name) throws GlobalException{
-        try{
-            return querydslOrderMap.get(name);
-        }catch (NullPointerException e){
-            throw new GlobalException(GlobalErrorCode.UNSUPPORTED_SORT_TYPE);
-        }
+    public Optional<QuerydslOrder> findOrderByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(querydslOrderMap.get(name));
+    }
+
+    public QuerydslOrderTable getQuerydslOrderTable() {
+        return querydslOrderTable;
     }
 
     public boolean isValidOrderProperty(String property) {
-        return querydslOrderMap.containsKey(property);
+        return property != null && querydslOrderMap.containsKey(property);
     }
-}
\ No newline at end of file
+}
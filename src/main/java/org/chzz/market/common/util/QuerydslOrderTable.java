@@ -0,0 +1,67 @@
+package org.chzz.market.common.util;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * (정렬 이름, 방향) → {@link OrderSpecifier} 배열을 미리 계산해 둔 불변 테이블
+ * <p>
+ * 요청 시점에는 조회만 수행하며 {@link OrderSpecifier} 를 새로 만들지 않는다. 등록되지 않은 정렬은 무시하고, 적용할 정렬이 없으면
+ * {@link OrderByNull#DEFAULT} 를 사용한다.
+ */
+public final class QuerydslOrderTable {
+    private static final OrderSpecifier<?>[] DEFAULT_ORDER = {OrderByNull.DEFAULT};
+
+    private final Map<SortKey, OrderSpecifier<?>[]> table;
+
+    private QuerydslOrderTable(Map<SortKey, OrderSpecifier<?>[]> table) {
+        this.table = Map.copyOf(table);
+    }
+
+    /**
+     * @param baseOrders 정렬 이름별 기본 {@link OrderSpecifier} (오름차순 요청 시 그대로, 내림차순 요청 시 반대 방향으로 적용)
+     */
+    public static QuerydslOrderTable from(Map<String, OrderSpecifier<?>> baseOrders) {
+        Map<SortKey, OrderSpecifier<?>[]> table = new HashMap<>();
+        baseOrders.forEach((name, base) -> {
+            table.put(new SortKey(name, Direction.ASC), new OrderSpecifier<?>[]{base});
+            table.put(new SortKey(name, Direction.DESC), new OrderSpecifier<?>[]{reverse(base)});
+        });
+        return new QuerydslOrderTable(table);
+    }
+
+    public OrderSpecifier<?>[] resolve(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_ORDER.clone();
+        }
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>(2);
+        for (Sort.Order order : sort) {
+            OrderSpecifier<?>[] resolved = table.get(new SortKey(order.getProperty(), order.getDirection()));
+            if (resolved != null) {
+                orderSpecifiers.addAll(List.of(resolved));
+            }
+        }
+        if (orderSpecifiers.isEmpty()) {
+            return DEFAULT_ORDER.clone();
+        }
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    public boolean contains(String name) {
+        return table.containsKey(new SortKey(name, Direction.ASC));
+    }
+
+    private static OrderSpecifier<?> reverse(OrderSpecifier<?> base) {
+        Order oppositeOrder = (base.getOrder() == Order.ASC) ? Order.DESC : Order.ASC;
+        return new OrderSpecifier<>(oppositeOrder, base.getTarget());
+    }
+
+    private record SortKey(String name, Direction direction) {
+    }
+}
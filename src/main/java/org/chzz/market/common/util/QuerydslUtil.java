@@ -3,7 +3,15 @@ package org.chzz.market.common.util;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.util.List;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import org.chzz.market.common.dto.SlicePage;
+import org.chzz.market.common.dto.SlicePageRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
 public class QuerydslUtil {
     /**
@@ -28,4 +36,27 @@ public class QuerydslUtil {
             return new BooleanBuilder();
         }
     }
+
+    /**
+     * 페이지 조회
+     * <p>
+     * {@link SlicePageRequest} 인 경우 count 쿼리 없이 {@code pageSize + 1} 건을 조회해 다음 페이지 존재 여부만 판단한다.
+     *
+     * @param contentQuery 정렬까지 적용된 목록 쿼리 (offset, limit 는 여기서 적용)
+     * @param totalSupplier 전체 개수 조회 (필요한 경우에만 호출)
+     */
+    public static <T> Page<T> fetchPage(JPAQuery<T> contentQuery, Pageable pageable, LongSupplier totalSupplier) {
+        if (SlicePageRequest.isSlice(pageable)) {
+            List<T> content = contentQuery
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize() + 1L)
+                    .fetch();
+            return SlicePage.fromOverFetched(content, pageable);
+        }
+        List<T> content = contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
 }
@@ -0,0 +1,26 @@
+package org.chzz.market.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 캐시 키, 집계용 검색어 정규화
+ * <p>
+ * nori 분석기가 같은 토큰으로 처리하는 입력이 같은 키가 되도록 NFKC 정규화(전각 문자, 호환 자모 등)와 소문자 변환 후 연속 공백을
+ * 하나로 합친다.
+ */
+public final class SearchKeywordNormalizer {
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private SearchKeywordNormalizer() {
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACES.matcher(normalized.strip()).replaceAll(" ");
+    }
+}
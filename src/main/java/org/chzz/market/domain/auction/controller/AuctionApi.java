@@ -1,6 +1,9 @@
 package org.chzz.market.domain.auction.controller;
 
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.Const.AUCTION_REINDEX_IN_PROGRESS;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.Const.AUCTION_REINDEX_NOT_SUPPORTED;
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.Const.END_WITHIN_MINUTES_PARAM_ALLOWED_FOR_PROCEEDING_ONLY;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.Const.INVALID_SEARCH_CURSOR;
 import static org.chzz.market.domain.user.error.UserErrorCode.Const.USER_NOT_FOUND;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import org.chzz.market.common.config.LoginUser;
@@ -23,10 +27,14 @@ import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.OfficialAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.ProceedingAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.ReindexResponse;
+import org.chzz.market.domain.auction.dto.response.TrendingKeywordResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
 import org.chzz.market.domain.auction.error.AuctionErrorCode;
+import org.chzz.market.domain.auction.service.AuctionSuggestService;
+import org.chzz.market.domain.auction.service.AuctionTrendingKeywordService;
 import org.chzz.market.domain.user.error.UserErrorCode;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -38,6 +46,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "auctions", description = "경매 API")
 @RequestMapping("/v1/auctions")
@@ -60,7 +69,8 @@ public interface AuctionApi {
                             mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = PreAuctionResponse.class))
                     )}
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 헤더의 ETag 와 일치하여 변경 없음")
     })
     @ApiResponseExplanations(
             errors = {
@@ -71,14 +81,43 @@ public interface AuctionApi {
     ResponseEntity<Page<?>> getAuctionList(@LoginUser Long userId, @RequestParam(required = false) Category category,
                                            @RequestParam(required = false, defaultValue = "proceeding") AuctionStatus status,
                                            @RequestParam(required = false) @Min(value = 1, message = "minutes는 1 이상의 값이어야 합니다.") Integer minutes,
-                                           @ParameterObject @PageableDefault(sort = "newest") Pageable pageable);
+                                           @ParameterObject @PageableDefault(sort = "newest") Pageable pageable,
+                                           WebRequest webRequest);
 
-    @Operation(summary = "경매 검색", description = "경매를 검색합니다. [sort] newest(최신순), expensive(높은 가격순), cheap(낮은 가격순)")
+    @Operation(summary = "경매 검색", description = "경매를 검색합니다. [sort] newest(최신순), expensive(높은 가격순), cheap(낮은 가격순)"
+            + " [cursor] 전달 시 커서 방식으로 조회합니다. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 를 전달합니다. (page 무시)"
+            + " [facets] true 이면 카테고리별, 가격 구간별, 상태별 개수를 facets 에 함께 반환합니다. (커서 방식에서는 무시)")
+    @ApiResponseExplanations(
+            errors = {
+                    @ApiExceptionExplanation(value = AuctionErrorCode.class, constant = INVALID_SEARCH_CURSOR, name = "잘못되거나 만료된 커서"),
+            }
+    )
     ResponseEntity<?> searchAuctionList(@LoginUser Long userId,
                                         @RequestParam String keyword,
                                         @RequestParam AuctionStatus status,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false, defaultValue = "false") boolean facets,
                                         @ParameterObject @PageableDefault(sort = "newest") Pageable pageable);
 
+    @Operation(summary = "경매 이름 자동완성", description = "입력 중인 검색어로 시작하는 경매 이름을 최대 size 개 조회합니다.")
+    @GetMapping("/search/suggest")
+    ResponseEntity<List<String>> suggestAuctionNames(@RequestParam String keyword,
+                                                     @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(AuctionSuggestService.MAX_SIZE) int size);
+
+    @Operation(summary = "인기 검색어 조회", description = "최근 1시간 동안 많이 검색된 검색어를 최대 size 개 조회합니다.")
+    @GetMapping("/search/trending")
+    ResponseEntity<List<TrendingKeywordResponse>> getTrendingKeywords(@RequestParam(required = false, defaultValue = "10") @Min(1) @Max(AuctionTrendingKeywordService.MAX_SIZE) int size);
+
+    @Operation(summary = "검색 색인 재구성", description = "검색 색인을 새 인덱스로 재구성한 뒤 별칭을 교체합니다. (관리자 전용)")
+    @ApiResponseExplanations(
+            errors = {
+                    @ApiExceptionExplanation(value = AuctionErrorCode.class, constant = AUCTION_REINDEX_IN_PROGRESS, name = "이미 재구성 중"),
+                    @ApiExceptionExplanation(value = AuctionErrorCode.class, constant = AUCTION_REINDEX_NOT_SUPPORTED, name = "내장 검색 엔진 사용 중"),
+            }
+    )
+    @PostMapping("/search/reindex")
+    ResponseEntity<ReindexResponse> reindex();
+
     @Operation(summary = "경매 카테고리 조회", description = "경매 카테고리 목록을 조회합니다.")
     @GetMapping("/categories")
     ResponseEntity<List<CategoryResponse>> getCategoryList();
@@ -1,9 +1,13 @@
 package org.chzz.market.domain.auction.controller;
 
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_REINDEX_NOT_SUPPORTED;
+
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.chzz.market.common.config.LoginUser;
 import org.chzz.market.domain.auction.dto.AuctionRegisterType;
@@ -13,14 +17,22 @@ import org.chzz.market.domain.auction.dto.response.EndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.ProceedingAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.ReindexResponse;
+import org.chzz.market.domain.auction.dto.response.TrendingKeywordResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.error.AuctionException;
 import org.chzz.market.domain.auction.service.AuctionCategoryService;
 import org.chzz.market.domain.auction.service.AuctionLookupService;
 import org.chzz.market.domain.auction.service.AuctionMyService;
+import org.chzz.market.domain.auction.service.AuctionReindexService;
 import org.chzz.market.domain.auction.service.AuctionSearchService;
+import org.chzz.market.domain.auction.service.AuctionSuggestService;
+import org.chzz.market.domain.auction.service.AuctionTrendingKeywordService;
 import org.chzz.market.domain.auction.service.AuctionTestService;
+import org.chzz.market.domain.auction.service.AuctionVersionService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -32,6 +44,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,6 +55,10 @@ public class AuctionController implements AuctionApi {
     private final AuctionTestService testService;
     private final AuctionMyService auctionMyService;
     private final AuctionSearchService auctionSearchService;
+    private final AuctionVersionService auctionVersionService;
+    private final ObjectProvider<AuctionReindexService> auctionReindexService;
+    private final AuctionSuggestService auctionSuggestService;
+    private final AuctionTrendingKeywordService auctionTrendingKeywordService;
 
     /**
      * 경매 목록 조회
@@ -53,9 +70,15 @@ public class AuctionController implements AuctionApi {
                                                   @RequestParam(required = false, defaultValue = "proceeding") AuctionStatus status,
                                                   @Parameter(description = "경매 종료까지 남은 시간 (분) (1분 이상이어야 함)")
                                                   @RequestParam(required = false) @Min(value = 1, message = "minutes는 1 이상의 값이어야 합니다.") Integer minutes,
-                                                  @PageableDefault(sort = "newest") Pageable pageable) {
-        return ResponseEntity.ok(
-                auctionLookupService.getAuctionList(userId, category, status, minutes, pageable));
+                                                  @PageableDefault(sort = "newest") Pageable pageable,
+                                                  WebRequest webRequest) {
+        Optional<String> eTag = auctionVersionService.getListETag(status, minutes, pageable.getSort(), userId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        Page<?> auctionList = auctionLookupService.getAuctionList(userId, category, status, minutes, pageable);
+        return eTag.<ResponseEntity<Page<?>>>map(tag -> ResponseEntity.ok().eTag(tag).body(auctionList))
+                .orElseGet(() -> ResponseEntity.ok(auctionList));
     }
 
     @Override
@@ -63,10 +86,50 @@ public class AuctionController implements AuctionApi {
     public ResponseEntity<?> searchAuctionList(@LoginUser Long userId,
                                                @RequestParam String keyword,
                                                @RequestParam AuctionStatus status,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false, defaultValue = "false") boolean facets,
                                                @PageableDefault(sort = "newest") Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(auctionSearchService.searchByCursor(userId, keyword, status, pageable, cursor));
+        }
+        if (facets) {
+            return ResponseEntity.ok(auctionSearchService.searchWithFacets(userId, keyword, status, pageable));
+        }
         return ResponseEntity.ok(auctionSearchService.search(userId, keyword, status, pageable));
     }
 
+    /**
+     * 경매 이름 자동완성
+     */
+    @Override
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<String>> suggestAuctionNames(@RequestParam String keyword,
+                                                            @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(AuctionSuggestService.MAX_SIZE) int size) {
+        return ResponseEntity.ok(auctionSuggestService.suggest(keyword, size));
+    }
+
+    /**
+     * 인기 검색어 조회
+     */
+    @Override
+    @GetMapping("/search/trending")
+    public ResponseEntity<List<TrendingKeywordResponse>> getTrendingKeywords(@RequestParam(required = false, defaultValue = "10") @Min(1) @Max(AuctionTrendingKeywordService.MAX_SIZE) int size) {
+        return ResponseEntity.ok(auctionTrendingKeywordService.getTrendingKeywords(size));
+    }
+
+    /**
+     * 검색 색인 재구성 (관리자)
+     */
+    @Override
+    @PostMapping("/search/reindex")
+    public ResponseEntity<ReindexResponse> reindex() {
+        AuctionReindexService reindexService = auctionReindexService.getIfAvailable();
+        if (reindexService == null) {
+            throw new AuctionException(AUCTION_REINDEX_NOT_SUPPORTED);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ReindexResponse(reindexService.start()));
+    }
+
     /**
      * 경매 카테고리 Enum 조회
      */
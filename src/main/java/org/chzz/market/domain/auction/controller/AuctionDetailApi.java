@@ -40,6 +40,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "auctions", description = "경매 API")
 public interface AuctionDetailApi {
@@ -47,9 +48,11 @@ public interface AuctionDetailApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "정식경매 응답", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = OfficialAuctionDetailResponse.class))),
             @ApiResponse(responseCode = "201", description = "사전경매 응답", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PreAuctionDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 헤더의 ETag 와 일치하여 변경 없음"),
     })
     ResponseEntity<?> getAuctionDetails(@LoginUser Long userId,
-                                        @PathVariable Long auctionId);
+                                        @PathVariable Long auctionId,
+                                        WebRequest webRequest);
 
     @Operation(summary = "특정 경매 입찰 목록 조회", description = "특정 경매 입찰 목록을 조회합니다.")
     @ApiResponseExplanations(
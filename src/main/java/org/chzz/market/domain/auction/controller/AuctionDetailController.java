@@ -3,15 +3,18 @@ package org.chzz.market.domain.auction.controller;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
 import jakarta.validation.Valid;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.chzz.market.common.config.LoginUser;
 import org.chzz.market.domain.auction.dto.request.UpdateAuctionRequest;
+import org.chzz.market.domain.auction.dto.response.BaseAuctionDetailResponse;
 import org.chzz.market.domain.auction.dto.response.UpdateAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.service.AuctionDeleteService;
 import org.chzz.market.domain.auction.service.AuctionDetailService;
 import org.chzz.market.domain.auction.service.AuctionModifyService;
 import org.chzz.market.domain.auction.service.AuctionStartService;
+import org.chzz.market.domain.auction.service.AuctionVersionService;
 import org.chzz.market.domain.auction.service.AuctionWonService;
 import org.chzz.market.domain.bid.dto.response.BidInfoResponse;
 import org.chzz.market.domain.bid.service.BidLookupService;
@@ -19,6 +22,7 @@ import org.chzz.market.domain.like.service.LikeUpdateService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -40,12 +45,20 @@ public class AuctionDetailController implements AuctionDetailApi {
     private final AuctionWonService auctionWonService;
     private final BidLookupService bidLookupService;
     private final LikeUpdateService likeUpdateService;
+    private final AuctionVersionService auctionVersionService;
 
     @Override
     @GetMapping
     public ResponseEntity<?> getAuctionDetails(@LoginUser Long userId,
-                                               @PathVariable Long auctionId) {
-        return ResponseEntity.ok(auctionDetailService.getAuctionDetails(userId, auctionId));
+                                               @PathVariable Long auctionId,
+                                               WebRequest webRequest) {
+        Optional<String> eTag = auctionVersionService.getDetailETag(auctionId, userId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        BaseAuctionDetailResponse auctionDetails = auctionDetailService.getAuctionDetails(userId, auctionId);
+        return eTag.<ResponseEntity<?>>map(tag -> ResponseEntity.ok().eTag(tag).body(auctionDetails))
+                .orElseGet(() -> ResponseEntity.ok(auctionDetails));
     }
 
     @Override
@@ -0,0 +1,10 @@
+package org.chzz.market.domain.auction.dto;
+
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+
+/**
+ * (상태, 카테고리)별 경매 개수
+ */
+public record AuctionCount(AuctionStatus status, Category category, Long count) {
+}
@@ -0,0 +1,9 @@
+package org.chzz.market.domain.auction.dto;
+
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+
+/**
+ * 검색 문서에 부분 갱신되는 경매 카운터 (상태는 문서가 있는 인덱스 판단용)
+ */
+public record AuctionCounter(Long auctionId, AuctionStatus status, Long likeCount, Long bidCount) {
+}
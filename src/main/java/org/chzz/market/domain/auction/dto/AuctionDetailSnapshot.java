@@ -0,0 +1,53 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.image.dto.response.ImageResponse;
+
+/**
+ * 사용자와 무관한 경매 상세 정보 (캐시 공유 대상)
+ */
+public record AuctionDetailSnapshot(
+        Long auctionId,
+        Long sellerId,
+        String sellerNickname,
+        String sellerProfileImageUrl,
+        String auctionName,
+        String description,
+        Integer minPrice,
+        AuctionStatus status,
+        Category category,
+        LocalDateTime updatedAt,
+        LocalDateTime endDateTime,
+        Long likeCount,
+        Long bidCount,
+        Long winnerId,
+        Boolean isOrdered,
+        List<ImageResponse> images
+) {
+    public AuctionDetailSnapshot {
+        // 이미지가 없는 경우 left join 으로 생긴 빈 항목 제거
+        images = ImageResponse.filterEmpty(images);
+    }
+
+    public boolean isSeller(Long userId) {
+        return userId != null && userId.equals(sellerId);
+    }
+
+    public boolean isWinner(Long userId) {
+        return userId != null && userId.equals(winnerId);
+    }
+
+    /**
+     * 조회 시점 기준 종료까지 남은 시간(초), 음수면 0
+     */
+    public Long timeRemaining() {
+        if (endDateTime == null) {
+            return 0L;
+        }
+        return Math.max(0L, Duration.between(LocalDateTime.now(), endDateTime).getSeconds());
+    }
+}
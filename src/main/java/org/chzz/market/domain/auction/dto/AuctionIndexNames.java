@@ -0,0 +1,17 @@
+package org.chzz.market.domain.auction.dto;
+
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+
+/**
+ * 경매 상태별 검색 인덱스 이름
+ * <p>
+ * 사전/진행 경매는 라이브 인덱스, 종료된 경매는 보관 인덱스에 색인한다.
+ *
+ * @param live    사전/진행 경매 인덱스
+ * @param archive 종료 경매 인덱스
+ */
+public record AuctionIndexNames(String live, String archive) {
+    public String resolve(AuctionStatus status) {
+        return status == AuctionStatus.ENDED ? archive : live;
+    }
+}
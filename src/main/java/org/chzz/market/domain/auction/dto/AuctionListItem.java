@@ -0,0 +1,21 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자와 무관한 경매 목록 항목 (캐시 공유 대상)
+ */
+public record AuctionListItem(
+        Long auctionId,
+        String auctionName,
+        String imageUrl,
+        Long minPrice,
+        Long sellerId,
+        LocalDateTime endDateTime,
+        Long likeCount,
+        Long bidCount
+) {
+    public boolean isSeller(Long userId) {
+        return userId != null && userId.equals(sellerId);
+    }
+}
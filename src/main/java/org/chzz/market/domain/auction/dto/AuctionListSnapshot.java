@@ -0,0 +1,26 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.util.List;
+import org.chzz.market.common.dto.SlicePage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 캐시에 저장되는 경매 목록 페이지
+ *
+ * @param totalElements 전체 개수 (count 를 생략한 슬라이스 페이지는 null)
+ */
+public record AuctionListSnapshot(List<AuctionListItem> items, Long totalElements, boolean hasNext) {
+    public static AuctionListSnapshot from(Page<AuctionListItem> page) {
+        Long totalElements = page instanceof SlicePage<?> ? null : page.getTotalElements();
+        return new AuctionListSnapshot(page.getContent(), totalElements, page.hasNext());
+    }
+
+    public Page<AuctionListItem> toPage(Pageable pageable) {
+        if (totalElements == null) {
+            return new SlicePage<>(items, pageable, hasNext);
+        }
+        return new PageImpl<>(items, pageable, totalElements);
+    }
+}
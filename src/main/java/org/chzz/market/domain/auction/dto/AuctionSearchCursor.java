@@ -0,0 +1,40 @@
+package org.chzz.market.domain.auction.dto;
+
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import org.chzz.market.domain.auction.error.AuctionException;
+
+/**
+ * 경매 검색 커서 (point-in-time ID 와 마지막 문서의 정렬 값)
+ * <p>
+ * 클라이언트에는 JSON 을 URL-safe Base64 로 인코딩한 문자열로 전달된다.
+ */
+public record AuctionSearchCursor(String pointInTimeId, List<Object> searchAfter) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(ObjectMapper objectMapper) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 커서 직렬화 실패", e);
+        }
+    }
+
+    public static AuctionSearchCursor decode(String cursor, ObjectMapper objectMapper) {
+        try {
+            AuctionSearchCursor decoded = objectMapper.readValue(DECODER.decode(cursor), AuctionSearchCursor.class);
+            if (decoded.pointInTimeId() == null || decoded.searchAfter() == null || decoded.searchAfter().isEmpty()) {
+                throw new AuctionException(INVALID_SEARCH_CURSOR);
+            }
+            return decoded;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new AuctionException(INVALID_SEARCH_CURSOR);
+        }
+    }
+}
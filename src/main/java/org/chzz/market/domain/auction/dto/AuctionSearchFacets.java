@@ -0,0 +1,22 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.util.List;
+import java.util.Map;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+
+/**
+ * 경매 검색 집계 결과
+ *
+ * @param categories 카테고리 이름별 개수 (개수 내림차순)
+ * @param prices     최소 가격 구간별 개수 (문서가 있는 구간만)
+ * @param statuses   상태별 개수 (상태 필터 미적용)
+ */
+public record AuctionSearchFacets(Map<String, Long> categories, List<PriceBucket> prices,
+                                  Map<AuctionStatus, Long> statuses) {
+    /**
+     * @param from 구간 시작 (포함)
+     * @param to   구간 끝 (미포함)
+     */
+    public record PriceBucket(long from, long to, long count) {
+    }
+}
@@ -0,0 +1,26 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.util.List;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+
+/**
+ * 검색 엔진 구현과 무관한 경매 검색 결과
+ *
+ * @param hits          검색된 문서와 정렬 값 (요청 순서)
+ * @param totalHits     전체 개수 (커서 검색은 계산하지 않으므로 0)
+ * @param pointInTimeId 커서 검색에서 갱신된 point-in-time ID (없으면 null)
+ * @param facets        집계를 요청한 경우 집계 결과 (없으면 null)
+ */
+public record AuctionSearchResult(List<Hit> hits, long totalHits, String pointInTimeId, AuctionSearchFacets facets) {
+    public List<AuctionDocument> documents() {
+        return hits.stream()
+                .map(Hit::document)
+                .toList();
+    }
+
+    /**
+     * @param sortValues 다음 커서 검색의 search_after 로 사용할 정렬 값
+     */
+    public record Hit(AuctionDocument document, List<Object> sortValues) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.chzz.market.domain.auction.dto;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장되는 검색 결과 (경매 ID 목록)
+ * <p>
+ * 문서 내용은 저장하지 않고 조회 시 ID 로 다시 가져오므로 카운터 등 문서 갱신은 캐시 무효화 없이 반영된다.
+ */
+public record AuctionSearchSnapshot(List<Long> auctionIds, long totalHits) {
+}
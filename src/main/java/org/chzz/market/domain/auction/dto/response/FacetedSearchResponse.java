@@ -0,0 +1,15 @@
+package org.chzz.market.domain.auction.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.chzz.market.common.dto.PageResponse;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets;
+import org.springframework.data.domain.Page;
+
+/**
+ * 집계 결과를 포함한 경매 검색 응답 (페이지 필드와 같은 수준에 facets 추가)
+ */
+public record FacetedSearchResponse(@JsonUnwrapped PageResponse<?> page, AuctionSearchFacets facets) {
+    public static FacetedSearchResponse of(Page<?> page, AuctionSearchFacets facets) {
+        return new FacetedSearchResponse(PageResponse.from(page), facets);
+    }
+}
@@ -2,10 +2,12 @@ package org.chzz.market.domain.auction.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.image.dto.response.ImageResponse;
 
 @Getter
 @NoArgsConstructor
@@ -45,6 +47,18 @@ public class OfficialAuctionDetailResponse extends BaseAuctionDetailResponse {
         this.isOrdered = isOrdered;
     }
 
+    public OfficialAuctionDetailResponse(Long auctionId, String sellerNickname, String sellerProfileImageUrl,
+                                         String auctionName, String description, Integer minPrice, Boolean isSeller,
+                                         AuctionStatus status, Category category, Long timeRemaining,
+                                         Long participantCount, Boolean isParticipated, Long bidId, Long bidAmount,
+                                         int remainingBidCount, Boolean isCancelled, Boolean isWinner, Boolean isWon,
+                                         Boolean isOrdered, List<ImageResponse> images) {
+        this(auctionId, sellerNickname, sellerProfileImageUrl, auctionName, description, minPrice, isSeller, status,
+                category, timeRemaining, participantCount, isParticipated, bidId, bidAmount, remainingBidCount,
+                isCancelled, isWinner, isWon, isOrdered);
+        addImageList(ImageResponse.filterEmpty(images));
+    }
+
     public OfficialAuctionDetailResponse clearOrderIfNotEligible() {
         if (!isSeller && !isWinner) {
             this.isOrdered = null;
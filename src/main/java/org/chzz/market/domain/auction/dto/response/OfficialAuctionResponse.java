@@ -5,6 +5,7 @@ import java.time.temporal.ChronoUnit;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.chzz.market.domain.auction.dto.AuctionBidDetail;
+import org.chzz.market.domain.auction.dto.AuctionListItem;
 import org.chzz.market.domain.auction.entity.AuctionDocument;
 
 @Getter
@@ -31,4 +32,13 @@ public class OfficialAuctionResponse extends BaseAuctionResponse {
         this.participantCount = dto.bidCount();
         this.isParticipated = dto.isParticipated();
     }
+
+    public OfficialAuctionResponse(AuctionListItem item, AuctionBidDetail dto, Long userId) {
+        super(item.auctionId(), item.auctionName(), item.imageUrl(), item.minPrice(), item.isSeller(userId));
+        long remainingTime = item.endDateTime() != null
+                ? ChronoUnit.SECONDS.between(LocalDateTime.now(), item.endDateTime()) : 0;
+        this.timeRemaining = remainingTime > 0 ? remainingTime : 0;
+        this.participantCount = dto.bidCount();
+        this.isParticipated = dto.isParticipated();
+    }
 }
@@ -1,10 +1,12 @@
 package org.chzz.market.domain.auction.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.image.dto.response.ImageResponse;
 
 @Getter
 @NoArgsConstructor
@@ -23,4 +25,14 @@ public class PreAuctionDetailResponse extends BaseAuctionDetailResponse {
         this.likeCount = likeCount;
         this.isLiked = isLiked;
     }
+
+    public PreAuctionDetailResponse(Long auctionId, String sellerNickname, String sellerProfileImageUrl,
+                                    String auctionName,
+                                    String description, Integer minPrice, Boolean isSeller, AuctionStatus status,
+                                    Category category, LocalDateTime updatedAt, Long likeCount, Boolean isLiked,
+                                    List<ImageResponse> images) {
+        this(auctionId, sellerNickname, sellerProfileImageUrl, auctionName, description, minPrice, isSeller, status,
+                category, updatedAt, likeCount, isLiked);
+        addImageList(ImageResponse.filterEmpty(images));
+    }
 }
@@ -3,6 +3,7 @@ package org.chzz.market.domain.auction.dto.response;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.chzz.market.domain.auction.dto.AuctionLikeDetail;
+import org.chzz.market.domain.auction.dto.AuctionListItem;
 import org.chzz.market.domain.auction.entity.AuctionDocument;
 
 @Getter
@@ -25,4 +26,10 @@ public class PreAuctionResponse extends BaseAuctionResponse {
         this.likeCount = dto.likeCount();
         this.isLiked = dto.isLiked();
     }
+
+    public PreAuctionResponse(AuctionListItem item, AuctionLikeDetail dto, Long userId) {
+        super(item.auctionId(), item.auctionName(), item.imageUrl(), item.minPrice(), item.isSeller(userId));
+        this.likeCount = dto.likeCount();
+        this.isLiked = dto.isLiked();
+    }
 }
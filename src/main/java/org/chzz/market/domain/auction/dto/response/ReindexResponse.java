@@ -0,0 +1,7 @@
+package org.chzz.market.domain.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ReindexResponse(
+        @Schema(description = "새로 생성되는 인덱스 이름", example = "auction_v20241018120000") String indexName) {
+}
@@ -0,0 +1,7 @@
+package org.chzz.market.domain.auction.dto.response;
+
+/**
+ * @param score 최근 구간들의 검색 횟수 추정치 합
+ */
+public record TrendingKeywordResponse(String keyword, long score) {
+}
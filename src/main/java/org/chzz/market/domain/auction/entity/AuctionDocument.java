@@ -31,6 +31,8 @@ public class AuctionDocument {
     private String category;
     private AuctionStatus auctionStatus;
     private String imageUrl;
+    private Long likeCount;
+    private Long bidCount;
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
     private LocalDateTime endDateTime;
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
@@ -46,6 +48,8 @@ public class AuctionDocument {
                 .category(auction.getCategory().getDisplayName())
                 .auctionStatus(auction.getStatus())
                 .imageUrl(auction.getFirstImageCdnPath())
+                .likeCount(auction.getLikeCount())
+                .bidCount(auction.getBidCount())
                 .endDateTime(auction.getEndDateTime())
                 .createAt(auction.getCreatedAt())
                 .build();
@@ -55,11 +59,15 @@ public class AuctionDocument {
     @AllArgsConstructor
     public class Constant {
         public static final String NAME = "name";
+        public static final String NAME_AUTOCOMPLETE = "name.autocomplete";
         public static final String DESCRIPTION = "description";
         public static final String MIN_PRICE = "minPrice";
         public static final String CATEGORY = "category";
+        public static final String CATEGORY_KEYWORD = "category.keyword";
         public static final String IMAGE_URL = "imageUrl";
         public static final String AUCTION_STATUS = "auctionStatus";
+        public static final String LIKE_COUNT = "likeCount";
+        public static final String BID_COUNT = "bidCount";
         public static final String END_DATE_TIME = "endDateTime";
         public static final String CREATE_AT = "createAt";
     }
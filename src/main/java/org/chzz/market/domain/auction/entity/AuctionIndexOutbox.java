@@ -0,0 +1,78 @@
+package org.chzz.market.domain.auction.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elasticsearch 동기화 대기 목록 (트랜잭셔널 아웃박스)
+ * <p>
+ * 경매 변경과 같은 트랜잭션에서 경매 ID만 기록하고, 릴레이가 전송 시점의 경매 상태로 문서를 색인(경매가 없으면 삭제)한다. 문서 전체를
+ * 다시 쓰므로 같은 경매의 행이 여러 개이거나 순서가 바뀌어도 결과는 같다.
+ * <p>
+ * 등록, 상태 전환, 삭제처럼 검색 결과의 구성이 바뀌는 변경만 검색 결과 캐시를 무효화하고, 내용 수정은 캐시 TTL 로 반영한다.
+ */
+@Getter
+@Entity
+@Builder
+@Table(name = "auction_index_outbox",
+        indexes = @Index(name = "idx_auction_index_outbox_next_attempt", columnList = "next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AuctionIndexOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "auction_index_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long auctionId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attemptCount = 0;
+
+    /**
+     * 검색 결과의 구성이 바뀌는 변경(등록, 상태 전환, 삭제)인지 여부
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean membershipChanged = true;
+
+    public static AuctionIndexOutbox of(Long auctionId, boolean membershipChanged) {
+        LocalDateTime now = LocalDateTime.now();
+        return AuctionIndexOutbox.builder()
+                .auctionId(auctionId)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .membershipChanged(membershipChanged)
+                .build();
+    }
+
+    /**
+     * 전송 실패 시 지수 백오프로 계산한 다음 시도 시각
+     *
+     * @param attemptCount 실패를 포함한 시도 횟수
+     */
+    public static LocalDateTime nextAttemptAt(int attemptCount, Duration baseBackoff, Duration maxBackoff) {
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attemptCount - 1, 20));
+        return LocalDateTime.now().plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+}
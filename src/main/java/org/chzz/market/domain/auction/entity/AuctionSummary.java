@@ -0,0 +1,130 @@
+package org.chzz.market.domain.auction.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chzz.market.domain.image.entity.Image;
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * 마이페이지 경매 목록 조회용 비정규화 테이블 (읽기 모델)
+ * <p>
+ * 사용자와 경매의 관계(등록, 입찰, 좋아요)마다 한 행을 가지며, 경매 등록/수정/시작/종료/삭제, 입찰, 좋아요, 주문 이벤트로
+ * 갱신된다. 목록 조회는 (user_id, relation, status) 인덱스로 처리되며, 자주 바뀌는 좋아요/입찰자 수는 저장하지 않고 조회 시
+ * auction 에서 읽는다.
+ */
+@Getter
+@Entity
+@Builder
+@Table(name = "auction_summary",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "auction_id", "relation"})},
+        indexes = {
+                @Index(name = "idx_auction_summary_user", columnList = "user_id, relation, status"),
+                @Index(name = "idx_auction_summary_auction", columnList = "auction_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@DynamicUpdate
+public class AuctionSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "auction_summary_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(nullable = false, columnDefinition = "varchar(20)")
+    @Enumerated(EnumType.STRING)
+    private Relation relation;
+
+    @Column(nullable = false)
+    private Long sellerId;
+
+    @Column(nullable = false)
+    private String auctionName;
+
+    @Column
+    private String imageUrl;
+
+    @Column
+    private Long minPrice;
+
+    @Column(nullable = false, columnDefinition = "varchar(20)")
+    @Enumerated(EnumType.STRING)
+    private AuctionStatus status;
+
+    @Column
+    private LocalDateTime endDateTime;
+
+    @Column
+    private Long winnerId;
+
+    @Column
+    private Long winningBidAmount;
+
+    /**
+     * 행 소유자의 입찰 금액 (입찰 관계에서만 사용)
+     */
+    @Column
+    private Long bidAmount;
+
+    @Column
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime auctionCreatedAt;
+
+    public static AuctionSummary of(Auction auction, Long userId, Relation relation) {
+        return AuctionSummary.builder()
+                .userId(userId)
+                .auctionId(auction.getId())
+                .relation(relation)
+                .sellerId(auction.getSeller().getId())
+                .auctionName(auction.getName())
+                .imageUrl(findFirstImageUrl(auction))
+                .minPrice(auction.getMinPrice() != null ? auction.getMinPrice().longValue() : null)
+                .status(auction.getStatus())
+                .endDateTime(auction.getEndDateTime())
+                .winnerId(auction.getWinnerId())
+                .auctionCreatedAt(auction.getCreatedAt() != null ? auction.getCreatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 첫 번째 이미지 경로 (이미지 수정 중 일시적으로 없을 수 있으므로 예외 대신 null)
+     */
+    public static String findFirstImageUrl(Auction auction) {
+        return auction.getImages().stream()
+                .filter(image -> image.getSequence() == 1)
+                .map(Image::getCdnPath)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public void updateBidAmount(Long bidAmount) {
+        this.bidAmount = bidAmount;
+    }
+
+    public enum Relation {
+        SELLER,
+        BIDDER,
+        LIKER
+    }
+}
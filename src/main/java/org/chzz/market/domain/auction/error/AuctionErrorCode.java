@@ -22,11 +22,15 @@ public enum AuctionErrorCode implements ErrorCode {
     MAX_IMAGE_COUNT_EXCEEDED(BAD_REQUEST, "이미지는 최대 5개까지 등록할 수 있습니다."),
     NOT_A_PRE_AUCTION(BAD_REQUEST, "사전 등록 경매가 아닙니다"),
     NO_IMAGES_PROVIDED(BAD_REQUEST, "이미지가 제공되지 않았습니다."),
+    INVALID_SEARCH_CURSOR(BAD_REQUEST, "검색 커서가 올바르지 않거나 만료되었습니다."),
     OFFICIAL_AUCTION_DELETE_FORBIDDEN(FORBIDDEN, "정식경매는 삭제할수 없습니다."),
     NOT_WINNER(FORBIDDEN, "낙찰자가 아닙니다."),
     AUCTION_ACCESS_FORBIDDEN(FORBIDDEN, "해당 경매에 접근할 수 없습니다."),
     AUCTION_NOT_FOUND(NOT_FOUND, "경매를 찾을 수 없습니다."),
-    AUCTION_ELASTIC_ERROR(INTERNAL_SERVER_ERROR, "Elasticsearch 오류가 발생했습니다.");
+    AUCTION_REINDEX_IN_PROGRESS(CONFLICT, "이미 검색 색인을 재구성하고 있습니다."),
+    AUCTION_REINDEX_NOT_SUPPORTED(CONFLICT, "현재 검색 엔진은 색인 재구성을 지원하지 않습니다."),
+    AUCTION_ELASTIC_ERROR(INTERNAL_SERVER_ERROR, "Elasticsearch 오류가 발생했습니다."),
+    AUCTION_SEARCH_UNAVAILABLE(SERVICE_UNAVAILABLE, "검색을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -41,9 +45,13 @@ public enum AuctionErrorCode implements ErrorCode {
         public static final String MAX_IMAGE_COUNT_EXCEEDED = "MAX_IMAGE_COUNT_EXCEEDED";
         public static final String NOT_A_PRE_AUCTION = "NOT_A_PRE_AUCTION";
         public static final String NO_IMAGES_PROVIDED = "NO_IMAGES_PROVIDED";
+        public static final String INVALID_SEARCH_CURSOR = "INVALID_SEARCH_CURSOR";
         public static final String NOT_WINNER = "NOT_WINNER";
         public static final String AUCTION_ACCESS_FORBIDDEN = "AUCTION_ACCESS_FORBIDDEN";
         public static final String AUCTION_NOT_FOUND = "AUCTION_NOT_FOUND";
+        public static final String AUCTION_REINDEX_IN_PROGRESS = "AUCTION_REINDEX_IN_PROGRESS";
+        public static final String AUCTION_REINDEX_NOT_SUPPORTED = "AUCTION_REINDEX_NOT_SUPPORTED";
         public static final String AUCTION_ELASTIC_ERROR = "AUCTION_ELASTIC_ERROR";
+        public static final String AUCTION_SEARCH_UNAVAILABLE = "AUCTION_SEARCH_UNAVAILABLE";
     }
 }
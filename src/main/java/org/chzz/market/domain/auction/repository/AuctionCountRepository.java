@@ -0,0 +1,92 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * (상태, 카테고리)별 경매 개수 카운터
+ * <p>
+ * 카테고리 전체 개수는 별도 키(ALL)로 관리하여 어떤 조건이든 키 하나만 조회한다. 이벤트 유실 등으로 어긋난 값은 주기적인 재계산으로
+ * 보정되므로 근사값으로만 사용한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionCountRepository {
+    private static final String KEY_PREFIX = "auction:count:";
+    private static final String ALL_CATEGORIES = "ALL";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * @param category null 인 경우 전체 카테고리
+     */
+    public Optional<Long> find(AuctionStatus status, Category category) {
+        String key = generateKey(status, category);
+        try {
+            Object count = redisTemplate.opsForValue().get(key);
+            return Optional.ofNullable(count).map(value -> Math.max(0L, Long.parseLong((String) value)));
+        } catch (Exception e) {
+            log.warn("경매 개수 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 해당 카테고리와 전체 카테고리 개수를 함께 변경
+     * <p>
+     * 재계산 전(키가 없는 상태)에는 변경하지 않아 부분적인 값이 조회되지 않도록 한다.
+     */
+    public void increase(AuctionStatus status, Category category, long delta) {
+        if (category != null) {
+            increaseIfPresent(generateKey(status, category), delta);
+        }
+        increaseIfPresent(generateKey(status, null), delta);
+    }
+
+    /**
+     * 재계산한 개수로 교체
+     *
+     * @param counts (상태, 카테고리)별 개수, 없는 조합은 0으로 저장
+     */
+    public void replaceAll(Map<AuctionStatus, Map<Category, Long>> counts) {
+        Map<String, String> values = new HashMap<>();
+        for (AuctionStatus status : AuctionStatus.values()) {
+            Map<Category, Long> countsByCategory = counts.getOrDefault(status, Map.of());
+            long total = 0;
+            for (Category category : Category.values()) {
+                values.put(generateKey(status, category), String.valueOf(countsByCategory.getOrDefault(category, 0L)));
+            }
+            for (long count : countsByCategory.values()) {
+                total += count;
+            }
+            values.put(generateKey(status, null), String.valueOf(total));
+        }
+        try {
+            redisTemplate.opsForValue().multiSet(values);
+        } catch (Exception e) {
+            log.warn("경매 개수 저장 실패", e);
+        }
+    }
+
+    private void increaseIfPresent(String key, long delta) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.opsForValue().increment(key, delta);
+            }
+        } catch (Exception e) {
+            log.warn("경매 개수 변경 실패: key={}", key, e);
+        }
+    }
+
+    private String generateKey(AuctionStatus status, Category category) {
+        return KEY_PREFIX + status + ":" + (category != null ? category : ALL_CATEGORIES);
+    }
+}
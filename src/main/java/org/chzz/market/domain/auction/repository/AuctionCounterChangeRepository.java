@@ -0,0 +1,56 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 문서에 카운터를 아직 반영하지 않은 경매 ID 집합
+ * <p>
+ * 노드 메모리가 아닌 Redis 집합에 두어 재시작이나 배포 중에도 변경이 유실되지 않고, 어느 노드에서든 꺼내어 전송할 수 있다.
+ * 꺼내기는 SPOP 으로 원자적이므로 여러 노드가 같은 ID 를 동시에 전송하지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionCounterChangeRepository {
+    private static final String KEY = "auction:search:counter:changed";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void add(Long auctionId) {
+        addAll(List.of(auctionId));
+    }
+
+    public void addAll(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(KEY, auctionIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.warn("경매 카운터 변경 기록 실패: auctionIds={}", auctionIds, e);
+        }
+    }
+
+    /**
+     * 최대 count 개의 경매 ID 를 집합에서 꺼낸다
+     */
+    public List<Long> pop(int count) {
+        try {
+            List<Object> popped = redisTemplate.opsForSet().pop(KEY, count);
+            if (popped == null) {
+                return List.of();
+            }
+            return popped.stream()
+                    .map(auctionId -> Long.valueOf((String) auctionId))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("경매 카운터 변경 조회 실패", e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.chzz.market.domain.auction.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionDetailSnapshot;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자와 무관한 경매 상세 정보 2단계 캐시
+ * <p>
+ * L1: 노드별 Caffeine, L2: Redis. 캐시 미스 시 노드 내에서는 적재 중인 Future 공유, 클러스터 내에서는 Redisson 락으로 DB 조회를
+ * 한 번으로 제한한다.
+ * <p>
+ * L2 키는 상세 버전을 포함한다. 변경 커밋 전에 조회한 결과가 무효화 이후에 저장되더라도 이전 버전 키에 남으므로, 버전 증가 후의
+ * 조회에는 사용되지 않는다.
+ */
+@Slf4j
+@Repository
+public class AuctionDetailCacheRepository {
+    public static final String INVALIDATION_CHANNEL = "auction:detail:invalidation";
+    private static final String KEY_PREFIX = "auction:detail:";
+    private static final String LOCK_PREFIX = "lock:auction:detail:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final AuctionVersionRepository auctionVersionRepository;
+    private final AsyncCache<Long, AuctionDetailSnapshot> localCache;
+
+    @Value("${auction.cache.detail-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${auction.cache.detail-load-wait-millis:3000}")
+    private long loadWaitMillis;
+
+    public AuctionDetailCacheRepository(RedisTemplate<String, Object> redisTemplate, RedissonClient redissonClient,
+                                        ObjectMapper objectMapper, AuctionVersionRepository auctionVersionRepository,
+                                        @Value("${auction.cache.detail-local-max-size:10000}") long localMaxSize,
+                                        @Value("${auction.cache.detail-local-ttl-seconds:30}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.auctionVersionRepository = auctionVersionRepository;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * L1 → L2 → DB 순으로 조회하며, DB 조회 결과가 없으면 캐싱하지 않는다.
+     * <p>
+     * 적재는 Caffeine 의 compute 밖에서 호출 스레드가 수행하고, 같은 키의 동시 요청은 적재 중인 Future 를 기다린다. 적재 중에
+     * 무효화되면 Future 가 L1 에서 제거되어 결과가 남지 않는다. null 이나 예외로 끝난 Future 는 Caffeine 이 제거한다.
+     */
+    public Optional<AuctionDetailSnapshot> find(Long auctionId, Supplier<Optional<AuctionDetailSnapshot>> loader) {
+        CompletableFuture<AuctionDetailSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<AuctionDetailSnapshot> cached = localCache.asMap().putIfAbsent(auctionId, loading);
+        if (cached != null) {
+            return Optional.ofNullable(join(cached));
+        }
+        try {
+            loading.complete(findFromRemote(auctionId, loader));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return Optional.ofNullable(loading.join());
+    }
+
+    /**
+     * Redis 캐시를 삭제하고 모든 노드에 로컬 캐시 무효화를 전파
+     */
+    public void evict(Long auctionId) {
+        localCache.synchronous().invalidate(auctionId);
+        try {
+            redisTemplate.delete(generateKey(auctionId, findVersion(auctionId)));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(auctionId));
+        } catch (Exception e) {
+            log.warn("경매 상세 캐시 무효화 실패: auctionId={}", auctionId, e);
+        }
+    }
+
+    public void evictLocal(Long auctionId) {
+        localCache.synchronous().invalidate(auctionId);
+    }
+
+    private AuctionDetailSnapshot join(CompletableFuture<AuctionDetailSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DB 조회 전에 버전을 읽어야 한다. 버전 증가 후에 읽었다면 DB 조회도 변경 커밋 이후이므로 최신 결과가 해당 버전 키에 저장된다.
+     */
+    private AuctionDetailSnapshot findFromRemote(Long auctionId, Supplier<Optional<AuctionDetailSnapshot>> loader) {
+        String key = generateKey(auctionId, findVersion(auctionId));
+        Optional<AuctionDetailSnapshot> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + auctionId);
+        boolean acquired = tryLock(lock, auctionId);
+        try {
+            if (acquired) {
+                // 락 대기 중 다른 노드가 적재했을 수 있으므로 다시 확인
+                cached = get(key);
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+            }
+            return loader.get()
+                    .map(snapshot -> {
+                        save(key, snapshot);
+                        return snapshot;
+                    })
+                    .orElse(null);
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean tryLock(RLock lock, Long auctionId) {
+        try {
+            if (lock.tryLock(loadWaitMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("경매 상세 캐시 적재 락 획득 실패, DB에서 직접 조회: auctionId={}", auctionId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("경매 상세 캐시 적재 락 오류, DB에서 직접 조회: auctionId={}", auctionId, e);
+        }
+        return false;
+    }
+
+    /**
+     * 버전이 없으면(변경 이력 없음) 0 을 사용한다. 버전은 처음 생성될 때 현재 시각(ms)으로 시작하므로 0 과 겹치지 않는다.
+     */
+    private long findVersion(Long auctionId) {
+        return auctionVersionRepository.findDetailVersion(auctionId).orElse(0L);
+    }
+
+    private String generateKey(Long auctionId, long version) {
+        return KEY_PREFIX + auctionId + ":" + version;
+    }
+
+    private Optional<AuctionDetailSnapshot> get(String key) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue((String) cached, AuctionDetailSnapshot.class));
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회로 대체
+            log.warn("경매 상세 캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(String key, AuctionDetailSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(snapshot), ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("경매 상세 캐시 저장 실패: auctionId={}", snapshot.auctionId(), e);
+        }
+    }
+}
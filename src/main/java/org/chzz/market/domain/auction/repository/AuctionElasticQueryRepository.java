@@ -1,113 +1,502 @@
 package org.chzz.market.domain.auction.repository;
 
 import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.AUCTION_STATUS;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.BID_COUNT;
 import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.CATEGORY;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.CATEGORY_KEYWORD;
 import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.DESCRIPTION;
-import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.END_DATE_TIME;
-import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.IMAGE_URL;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.LIKE_COUNT;
 import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.MIN_PRICE;
 import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.NAME;
-import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_ELASTIC_ERROR;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.NAME_AUTOCOMPLETE;
 
-import java.time.format.DateTimeFormatter;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch.core.search.FieldCollapse;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.dto.AuctionIndexNames;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets.PriceBucket;
 import org.chzz.market.domain.auction.entity.AuctionDocument;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
-import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.entity.Category;
 import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
 public class AuctionElasticQueryRepository {
-    private static final String AUCTION_INDEX = "auction";
+    /**
+     * 사전/진행 경매 인덱스 (색인 재구성 이후에는 버전 인덱스를 가리키는 별칭)
+     */
+    public static final String AUCTION_INDEX = "auction";
+    /**
+     * 종료 경매 인덱스 (색인 재구성 이후에는 버전 인덱스를 가리키는 별칭)
+     */
+    public static final String ARCHIVE_INDEX = "auction_archive";
+    public static final AuctionIndexNames INDEX_ALIASES = new AuctionIndexNames(AUCTION_INDEX, ARCHIVE_INDEX);
+    private static final String AUCTION_ID = "auctionId";
+    private static final Duration POINT_IN_TIME_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    private static final String STATUS_FACET = "statuses";
+    private static final String FILTERED_FACET = "filtered";
+    private static final String CATEGORY_FACET = "categories";
+    private static final String PRICE_FACET = "prices";
 
     private final AuctionPageableAdjuster pageableAdjuster;
     private final ElasticsearchOperations operations;
 
+    @Value("${auction.search.facet.price-interval:10000}")
+    private long priceInterval;
+
+    /**
+     * 라이브 인덱스에 남은 종료 경매가 모두 보관 인덱스로 옮겨졌는지 여부
+     * <p>
+     * 그 전에는 보관 인덱스 도입 이전에 종료되어 라이브 인덱스에 남아 있는 경매가 있으므로, 종료 경매 조회는 두 인덱스에 요청한다.
+     * 이전 완료 여부는 {@link org.chzz.market.domain.auction.service.AuctionArchiveMigrationService} 가 Redis 에 기록하고 모든
+     * 노드가 주기적으로 확인하여 설정한다.
+     */
+    private volatile boolean archivePopulated;
+
     /**
      * 경매 목록 검색 (키워드, 상태)
      */
     public SearchHits<AuctionDocument> searchAuctions(String keyword, AuctionStatus status, Pageable pageable) {
+        return searchAuctions(keyword, status, pageable, false);
+    }
+
+    /**
+     * 경매 목록 검색 (키워드, 상태)
+     * <p>
+     * 집계를 함께 요청하면 상태 필터를 post_filter 로 옮겨, 상태별 개수는 키워드 조건만으로 집계하고 카테고리/가격 집계와 검색 결과에는
+     * 상태 필터를 적용한다.
+     * <p>
+     * 검색은 상태에 해당하는 인덱스에만 요청하며 (보관 인덱스가 채워지기 전의 종료 경매는 두 인덱스), 집계를 함께 요청하면 모든
+     * 상태의 개수가 필요하므로 두 인덱스에 요청한다. 종료 경매를 두 인덱스에서 조회하는 동안에는 옮기는 중인 경매가 두 번 나오지
+     * 않도록 경매 ID 로 결과를 접는다.
+     *
+     * @param withFacets 카테고리, 가격 구간, 상태별 개수 집계 포함 여부
+     */
+    public SearchHits<AuctionDocument> searchAuctions(String keyword, AuctionStatus status, Pageable pageable,
+                                                      boolean withFacets) {
         Pageable adjustedPageable = pageableAdjuster.adjustPageable(pageable);
+        co.elastic.clients.elasticsearch._types.query_dsl.Query statusFilter = QueryBuilders.term(t -> t
+                .field(AUCTION_STATUS)
+                .value(status.name())); // status 필터링 적용
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withPageable(adjustedPageable); // 페이징 적용
+        if (readIndices(status).length > 1) {
+            builder.withFieldCollapse(FieldCollapse.of(c -> c.field(AUCTION_ID)));
+        }
+        if (!withFacets) {
+            builder.withQuery(q -> q.bool(b -> b
+                    .must(keywordQuery(keyword)) // 멀티 매치 적용
+                    .filter(statusFilter)
+            ));
+            // 쿼리 실행
+            return operations.search(builder.build(), AuctionDocument.class, IndexCoordinates.of(readIndices(status)));
+        }
+        builder.withQuery(keywordQuery(keyword))
+                .withFilter(statusFilter)
+                .withAggregation(STATUS_FACET, Aggregation.of(a -> a
+                        .terms(t -> t.field(AUCTION_STATUS).size(AuctionStatus.values().length))))
+                .withAggregation(FILTERED_FACET, Aggregation.of(a -> a
+                        .filter(statusFilter)
+                        .aggregations(CATEGORY_FACET, Aggregation.of(sub -> sub
+                                .terms(t -> t.field(CATEGORY_KEYWORD).size(Category.values().length))))
+                        .aggregations(PRICE_FACET, Aggregation.of(sub -> sub
+                                .histogram(h -> h.field(MIN_PRICE).interval((double) priceInterval).minDocCount(1))))));
+        return operations.search(builder.build(), AuctionDocument.class,
+                IndexCoordinates.of(AUCTION_INDEX, ARCHIVE_INDEX));
+    }
+
+    /**
+     * ID 로 경매 문서 조회 (요청 순서 유지, 없는 문서 제외)
+     * <p>
+     * multi-get 은 인덱스 하나에만 요청할 수 있으므로, 두 인덱스를 조회해야 하는 경우 ID 검색으로 조회한다.
+     *
+     * @param status 문서를 조회할 인덱스를 정하는 경매 상태
+     */
+    public List<AuctionDocument> findAllByIds(AuctionStatus status, List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return List.of();
+        }
+        String[] indices = readIndices(status);
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withIds(auctionIds.stream().map(String::valueOf).toList());
+        if (indices.length == 1) {
+            return operations.multiGet(builder.build(), AuctionDocument.class, IndexCoordinates.of(indices))
+                    .stream()
+                    .filter(MultiGetItem::hasItem)
+                    .map(MultiGetItem::getItem)
+                    .toList();
+        }
+        Map<Long, AuctionDocument> documents = operations.search(builder.withMaxResults(auctionIds.size()).build(),
+                        AuctionDocument.class, IndexCoordinates.of(indices))
+                .stream()
+                .map(SearchHit::getContent)
+                .collect(Collectors.toMap(AuctionDocument::getAuctionId, Function.identity(),
+                        (first, second) -> first));
+        return auctionIds.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 라이브 인덱스에 남아 있는 종료 경매 ID (보관 인덱스 도입 이전에 종료된 경매)
+     */
+    public List<Long> findEndedIdsInLive(int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.term(t -> t
+                        .field(AUCTION_STATUS)
+                        .value(AuctionStatus.ENDED.name())))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(AUCTION_ID).build())
+                .withMaxResults(size)
+                .withTrackTotalHits(false)
+                .build();
+        return operations.search(query, AuctionDocument.class, IndexCoordinates.of(AUCTION_INDEX)).stream()
+                .map(hit -> hit.getContent().getAuctionId())
+                .toList();
+    }
+
+    /**
+     * 종료 경매 조회를 보관 인덱스에만 요청하도록 전환
+     */
+    public void markArchivePopulated() {
+        archivePopulated = true;
+    }
+
+    /**
+     * 상태에 해당하는 경매를 조회할 인덱스
+     */
+    private String[] readIndices(AuctionStatus status) {
+        if (status == AuctionStatus.ENDED && !archivePopulated) {
+            return new String[]{ARCHIVE_INDEX, AUCTION_INDEX};
+        }
+        return new String[]{INDEX_ALIASES.resolve(status)};
+    }
+
+    /**
+     * {@link #searchAuctions(String, AuctionStatus, Pageable, boolean)} 집계 결과 변환
+     */
+    public AuctionSearchFacets extractFacets(SearchHits<AuctionDocument> searchHits) {
+        Map<String, ElasticsearchAggregation> aggregations =
+                ((ElasticsearchAggregations) searchHits.getAggregations()).aggregationsAsMap();
+
+        Map<AuctionStatus, Long> statuses = new EnumMap<>(AuctionStatus.class);
+        aggregations.get(STATUS_FACET).aggregation().getAggregate().sterms().buckets().array()
+                .forEach(bucket -> statuses.put(AuctionStatus.valueOf(bucket.key().stringValue()), bucket.docCount()));
+
+        Map<String, Aggregate> filtered = aggregations.get(FILTERED_FACET).aggregation().getAggregate().filter()
+                .aggregations();
+        Map<String, Long> categories = new LinkedHashMap<>();
+        filtered.get(CATEGORY_FACET).sterms().buckets().array()
+                .forEach(bucket -> categories.put(bucket.key().stringValue(), bucket.docCount()));
+        List<PriceBucket> prices = filtered.get(PRICE_FACET).histogram().buckets().array().stream()
+                .map(bucket -> new PriceBucket((long) bucket.key(), (long) bucket.key() + priceInterval,
+                        bucket.docCount()))
+                .toList();
+        return new AuctionSearchFacets(categories, prices, statuses);
+    }
+
+    private static co.elastic.clients.elasticsearch._types.query_dsl.Query keywordQuery(String keyword) {
+        return QueryBuilders.multiMatch(mm -> mm
+                .query(keyword)
+                .fields(NAME, DESCRIPTION, CATEGORY));
+    }
+
+    /**
+     * 커서 기반 경매 검색 (point-in-time + search_after)
+     * <p>
+     * 요청 정렬 뒤에 경매 ID 를 보조 정렬로 추가하여 같은 정렬 값에서도 순서가 고정되도록 하며, 전체 개수는 계산하지 않는다.
+     *
+     * @param searchAfter 이전 페이지 마지막 문서의 정렬 값 (첫 페이지는 null)
+     */
+    public SearchHits<AuctionDocument> searchAuctionsAfter(String keyword, AuctionStatus status, Pageable pageable,
+                                                           String pointInTimeId, List<Object> searchAfter) {
+        Sort sort = pageableAdjuster.adjustPageable(pageable).getSort().and(Sort.by(AUCTION_ID));
         NativeQuery query = NativeQuery.builder()
                 .withQuery(q -> q.bool(b -> b
-                        .must(m -> m.multiMatch(mm -> mm
-                                .query(keyword)
-                                .fields(NAME, DESCRIPTION, CATEGORY) // 멀티 매치 적용
-                        ))
+                        .must(keywordQuery(keyword))
                         .filter(f -> f.term(t -> t
                                 .field(AUCTION_STATUS)
-                                .value(status.name()))) // status 필터링 적용
+                                .value(status.name())))
                 ))
-                .withPageable(adjustedPageable) // 페이징 적용
+                .withSort(sort)
+                .withMaxResults(pageable.getPageSize() + 1) // 다음 페이지 존재 여부 확인용 1건 추가
+                .withPointInTime(new Query.PointInTime(pointInTimeId, POINT_IN_TIME_KEEP_ALIVE))
+                .withSearchAfter(searchAfter)
+                .withTrackTotalHits(false)
                 .build();
-        // 쿼리 실행
         return operations.search(query, AuctionDocument.class);
     }
 
     /**
-     * 경매 문서 업데이트
+     * @param status 커서 검색 대상 인덱스를 정하는 경매 상태
+     */
+    public String openPointInTime(AuctionStatus status) {
+        return operations.openPointInTime(IndexCoordinates.of(readIndices(status)), POINT_IN_TIME_KEEP_ALIVE);
+    }
+
+    public void closePointInTime(String pointInTimeId) {
+        try {
+            operations.closePointInTime(pointInTimeId);
+        } catch (Exception e) {
+            log.warn("Elasticsearch point-in-time 종료 실패", e);
+        }
+    }
+
+    /**
+     * 경매 이름 자동완성 (name.autocomplete edge n-gram 필드)
+     * <p>
+     * 이름만 조회하며, 같은 이름의 경매가 여러 개일 수 있으므로 여유 있게 조회한 뒤 중복을 제거한다. 종료된 경매 이름은 제안하지 않으므로
+     * 라이브 인덱스만 조회한다.
+     */
+    public List<String> suggestNames(String prefix, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.match(m -> m
+                        .field(NAME_AUTOCOMPLETE)
+                        .query(prefix)
+                        .operator(Operator.And)))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(NAME).build())
+                .withMaxResults(size * 2)
+                .build();
+        return operations.search(query, AuctionDocument.class, IndexCoordinates.of(AUCTION_INDEX)).getSearchHits()
+                .stream()
+                .map(hit -> hit.getContent().getName())
+                .distinct()
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * 지정한 인덱스에 경매 문서 일괄 색인
+     *
+     * @return 색인에 실패한 경매 ID
      */
-    public void update(AuctionDocument auctionDocument) {
-        Map<String, Object> updateFields = Map.of(
-                NAME, auctionDocument.getName(),
-                DESCRIPTION, auctionDocument.getDescription(),
-                MIN_PRICE, auctionDocument.getMinPrice(),
-                CATEGORY, auctionDocument.getCategory(),
-                IMAGE_URL, auctionDocument.getImageUrl()
-        );
-        executeUpdate(auctionDocument.getAuctionId(), updateFields);
+    public Set<Long> bulkIndex(List<AuctionDocument> auctionDocuments, String indexName) {
+        if (auctionDocuments.isEmpty()) {
+            return Set.of();
+        }
+        List<IndexQuery> indexQueries = auctionDocuments.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getAuctionId()))
+                        .withObject(document)
+                        .build())
+                .toList();
+        try {
+            operations.bulkIndex(indexQueries, IndexCoordinates.of(indexName));
+            return Set.of();
+        } catch (BulkFailureException e) {
+            log.error("Elasticsearch 일괄 색인 일부 실패: failedDocuments={}", e.getFailedDocuments().keySet(), e);
+            return e.getFailedDocuments().keySet().stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.error("Elasticsearch 일괄 색인 실패: count={}", auctionDocuments.size(), e);
+            return auctionDocuments.stream()
+                    .map(AuctionDocument::getAuctionId)
+                    .collect(Collectors.toSet());
+        }
     }
 
     /**
-     * 경매 시작 업데이트
+     * 경매 문서의 좋아요/입찰 수만 부분 갱신
+     * <p>
+     * 아직 색인되지 않은 문서의 갱신 실패는 이후 전체 색인에 카운터가 포함되므로 기록만 한다. 문서는 경매 상태에 해당하는 인덱스별로
+     * 나누어 갱신한다.
+     *
+     * @return 요청 자체가 실패하여 다시 시도해야 하는 경매 ID
      */
-    public void updateAuctionToStartedStatus(AuctionDocument auctionDocument) {
-        String formattedDateTime = auctionDocument.getEndDateTime()
-                .format(DateTimeFormatter.ofPattern(DateFormat.date_hour_minute_second.getPattern()));
+    public Set<Long> updateCounters(List<AuctionCounter> counters) {
+        Set<Long> failedIds = new HashSet<>();
+        counters.stream()
+                .collect(Collectors.groupingBy(counter -> INDEX_ALIASES.resolve(counter.status())))
+                .forEach((indexName, indexCounters) -> failedIds.addAll(updateCounters(indexCounters, indexName)));
+        return failedIds;
+    }
 
-        Map<String, Object> updateFields = Map.of(
-                AUCTION_STATUS, auctionDocument.getAuctionStatus().name(),
-                END_DATE_TIME, formattedDateTime
-        );
-        executeUpdate(auctionDocument.getAuctionId(), updateFields);
+    private Set<Long> updateCounters(List<AuctionCounter> counters, String indexName) {
+        List<UpdateQuery> updateQueries = counters.stream()
+                .map(counter -> UpdateQuery.builder(String.valueOf(counter.auctionId()))
+                        .withDocument(Document.from(Map.of(
+                                LIKE_COUNT, counter.likeCount(),
+                                BID_COUNT, counter.bidCount())))
+                        .withRetryOnConflict(3)
+                        .build())
+                .toList();
+        try {
+            operations.bulkUpdate(updateQueries, IndexCoordinates.of(indexName));
+            return Set.of();
+        } catch (BulkFailureException e) {
+            log.warn("Elasticsearch 카운터 갱신 일부 실패: failedDocuments={}", e.getFailedDocuments().keySet());
+            return Set.of();
+        } catch (Exception e) {
+            log.error("Elasticsearch 카운터 갱신 실패: count={}", counters.size(), e);
+            return counters.stream()
+                    .map(AuctionCounter::auctionId)
+                    .collect(Collectors.toSet());
+        }
     }
 
     /**
-     * 경매 종료 업데이트
+     * 지정한 인덱스에서 경매 문서 삭제
+     *
+     * @return 삭제에 실패한 경매 ID
      */
-    public void updateAuctionToEndedStatus(AuctionDocument auctionDocument) {
-        Map<String, Object> updateFields = Map.of(
-                AUCTION_STATUS, auctionDocument.getAuctionStatus().name()
-        );
-        executeUpdate(auctionDocument.getAuctionId(), updateFields);
+    public Set<Long> deleteAll(List<Long> auctionIds, String indexName) {
+        Set<Long> failedIds = new HashSet<>();
+        for (Long auctionId : auctionIds) {
+            try {
+                operations.delete(String.valueOf(auctionId), IndexCoordinates.of(indexName));
+            } catch (Exception e) {
+                log.error("Elasticsearch 문서 삭제 실패: auctionId={}", auctionId, e);
+                failedIds.add(auctionId);
+            }
+        }
+        return failedIds;
     }
 
     /**
-     * 공통 업데이트 실행 메서드
+     * 한 번의 delete-by-query 요청으로 경매 문서 삭제 (보관 인덱스로 옮긴 종료 경매 정리용)
+     *
+     * @return 삭제에 실패한 경매 ID
      */
-    private void executeUpdate(Long auctionId, Map<String, Object> updateFields) {
+    public Set<Long> deleteByIds(List<Long> auctionIds, String indexName) {
+        if (auctionIds.isEmpty()) {
+            return Set.of();
+        }
+        NativeQuery query = NativeQuery.builder()
+                .withIds(auctionIds.stream().map(String::valueOf).toList())
+                .build();
+        try {
+            operations.delete(query, AuctionDocument.class, IndexCoordinates.of(indexName));
+            return Set.of();
+        } catch (Exception e) {
+            log.error("Elasticsearch 문서 일괄 삭제 실패: index={}, count={}", indexName, auctionIds.size(), e);
+            return Set.copyOf(auctionIds);
+        }
+    }
+
+    /**
+     * {@link AuctionDocument} 의 설정과 매핑으로 새 인덱스 생성
+     */
+    public void createIndex(String indexName) {
+        IndexOperations templateOperations = operations.indexOps(AuctionDocument.class);
+        operations.indexOps(IndexCoordinates.of(indexName))
+                .create(templateOperations.createSettings(AuctionDocument.class),
+                        templateOperations.createMapping(AuctionDocument.class));
+    }
+
+    /**
+     * 보관 인덱스가 없으면 생성 (라이브 인덱스는 {@link AuctionElasticRepository} 가 생성)
+     * <p>
+     * 색인 릴레이가 시작되기 전에 생성해야 종료 경매 색인이 동적 매핑으로 보관 인덱스를 자동 생성하지 않는다.
+     */
+    @PostConstruct
+    void createArchiveIndexIfAbsent() {
+        try {
+            IndexOperations archiveOperations = operations.indexOps(IndexCoordinates.of(ARCHIVE_INDEX));
+            if (!archiveOperations.exists()) {
+                createIndex(ARCHIVE_INDEX);
+                log.info("경매 보관 인덱스 생성: {}", ARCHIVE_INDEX);
+            }
+        } catch (Exception e) {
+            log.warn("경매 보관 인덱스 생성 실패: {}", ARCHIVE_INDEX, e);
+        }
+    }
+
+    public void deleteIndex(String indexName) {
+        operations.indexOps(IndexCoordinates.of(indexName)).delete();
+    }
+
+    /**
+     * 라이브/보관 별칭이 새 인덱스를 가리키도록 한 번의 요청으로 교체
+     * <p>
+     * 별칭이 아닌 실제 인덱스로 생성된 기존 "auction", "auction_archive" 인덱스는 같은 요청에서 삭제하여 별칭으로 전환한다.
+     *
+     * @return 이전에 별칭이 가리키던 인덱스 (삭제 대상)
+     */
+    public Set<String> swapAliases(AuctionIndexNames newIndices) {
+        AliasActions actions = new AliasActions();
+        Set<String> previousIndices = new HashSet<>();
+        previousIndices.addAll(addSwapActions(actions, AUCTION_INDEX, newIndices.live()));
+        previousIndices.addAll(addSwapActions(actions, ARCHIVE_INDEX, newIndices.archive()));
+        operations.indexOps(IndexCoordinates.of(AUCTION_INDEX)).alias(actions);
+        archivePopulated = true;
+        log.info("경매 인덱스 별칭 교체: {} -> {}", previousIndices, newIndices);
+        return previousIndices;
+    }
+
+    private Set<String> addSwapActions(AliasActions actions, String alias, String newIndexName) {
+        IndexOperations aliasOperations = operations.indexOps(IndexCoordinates.of(alias));
+        Set<String> previousIndices = findAliasedIndices(aliasOperations, alias);
+
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(newIndexName)
+                .withAliases(alias)
+                .build()));
+        if (!previousIndices.isEmpty()) {
+            actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                    .withIndices(previousIndices.toArray(String[]::new))
+                    .withAliases(alias)
+                    .build()));
+        } else if (aliasOperations.exists()) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(alias)
+                    .build()));
+        }
+        return previousIndices;
+    }
+
+    private Set<String> findAliasedIndices(IndexOperations aliasOperations, String alias) {
         try {
-            UpdateQuery updateQuery = UpdateQuery.builder(String.valueOf(auctionId))
-                    .withDocument(Document.from(updateFields))
-                    .build();
-            operations.update(updateQuery, IndexCoordinates.of(AUCTION_INDEX));
-            log.info("Elasticsearch 문서 업데이트 성공: auctionId={}, updateFields={}", auctionId, updateFields);
+            return new HashSet<>(aliasOperations.getAliases(alias).keySet());
         } catch (Exception e) {
-            log.error("Elasticsearch 문서 업데이트 실패: auctionId={}, updateFields={}", auctionId, updateFields, e);
-            throw new AuctionException(AUCTION_ELASTIC_ERROR);
+            // 별칭이 없는 경우
+            return Set.of();
         }
     }
 }
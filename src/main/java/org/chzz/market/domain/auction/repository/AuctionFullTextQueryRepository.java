@@ -0,0 +1,83 @@
+package org.chzz.market.domain.auction.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Elasticsearch 장애 시 사용하는 MySQL FULLTEXT(ngram) 경매 검색
+ * <p>
+ * 검색 정렬을 {@link AuctionPageableAdjuster} 로 변환한 뒤 컬럼으로 옮기며, 같은 값은 경매 ID 로 순서를 고정한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionFullTextQueryRepository {
+    private static final Map<String, String> ORDER_COLUMNS = Map.of(
+            "createAt", "a.created_at",
+            "minPrice", "a.min_price"
+    );
+    private static final String CONDITION =
+            "WHERE MATCH(a.name, a.description) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AND a.status = :status";
+
+    private final EntityManager entityManager;
+    private final AuctionPageableAdjuster pageableAdjuster;
+
+    /**
+     * @return 검색된 경매 ID
+     */
+    @Transactional(readOnly = true)
+    public Page<Long> searchAuctionIds(String keyword, AuctionStatus status, Pageable pageable) {
+        List<Long> auctionIds = ((List<?>) entityManager.createNativeQuery(
+                        "SELECT a.auction_id FROM auction a " + CONDITION + " ORDER BY " + orderBy(pageable))
+                .setParameter("keyword", keyword)
+                .setParameter("status", status.name())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()).stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        long total = ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM auction a " + CONDITION)
+                .setParameter("keyword", keyword)
+                .setParameter("status", status.name())
+                .getSingleResult()).longValue();
+        return new PageImpl<>(auctionIds, pageable, total);
+    }
+
+    /**
+     * 검색된 경매를 이미지와 함께 조회 (대체 검색 중 원본 DB 부하를 늘리지 않도록 복제본에서 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<Auction> findAllWithImagesByIdIn(Collection<Long> auctionIds) {
+        return entityManager.createQuery(
+                        "SELECT DISTINCT a FROM Auction a LEFT JOIN FETCH a.images WHERE a.id IN :auctionIds",
+                        Auction.class)
+                .setParameter("auctionIds", auctionIds)
+                .getResultList();
+    }
+
+    private String orderBy(Pageable pageable) {
+        String orders = pageableAdjuster.adjustPageable(pageable).getSort().stream()
+                .map(this::toColumnOrder)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(", "));
+        return orders.isEmpty() ? "a.auction_id DESC" : orders + ", a.auction_id DESC";
+    }
+
+    private String toColumnOrder(Sort.Order order) {
+        String column = ORDER_COLUMNS.get(order.getProperty());
+        return column == null ? null : column + (order.isAscending() ? " ASC" : " DESC");
+    }
+}
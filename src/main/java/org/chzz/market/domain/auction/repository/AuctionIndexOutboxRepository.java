@@ -0,0 +1,50 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 복제 지연으로 대기 행을 놓치지 않도록 조회도 쓰기 트랜잭션(원본 DB)으로 실행한다
+ */
+public interface AuctionIndexOutboxRepository extends JpaRepository<AuctionIndexOutbox, Long> {
+    @Transactional
+    @Query("""
+            SELECT o FROM AuctionIndexOutbox o
+            WHERE o.id > :afterId AND o.nextAttemptAt <= :now AND o.attemptCount < :maxAttempts
+            ORDER BY o.id
+            """)
+    List<AuctionIndexOutbox> findRelayTargets(long afterId, LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    /**
+     * 전송 대기 중인 가장 오래된 변경 시각 (재시도 횟수를 초과한 행 제외)
+     */
+    @Transactional
+    @Query("SELECT MIN(o.createdAt) FROM AuctionIndexOutbox o WHERE o.attemptCount < :maxAttempts")
+    Optional<LocalDateTime> findOldestPendingCreatedAt(int maxAttempts);
+
+    /**
+     * 최대 시도 횟수를 넘겨 더 이상 전송하지 않는 행 수
+     */
+    @Transactional
+    long countByAttemptCountGreaterThanEqual(int maxAttempts);
+
+    /**
+     * 전송에 실패한 행의 시도 횟수를 올리고 다음 시도 시각을 지정
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE AuctionIndexOutbox o
+            SET o.attemptCount = o.attemptCount + 1, o.nextAttemptAt = :nextAttemptAt
+            WHERE o.id IN :ids
+            """)
+    void increaseAttemptCount(Collection<Long> ids, LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,70 @@
+package org.chzz.market.domain.auction.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.dto.SlicePageRequest;
+import org.chzz.market.domain.auction.dto.AuctionListSnapshot;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자 정보가 제외된 경매 목록 페이지를 (상태, 카테고리, 정렬, 페이지) 단위로 캐싱
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionListCacheRepository {
+    private static final String KEY_PREFIX = "auction:list:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auction.cache.list-ttl-seconds:10}")
+    private long ttlSeconds;
+
+    public Optional<AuctionListSnapshot> find(String key) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue((String) cached, AuctionListSnapshot.class));
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회로 대체
+            log.warn("경매 목록 캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String key, AuctionListSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + key, objectMapper.writeValueAsString(snapshot), ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("경매 목록 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 목록 버전을 키에 포함하여 버전이 증가하면 이전 페이지가 더 이상 조회되지 않도록 한다
+     * <p>
+     * 전체 개수를 생략한 슬라이스 페이지는 별도 키로 저장한다
+     */
+    public String generateKey(Long listVersion, AuctionStatus status, Category category, Integer endWithinSeconds,
+                              Pageable pageable) {
+        String sort = pageable.getSort().stream()
+                .map(order -> order.getProperty() + "-" + order.getDirection())
+                .collect(Collectors.joining(","));
+        return listVersion + ":" + status + ":" + category + ":" + endWithinSeconds + ":" + sort + ":"
+                + pageable.getPageNumber() + ":" + pageable.getPageSize()
+                + (SlicePageRequest.isSlice(pageable) ? ":slice" : "");
+    }
+}
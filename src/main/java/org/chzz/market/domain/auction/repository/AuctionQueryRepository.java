@@ -1,5 +1,8 @@
 package org.chzz.market.domain.auction.repository;
 
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
+import static org.chzz.market.common.util.QuerydslUtil.fetchPage;
 import static org.chzz.market.common.util.QuerydslUtil.nullSafeBuilder;
 import static org.chzz.market.common.util.QuerydslUtil.nullSafeBuilderIgnore;
 import static org.chzz.market.domain.auction.entity.AuctionStatus.ENDED;
@@ -7,7 +10,6 @@ import static org.chzz.market.domain.auction.entity.AuctionStatus.PRE;
 import static org.chzz.market.domain.auction.entity.AuctionStatus.PROCEEDING;
 import static org.chzz.market.domain.auction.entity.QAuction.auction;
 import static org.chzz.market.domain.bid.entity.Bid.BidStatus.ACTIVE;
-import static org.chzz.market.domain.bid.entity.Bid.BidStatus.CANCELLED;
 import static org.chzz.market.domain.bid.entity.QBid.bid;
 import static org.chzz.market.domain.image.entity.QImage.image;
 import static org.chzz.market.domain.like.entity.QLike.like;
@@ -15,18 +17,16 @@ import static org.chzz.market.domain.order.entity.QOrder.order;
 import static org.chzz.market.domain.user.entity.QUser.user;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Ops.DateTimeOps;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTimeOperation;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.AccessLevel;
@@ -36,12 +36,12 @@ import lombok.RequiredArgsConstructor;
 import org.chzz.market.common.util.QuerydslOrder;
 import org.chzz.market.common.util.QuerydslOrderProvider;
 import org.chzz.market.domain.auction.dto.AuctionBidDetail;
+import org.chzz.market.domain.auction.dto.AuctionCount;
+import org.chzz.market.domain.auction.dto.AuctionDetailSnapshot;
 import org.chzz.market.domain.auction.dto.AuctionLikeDetail;
+import org.chzz.market.domain.auction.dto.AuctionListItem;
 import org.chzz.market.domain.auction.dto.response.EndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
-import org.chzz.market.domain.auction.dto.response.OfficialAuctionDetailResponse;
-import org.chzz.market.domain.auction.dto.response.OfficialAuctionResponse;
-import org.chzz.market.domain.auction.dto.response.PreAuctionDetailResponse;
 import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.ProceedingAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.QWonAuctionDetailsResponse;
@@ -49,13 +49,10 @@ import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
-import org.chzz.market.domain.bid.entity.QBid;
 import org.chzz.market.domain.image.dto.response.ImageResponse;
 import org.chzz.market.domain.image.dto.response.QImageResponse;
-import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -79,154 +76,71 @@ public class AuctionQueryRepository {
     }
 
     /**
-     * 사전 경매 상세 조회
+     * 사용자와 무관한 경매 상세 조회 (이미지 목록 포함 단일 쿼리)
      */
-    public Optional<PreAuctionDetailResponse> findPreAuctionDetailById(Long userId, Long auctionId) {
-        Optional<PreAuctionDetailResponse> result = Optional.ofNullable(jpaQueryFactory
-                .select(
-                        Projections.constructor(
-                                PreAuctionDetailResponse.class,
-                                auction.id,
-                                user.nickname,
-                                user.profileImageUrl,
-                                auction.name,
-                                auction.description,
-                                auction.minPrice,
-                                userIdEq(userId),
-                                auction.status,
-                                auction.category,
-                                auction.updatedAt,
-                                auction.likeCount,
-                                like.id.isNotNull()
-                        )
-                )
+    public Optional<AuctionDetailSnapshot> findAuctionDetailSnapshotById(Long auctionId) {
+        return jpaQueryFactory
                 .from(auction)
                 .join(auction.seller, user)
-                .leftJoin(like).on(like.auctionId.eq(auction.id).and(likeUserIdEq(userId)))
+                .leftJoin(order).on(order.auction.eq(auction))
+                .leftJoin(auction.images, image)
                 .where(auction.id.eq(auctionId))
-                .fetchOne());
-
-        result.ifPresent(response -> response.addImageList(getImagesByAuctionId(response.getAuctionId())));
-        return result;
-    }
-
-    /**
-     * 정식 경매 상세 조회
-     */
-    public Optional<OfficialAuctionDetailResponse> findOfficialAuctionDetailById(Long userId, Long auctionId) {
-        QBid activeBid = new QBid("bidActive");
-        QBid canceledBid = new QBid("bidCanceled");
-        Optional<OfficialAuctionDetailResponse> officialAuctionDetailResponse = Optional.ofNullable(jpaQueryFactory
-                .select(
+                .orderBy(image.sequence.asc())
+                .transform(groupBy(auction.id).list(
                         Projections.constructor(
-                                OfficialAuctionDetailResponse.class,
+                                AuctionDetailSnapshot.class,
                                 auction.id,
+                                user.id,
                                 user.nickname,
                                 user.profileImageUrl,
                                 auction.name,
                                 auction.description,
                                 auction.minPrice,
-                                userIdEq(userId),
                                 auction.status,
                                 auction.category,
-                                timeRemaining().longValue(),
+                                auction.updatedAt,
+                                auction.endDateTime,
+                                auction.likeCount,
                                 auction.bidCount,
-                                activeBid.id.isNotNull(),
-                                activeBid.id,
-                                activeBid.amount.coalesce(0L),
-                                activeBid.count.coalesce(3),
-                                canceledBid.id.isNotNull(),
-                                winnerIdEq(userId),
-                                auction.winnerId.isNotNull(),
-                                order.isNotNull()
+                                auction.winnerId,
+                                order.isNotNull(),
+                                list(imageResponse())
                         )
-                )
-                .from(auction)
-                .join(auction.seller, user)
-                .leftJoin(activeBid).on(activeBid.auctionId.eq(auctionId) // 활성화된 입찰 조인
-                        .and(activeBid.status.eq(ACTIVE))
-                        .and(bidderIdEqSub(activeBid, userId)))
-                .leftJoin(canceledBid).on(canceledBid.auctionId.eq(auctionId) // 취소된 입찰 조인
-                        .and(canceledBid.status.eq(CANCELLED))
-                        .and(bidderIdEqSub(canceledBid, userId)))
-                .leftJoin(order).on(order.auction.eq(auction))
-                .where(auction.id.eq(auctionId))
-                .fetchOne());
-
-        officialAuctionDetailResponse.ifPresent(
-                response -> response.addImageList(getImagesByAuctionId(response.getAuctionId())));
-
-        return officialAuctionDetailResponse;
+                ))
+                .stream()
+                .findFirst();
     }
 
     /**
-     * 사전 경매 목록 조회
+     * 사전 경매 목록 조회 (사용자 정보 제외)
      */
-    public Page<PreAuctionResponse> findPreAuctions(Long userId, Category category, Pageable pageable) {
+    public Page<AuctionListItem> findPreAuctionListItems(Category category, Pageable pageable) {
         JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
                 .where(categoryEqIgnoreNull(category).and(auction.status.eq(PRE)));
 
-        List<PreAuctionResponse> content = baseQuery
-                .select(
-                        Projections.constructor(
-                                PreAuctionResponse.class,
-                                auction.id,
-                                auction.name,
-                                image.cdnPath,
-                                auction.minPrice.longValue(),
-                                userIdEq(userId),
-                                auction.likeCount,
-                                like.id.isNotNull()
-                        )
-                )
-                .join(auction.seller, user)
+        JPAQuery<AuctionListItem> contentQuery = baseQuery
+                .select(auctionListItem())
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .leftJoin(like).on(like.auctionId.eq(auction.id).and(likeUserIdEq(userId)))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
-     * 정식 경매 목록 조회
+     * 정식 경매 목록 조회 (사용자 정보 제외)
      */
-    public Page<OfficialAuctionResponse> findOfficialAuctions(Long userId, Category category, AuctionStatus status,
-                                                              Integer endWithinSeconds,
-                                                              Pageable pageable) {
+    public Page<AuctionListItem> findOfficialAuctionListItems(Category category, AuctionStatus status,
+                                                              Integer endWithinSeconds, Pageable pageable) {
         JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
                 .where(categoryEqIgnoreNull(category).and(auction.status.eq(status))
                         .and(timeRemainingIgnoreNull(endWithinSeconds)));
 
-        List<OfficialAuctionResponse> content = baseQuery
-                .select(
-                        Projections.constructor(
-                                OfficialAuctionResponse.class,
-                                auction.id,
-                                auction.name,
-                                image.cdnPath,
-                                auction.minPrice.longValue(),
-                                userIdEq(userId),
-                                timeRemaining().longValue(),
-                                auction.bidCount,
-                                bid.id.isNotNull()
-                        )
-                )
-                .join(auction.seller, user)
-                .leftJoin(bid).on(bid.auctionId.eq(auction.id).and(bidderIdEq(userId)).and(bid.status.eq(ACTIVE)))
+        JPAQuery<AuctionListItem> contentQuery = baseQuery
+                .select(auctionListItem())
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -237,7 +151,7 @@ public class AuctionQueryRepository {
                 .join(auction.seller, user).on(user.id.eq(userId))
                 .where(auction.status.eq(PRE));
 
-        List<PreAuctionResponse> content = baseQuery
+        JPAQuery<PreAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 PreAuctionResponse.class,
@@ -251,14 +165,9 @@ public class AuctionQueryRepository {
                         )
                 )
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -269,7 +178,7 @@ public class AuctionQueryRepository {
                 .join(like).on(like.auctionId.eq(auction.id).and(like.userId.eq(userId)))
                 .where(auction.status.eq(PRE));
 
-        List<PreAuctionResponse> content = baseQuery
+        JPAQuery<PreAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 PreAuctionResponse.class,
@@ -284,14 +193,9 @@ public class AuctionQueryRepository {
                 )
                 .join(auction.seller, user)
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -302,7 +206,7 @@ public class AuctionQueryRepository {
                 .join(auction.seller, user).on(user.id.eq(userId))
                 .where(auction.status.eq(PROCEEDING));
 
-        List<ProceedingAuctionResponse> content = baseQuery
+        JPAQuery<ProceedingAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 ProceedingAuctionResponse.class,
@@ -318,14 +222,9 @@ public class AuctionQueryRepository {
                         )
                 )
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -336,7 +235,7 @@ public class AuctionQueryRepository {
                 .join(auction.seller, user).on(user.id.eq(userId))
                 .where(auction.status.eq(ENDED));
 
-        List<EndedAuctionResponse> content = baseQuery
+        JPAQuery<EndedAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 EndedAuctionResponse.class,
@@ -354,14 +253,9 @@ public class AuctionQueryRepository {
                 )
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
                 .leftJoin(order).on(order.auction.eq(auction))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -372,7 +266,7 @@ public class AuctionQueryRepository {
                 .join(bid).on(bid.auctionId.eq(auction.id).and(bid.bidderId.eq(userId).and(bid.status.eq(ACTIVE))))
                 .where(auction.winnerId.eq(userId).and(auction.status.eq(ENDED)));
 
-        List<WonAuctionResponse> content = baseQuery
+        JPAQuery<WonAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 WonAuctionResponse.class,
@@ -391,14 +285,9 @@ public class AuctionQueryRepository {
                 .join(auction.seller, user)
                 .leftJoin(order).on(order.auction.id.eq(auction.id))
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
 
@@ -410,7 +299,7 @@ public class AuctionQueryRepository {
                 .join(bid).on(bid.auctionId.eq(auction.id).and(bid.bidderId.eq(userId).and(bid.status.eq(ACTIVE))))
                 .where(auction.winnerId.ne(userId).and(auction.status.eq(ENDED)));
 
-        List<LostAuctionResponse> content = baseQuery
+        JPAQuery<LostAuctionResponse> contentQuery = baseQuery
                 .select(
                         Projections.constructor(
                                 LostAuctionResponse.class,
@@ -426,69 +315,9 @@ public class AuctionQueryRepository {
                 )
                 .join(auction.seller, user)
                 .leftJoin(auction.images, image).on(image.sequence.eq(1))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        JPAQuery<Long> countQuery = baseQuery.select(auction.count());
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
-    }
-
-    /**
-     * 사용자가 참여한 경매 통계 조회
-     */
-    public ParticipationCountsResponse getParticipationCounts(Long userId) {
-        DateTimeOperation<LocalDateTime> now = Expressions.dateTimeOperation(LocalDateTime.class,
-                DateTimeOps.CURRENT_TIMESTAMP);
-
-        BooleanExpression isEnded = auction.status.eq(ENDED)
-                .and(auction.endDateTime.before(now));
-
-        // 사용자가 참여한 경매 ID 목록을 가져옵니다.
-        List<Long> participatedAuctionIds = jpaQueryFactory
-                .select(auction.id)
-                .from(auction)
-                .join(bid).on(bid.auctionId.eq(auction.id))
-                .where(bid.bidderId.eq(userId)
-                        .and(bid.status.eq(ACTIVE)))
-                .fetch();
-
-        BooleanExpression isParticipatedAuction = auction.id.in(participatedAuctionIds);
-
-        Long proceedingCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.status.eq(PROCEEDING))
-                                .and(auction.endDateTime.after(now)))
-                        .fetchFirst())
-                .orElse(0L);
-
-        Long successCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.winnerId.eq(userId))
-                                .and(isEnded))
-                        .fetchFirst())
-                .orElse(0L);
-
-        Long failureCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.winnerId.ne(userId))
-                                .and(isEnded))
-                        .fetchFirst())
-                .orElse(0L);
-
-        return new ParticipationCountsResponse(
-                proceedingCount,
-                successCount,
-                failureCount
-        );
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(auction.count()).fetchOne());
     }
 
     /**
@@ -503,6 +332,17 @@ public class AuctionQueryRepository {
                 .fetchOne();
     }
 
+    /**
+     * (상태, 카테고리)별 경매 개수 조회 (목록 개수 재계산용)
+     */
+    public List<AuctionCount> countGroupByStatusAndCategory() {
+        return jpaQueryFactory
+                .select(Projections.constructor(AuctionCount.class, auction.status, auction.category, auction.count()))
+                .from(auction)
+                .groupBy(auction.status, auction.category)
+                .fetch();
+    }
+
 
     public List<AuctionLikeDetail> findAuctionLikeDetailsByAuctionIds(List<Long> auctionIds, Long userId) {
         return jpaQueryFactory
@@ -537,13 +377,22 @@ public class AuctionQueryRepository {
                 .fetch();
     }
 
-    private List<ImageResponse> getImagesByAuctionId(Long auctionId) {
-        return jpaQueryFactory
-                .select(new QImageResponse(image.id, image.cdnPath))
-                .from(image)
-                .where(image.auction.id.eq(auctionId))
-                .orderBy(image.sequence.asc())
-                .fetch();
+    private ConstructorExpression<ImageResponse> imageResponse() {
+        return new QImageResponse(image.id, image.cdnPath);
+    }
+
+    private ConstructorExpression<AuctionListItem> auctionListItem() {
+        return Projections.constructor(
+                AuctionListItem.class,
+                auction.id,
+                auction.name,
+                image.cdnPath,
+                auction.minPrice.longValue(),
+                auction.seller.id,
+                auction.endDateTime,
+                auction.likeCount,
+                auction.bidCount
+        );
     }
 
     private BooleanBuilder userIdEq(Long userId) {
@@ -554,14 +403,6 @@ public class AuctionQueryRepository {
         return nullSafeBuilder(() -> bid.bidderId.eq(userId));
     }
 
-    private BooleanBuilder bidderIdEqSub(QBid qBid, Long userId) {
-        return nullSafeBuilder(() -> qBid.bidderId.eq(userId));
-    }
-
-    private BooleanBuilder winnerIdEq(Long userId) {
-        return nullSafeBuilder(() -> auction.winnerId.isNotNull().and(auction.winnerId.eq(userId)));
-    }
-
     private BooleanBuilder likeUserIdEq(Long userId) {
         return nullSafeBuilder(() -> like.userId.eq(userId));
     }
@@ -0,0 +1,72 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 색인 재구성 중 변경된 경매 ID 기록 (변경 로그)
+ * <p>
+ * 재구성이 진행 중인 동안 일괄 색인기가 전송한 경매 ID를 모아 두고, 재구성 작업이 새 인덱스에 다시 반영한다. 작업이 비정상 종료되어도
+ * 기록이 계속 쌓이지 않도록 진행 표시에 만료 시간을 둔다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionReindexLogRepository {
+    private static final String ACTIVE_KEY = "auction:reindex:active";
+    private static final String CHANGES_KEY = "auction:reindex:changes";
+    private static final Duration ACTIVE_TTL = Duration.ofHours(6);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * @return 이미 다른 재구성이 진행 중이면 false
+     */
+    public boolean start(String indexName) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(ACTIVE_KEY, indexName, ACTIVE_TTL))) {
+            return false;
+        }
+        redisTemplate.delete(CHANGES_KEY);
+        return true;
+    }
+
+    public Optional<String> findActiveIndex() {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(ACTIVE_KEY)).map(String.class::cast);
+        } catch (Exception e) {
+            log.warn("색인 재구성 상태 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    public void record(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(CHANGES_KEY, auctionIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.error("색인 재구성 변경 로그 기록 실패: auctionIds={}", auctionIds, e);
+        }
+    }
+
+    public List<Long> pop(int count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(CHANGES_KEY, count);
+        if (popped == null) {
+            return List.of();
+        }
+        return popped.stream()
+                .map(value -> Long.valueOf((String) value))
+                .toList();
+    }
+
+    public void finish() {
+        redisTemplate.delete(List.of(ACTIVE_KEY, CHANGES_KEY));
+    }
+}
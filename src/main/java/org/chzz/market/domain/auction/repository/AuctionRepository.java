@@ -1,16 +1,18 @@
 package org.chzz.market.domain.auction.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
-    @Query("SELECT a.status FROM Auction a WHERE a.id = :auctionId")
-    Optional<AuctionStatus> findAuctionStatusById(Long auctionId);
-
     @Modifying
     @Query("UPDATE Auction a SET a.likeCount = a.likeCount + 1 WHERE a.id = :auctionId")
     void incrementLikeCount(Long auctionId);
@@ -28,4 +30,34 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     void decrementBidCount(Long auctionId);
 
     long countBySellerIdAndStatusIn(Long userId, AuctionStatus... status);
+
+    /**
+     * 검색 문서 생성을 위한 이미지 포함 조회 (복제 지연 없이 원본 DB에서 조회)
+     */
+    @Transactional
+    @Query("SELECT DISTINCT a FROM Auction a LEFT JOIN FETCH a.images WHERE a.id IN :auctionIds")
+    List<Auction> findAllWithImagesByIdIn(Collection<Long> auctionIds);
+
+    /**
+     * 검색 문서 카운터 부분 갱신용 조회 (복제 지연 없이 원본 DB에서 조회)
+     */
+    @Transactional
+    @Query("SELECT new org.chzz.market.domain.auction.dto.AuctionCounter(a.id, a.status, a.likeCount, a.bidCount) "
+            + "FROM Auction a WHERE a.id IN :auctionIds")
+    List<AuctionCounter> findCountersByIdIn(Collection<Long> auctionIds);
+
+    @Transactional
+    @Query("SELECT MIN(a.id) FROM Auction a")
+    Optional<Long> findMinId();
+
+    @Transactional
+    @Query("SELECT MAX(a.id) FROM Auction a")
+    Optional<Long> findMaxId();
+
+    /**
+     * (afterId, toId] 범위의 경매 ID를 순서대로 조회 (키셋 페이징)
+     */
+    @Transactional
+    @Query("SELECT a.id FROM Auction a WHERE a.id > :afterId AND a.id <= :toId ORDER BY a.id")
+    List<Long> findIdsInRange(long afterId, long toId, Pageable pageable);
 }
@@ -0,0 +1,65 @@
+package org.chzz.market.domain.auction.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionSearchSnapshot;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 결과 경매 ID 목록을 (정규화된 검색어, 상태, 정렬, 페이지) 단위로 캐싱
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionSearchCacheRepository {
+    private static final String KEY_PREFIX = "auction:search:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auction.cache.search-ttl-seconds:5}")
+    private long ttlSeconds;
+
+    public Optional<AuctionSearchSnapshot> find(String key) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue((String) cached, AuctionSearchSnapshot.class));
+        } catch (Exception e) {
+            // 캐시 장애 시 검색으로 대체
+            log.warn("검색 결과 캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String key, AuctionSearchSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + key, objectMapper.writeValueAsString(snapshot), ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 검색 버전을 키에 포함하여 해당 상태의 문서가 색인되면 이전 결과가 더 이상 조회되지 않도록 한다
+     */
+    public String generateKey(Long searchVersion, AuctionStatus status, String normalizedKeyword,
+                              Pageable pageable) {
+        String sort = pageable.getSort().stream()
+                .map(order -> order.getProperty() + "-" + order.getDirection())
+                .collect(Collectors.joining(","));
+        return status + ":" + searchVersion + ":" + sort + ":" + pageable.getPageNumber() + ":"
+                + pageable.getPageSize() + ":" + normalizedKeyword;
+    }
+}
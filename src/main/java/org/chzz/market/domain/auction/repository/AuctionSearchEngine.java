@@ -0,0 +1,61 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.util.List;
+import java.util.Set;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 경매 검색 엔진
+ * <p>
+ * {@code auction.search.engine} 설정으로 구현을 선택한다.
+ * <br> elasticsearch (기본): {@link ElasticAuctionSearchEngine}
+ * <br> lucene: {@link LuceneAuctionSearchEngine} (노드 로컬 인덱스, 테스트와 단일 노드 배포용)
+ */
+public interface AuctionSearchEngine {
+    /**
+     * 경매 목록 검색 (키워드, 상태)
+     *
+     * @param withFacets 카테고리, 가격 구간, 상태별 개수 집계 포함 여부
+     */
+    AuctionSearchResult search(String keyword, AuctionStatus status, Pageable pageable, boolean withFacets);
+
+    /**
+     * 커서 기반 경매 검색 (요청 크기보다 1건 더 조회하며 전체 개수는 계산하지 않음)
+     *
+     * @param searchAfter 이전 페이지 마지막 문서의 정렬 값 (첫 페이지는 null)
+     */
+    AuctionSearchResult searchAfter(String keyword, AuctionStatus status, Pageable pageable, String pointInTimeId,
+                                    List<Object> searchAfter);
+
+    String openPointInTime(AuctionStatus status);
+
+    void closePointInTime(String pointInTimeId);
+
+    /**
+     * ID 로 경매 문서 조회 (요청 순서 유지, 없는 문서 제외)
+     */
+    List<AuctionDocument> findAllByIds(AuctionStatus status, List<Long> auctionIds);
+
+    /**
+     * 경매 이름 자동완성 (중복 제거)
+     */
+    List<String> suggestNames(String prefix, int size);
+
+    /**
+     * 경매 문서를 색인하고 삭제된 경매의 문서를 제거
+     *
+     * @return 반영에 실패한 경매 ID
+     */
+    Set<Long> write(List<AuctionDocument> documents, List<Long> deletedIds);
+
+    /**
+     * 경매 문서의 좋아요/입찰 수만 갱신
+     *
+     * @return 다시 시도해야 하는 경매 ID
+     */
+    Set<Long> updateCounters(List<AuctionCounter> counters);
+}
@@ -0,0 +1,244 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.chzz.market.common.util.QuerydslUtil.fetchPage;
+import static org.chzz.market.domain.auction.entity.AuctionStatus.ENDED;
+import static org.chzz.market.domain.auction.entity.AuctionStatus.PRE;
+import static org.chzz.market.domain.auction.entity.AuctionStatus.PROCEEDING;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.BIDDER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.SELLER;
+import static org.chzz.market.domain.auction.entity.QAuction.auction;
+import static org.chzz.market.domain.auction.entity.QAuctionSummary.auctionSummary;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.util.QuerydslOrderTable;
+import org.chzz.market.domain.auction.dto.response.EndedAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.ProceedingAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.AuctionSummary.Relation;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository.AuctionOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 마이페이지 경매 목록 조회
+ * <p>
+ * 모든 목록은 auction_summary 테이블을 (user_id, relation, status) 인덱스로 조회한다. 좋아요/입찰자 수는 이벤트마다 경매의 모든
+ * 요약 행을 갱신하지 않도록 조회 시점에 auction 테이블에서 기본 키로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionSummaryQueryRepository {
+    /**
+     * 경매 정렬 타입을 요약 테이블 컬럼으로 옮긴 정렬 테이블 (좋아요/입찰자 수는 auction 컬럼)
+     */
+    private static final QuerydslOrderTable SUMMARY_ORDER_TABLE = QuerydslOrderTable.from(Map.of(
+            AuctionOrder.POPULARITY.getName(), auction.bidCount.desc(),
+            AuctionOrder.LIKES.getName(), auction.likeCount.desc(),
+            AuctionOrder.EXPENSIVE.getName(), auctionSummary.minPrice.desc(),
+            AuctionOrder.CHEAP.getName(), auctionSummary.minPrice.asc(),
+            AuctionOrder.IMMEDIATELY.getName(), auctionSummary.endDateTime.asc(),
+            AuctionOrder.NEWEST.getName(), auctionSummary.auctionCreatedAt.desc()
+    ));
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 사용자가 등록한 사전경매 목록 조회
+     */
+    public Page<PreAuctionResponse> findPreAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, SELLER, PRE);
+        JPAQuery<PreAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                PreAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                Expressions.TRUE,
+                                auction.likeCount,
+                                Expressions.FALSE
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 사용자가 좋아요한 사전 경매목록 조회
+     */
+    public Page<PreAuctionResponse> findLikedAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, LIKER, PRE);
+        JPAQuery<PreAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                PreAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                auctionSummary.sellerId.eq(userId),
+                                auction.likeCount,
+                                Expressions.TRUE
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 사용자가 등록한 진행 중인 경매 목록 조회
+     */
+    public Page<ProceedingAuctionResponse> findProceedingAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, SELLER, PROCEEDING);
+        JPAQuery<ProceedingAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                ProceedingAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                Expressions.TRUE,
+                                timeRemaining().longValue(),
+                                auctionSummary.status,
+                                auction.bidCount,
+                                auctionSummary.auctionCreatedAt
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 사용자가 등록한 종료된 경매 목록 조회
+     */
+    public Page<EndedAuctionResponse> findEndedAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, SELLER, ENDED);
+        JPAQuery<EndedAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                EndedAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                Expressions.TRUE,
+                                auction.bidCount,
+                                auctionSummary.winningBidAmount.coalesce(0L),
+                                auctionSummary.winnerId.isNotNull(),
+                                auctionSummary.orderId.isNotNull(),
+                                auctionSummary.auctionCreatedAt
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 사용자가 낙찰한 경매 목록 조회
+     */
+    public Page<WonAuctionResponse> findWonAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, BIDDER, ENDED).and(auctionSummary.winnerId.eq(userId));
+        JPAQuery<WonAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                WonAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                Expressions.FALSE,
+                                auction.bidCount,
+                                auctionSummary.endDateTime,
+                                auctionSummary.bidAmount,
+                                auctionSummary.orderId.isNotNull(),
+                                auctionSummary.orderId
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 사용자가 낙찰 실패한 경매 목록 조회
+     */
+    public Page<LostAuctionResponse> findLostAuctionsByUserId(Long userId, Pageable pageable) {
+        BooleanExpression condition = relationEq(userId, BIDDER, ENDED).and(auctionSummary.winnerId.ne(userId));
+        JPAQuery<LostAuctionResponse> contentQuery = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                LostAuctionResponse.class,
+                                auctionSummary.auctionId,
+                                auctionSummary.auctionName,
+                                auctionSummary.imageUrl,
+                                auctionSummary.minPrice,
+                                Expressions.FALSE,
+                                auction.bidCount,
+                                auctionSummary.endDateTime,
+                                auctionSummary.bidAmount
+                        )
+                )
+                .from(auctionSummary)
+                .join(auction).on(auction.id.eq(auctionSummary.auctionId))
+                .where(condition)
+                .orderBy(getOrderSpecifiers(pageable));
+
+        return fetchPage(contentQuery, pageable, countQuery(condition)::fetchOne);
+    }
+
+    private JPAQuery<Long> countQuery(BooleanExpression condition) {
+        return jpaQueryFactory
+                .select(auctionSummary.count())
+                .from(auctionSummary)
+                .where(condition);
+    }
+
+    private BooleanExpression relationEq(Long userId, Relation relation, AuctionStatus status) {
+        return auctionSummary.userId.eq(userId)
+                .and(auctionSummary.relation.eq(relation))
+                .and(auctionSummary.status.eq(status));
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable) {
+        return SUMMARY_ORDER_TABLE.resolve(pageable.getSort());
+    }
+
+    private static NumberExpression<Integer> timeRemaining() {
+        return Expressions.numberTemplate(Integer.class,
+                "GREATEST(0, TIMESTAMPDIFF(SECOND, CURRENT_TIMESTAMP, {0}))", auctionSummary.endDateTime);
+    }
+}
@@ -0,0 +1,62 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.AuctionSummary;
+import org.chzz.market.domain.auction.entity.AuctionSummary.Relation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface AuctionSummaryRepository extends JpaRepository<AuctionSummary, Long> {
+    Optional<AuctionSummary> findByUserIdAndAuctionIdAndRelation(Long userId, Long auctionId, Relation relation);
+
+    @Modifying
+    @Query("""
+            UPDATE AuctionSummary s
+            SET s.auctionName = :auctionName, s.imageUrl = :imageUrl, s.minPrice = :minPrice
+            WHERE s.auctionId = :auctionId
+            """)
+    void updateAuctionInfo(Long auctionId, String auctionName, String imageUrl, Long minPrice);
+
+    @Modifying
+    @Query("""
+            UPDATE AuctionSummary s
+            SET s.status = :status, s.endDateTime = :endDateTime
+            WHERE s.auctionId = :auctionId
+            """)
+    void updateStatus(Long auctionId, AuctionStatus status, LocalDateTime endDateTime);
+
+    @Modifying
+    @Query("""
+            UPDATE AuctionSummary s
+            SET s.status = org.chzz.market.domain.auction.entity.AuctionStatus.ENDED,
+                s.winnerId = :winnerId, s.winningBidAmount = :winningBidAmount
+            WHERE s.auctionId = :auctionId
+            """)
+    void updateEnded(Long auctionId, Long winnerId, Long winningBidAmount);
+
+    @Modifying
+    @Query("""
+            UPDATE AuctionSummary s SET s.bidAmount = :bidAmount
+            WHERE s.userId = :userId AND s.auctionId = :auctionId
+              AND s.relation = org.chzz.market.domain.auction.entity.AuctionSummary.Relation.BIDDER
+            """)
+    void updateBidAmount(Long userId, Long auctionId, Long bidAmount);
+
+    @Modifying
+    @Query("UPDATE AuctionSummary s SET s.orderId = :orderId WHERE s.auctionId = :auctionId")
+    void updateOrderId(Long auctionId, Long orderId);
+
+    @Modifying
+    @Query("DELETE FROM AuctionSummary s WHERE s.auctionId = :auctionId")
+    void deleteByAuctionId(Long auctionId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM AuctionSummary s
+            WHERE s.userId = :userId AND s.auctionId = :auctionId AND s.relation = :relation
+            """)
+    void deleteRelation(Long userId, Long auctionId, Relation relation);
+}
@@ -0,0 +1,79 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 경매 상세/목록 변경 버전 카운터
+ * <p>
+ * 카운터는 변경 시에만 생성되며 TTL 이 지나면 사라진다. 조회 시에는 생성하지 않으므로 변경 이력이 없는 대상은 버전이 없다.
+ * Redis 초기화나 만료 후에도 이전 버전과 겹치지 않도록 카운터가 없으면 현재 시각(ms)으로 시작한다.
+ */
+@Slf4j
+@Repository
+public class AuctionVersionRepository {
+    private static final String DETAIL_KEY_PREFIX = "auction:version:detail:";
+    private static final String LIST_KEY_PREFIX = "auction:version:list:";
+    private static final String SEARCH_KEY_PREFIX = "auction:version:search:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public AuctionVersionRepository(RedisTemplate<String, Object> redisTemplate,
+                                    @Value("${auction.cache.version-ttl-seconds:86400}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Optional<Long> findDetailVersion(Long auctionId) {
+        return find(DETAIL_KEY_PREFIX + auctionId);
+    }
+
+    public Optional<Long> findListVersion(AuctionStatus status) {
+        return find(LIST_KEY_PREFIX + status);
+    }
+
+    /**
+     * 검색 결과 캐시 버전 (검색 색인에 반영된 변경 기준)
+     */
+    public Optional<Long> findSearchVersion(AuctionStatus status) {
+        return find(SEARCH_KEY_PREFIX + status);
+    }
+
+    public void increaseDetailVersion(Long auctionId) {
+        increase(DETAIL_KEY_PREFIX + auctionId);
+    }
+
+    public void increaseListVersion(AuctionStatus status) {
+        increase(LIST_KEY_PREFIX + status);
+    }
+
+    public void increaseSearchVersion(AuctionStatus status) {
+        increase(SEARCH_KEY_PREFIX + status);
+    }
+
+    private Optional<Long> find(String key) {
+        try {
+            Object version = redisTemplate.opsForValue().get(key);
+            return Optional.ofNullable(version).map(value -> Long.valueOf((String) value));
+        } catch (Exception e) {
+            log.warn("경매 버전 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void increase(String key) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()), ttl);
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("경매 버전 증가 실패: key={}", key, e);
+        }
+    }
+}
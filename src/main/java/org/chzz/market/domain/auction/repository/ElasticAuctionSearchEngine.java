@@ -0,0 +1,143 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+import static org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository.INDEX_ALIASES;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.dto.AuctionIndexNames;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult.Hit;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Elasticsearch 경매 검색 엔진
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+public class ElasticAuctionSearchEngine implements AuctionSearchEngine {
+    private final AuctionElasticQueryRepository auctionElasticQueryRepository;
+
+    @Override
+    public AuctionSearchResult search(String keyword, AuctionStatus status, Pageable pageable, boolean withFacets) {
+        SearchHits<AuctionDocument> searchHits = auctionElasticQueryRepository.searchAuctions(keyword, status,
+                pageable, withFacets);
+        return new AuctionSearchResult(toHits(searchHits), searchHits.getTotalHits(), null,
+                withFacets ? auctionElasticQueryRepository.extractFacets(searchHits) : null);
+    }
+
+    /**
+     * 만료되었거나 없는 point-in-time 은 잘못된 커서로 응답하고, 그 외 오류는 그대로 전달한다.
+     */
+    @Override
+    public AuctionSearchResult searchAfter(String keyword, AuctionStatus status, Pageable pageable,
+                                           String pointInTimeId, List<Object> searchAfter) {
+        SearchHits<AuctionDocument> searchHits;
+        try {
+            searchHits = auctionElasticQueryRepository.searchAuctionsAfter(keyword, status, pageable, pointInTimeId,
+                    searchAfter);
+        } catch (DataAccessException e) {
+            if (isPointInTimeMissing(e)) {
+                throw new AuctionException(INVALID_SEARCH_CURSOR);
+            }
+            throw e;
+        }
+        return new AuctionSearchResult(toHits(searchHits), 0, searchHits.getPointInTimeId(), null);
+    }
+
+    @Override
+    public String openPointInTime(AuctionStatus status) {
+        return auctionElasticQueryRepository.openPointInTime(status);
+    }
+
+    @Override
+    public void closePointInTime(String pointInTimeId) {
+        auctionElasticQueryRepository.closePointInTime(pointInTimeId);
+    }
+
+    @Override
+    public List<AuctionDocument> findAllByIds(AuctionStatus status, List<Long> auctionIds) {
+        return auctionElasticQueryRepository.findAllByIds(status, auctionIds);
+    }
+
+    @Override
+    public List<String> suggestNames(String prefix, int size) {
+        return auctionElasticQueryRepository.suggestNames(prefix, size);
+    }
+
+    @Override
+    public Set<Long> write(List<AuctionDocument> documents, List<Long> deletedIds) {
+        return write(INDEX_ALIASES, documents, deletedIds);
+    }
+
+    /**
+     * 상태에 해당하는 인덱스에 색인하고, 삭제된 경매는 두 인덱스에서 문서를 삭제 (색인 재구성 시 새 인덱스 지정)
+     * <p>
+     * 종료된 경매는 보관 인덱스에 색인한 뒤 라이브 인덱스의 문서를 삭제하여 옮긴다.
+     */
+    public Set<Long> write(AuctionIndexNames indices, List<AuctionDocument> documents, List<Long> deletedIds) {
+        Map<String, List<AuctionDocument>> documentsByIndex = new LinkedHashMap<>();
+        documents.forEach(document -> documentsByIndex
+                .computeIfAbsent(indices.resolve(document.getAuctionStatus()), index -> new ArrayList<>())
+                .add(document));
+
+        Set<Long> failedIds = new HashSet<>();
+        documentsByIndex.forEach((indexName, indexDocuments) ->
+                failedIds.addAll(auctionElasticQueryRepository.bulkIndex(indexDocuments, indexName)));
+
+        // 보관 인덱스에 색인된 종료 경매만 라이브 인덱스에서 삭제
+        List<Long> archivedIds = documentsByIndex.getOrDefault(indices.archive(), List.of()).stream()
+                .map(AuctionDocument::getAuctionId)
+                .filter(auctionId -> !failedIds.contains(auctionId))
+                .toList();
+        failedIds.addAll(auctionElasticQueryRepository.deleteByIds(archivedIds, indices.live()));
+
+        failedIds.addAll(auctionElasticQueryRepository.deleteAll(deletedIds, indices.live()));
+        failedIds.addAll(auctionElasticQueryRepository.deleteAll(deletedIds, indices.archive()));
+        return failedIds;
+    }
+
+    @Override
+    public Set<Long> updateCounters(List<AuctionCounter> counters) {
+        return auctionElasticQueryRepository.updateCounters(counters);
+    }
+
+    /**
+     * 보관 인덱스로 옮기는 중인 종료 경매는 두 인덱스에 모두 있을 수 있으므로 경매 ID 로 중복을 제거한다. (커서 검색은 접기를 쓸 수
+     * 없고, 두 문서의 정렬 값이 같아 다음 페이지의 search_after 에서는 제외된다)
+     */
+    private static List<Hit> toHits(SearchHits<AuctionDocument> searchHits) {
+        Set<Long> auctionIds = new HashSet<>();
+        return searchHits.getSearchHits().stream()
+                .filter(hit -> auctionIds.add(hit.getContent().getAuctionId()))
+                .map(hit -> new Hit(hit.getContent(), hit.getSortValues()))
+                .toList();
+    }
+
+    /**
+     * point-in-time 이 만료되었거나 없으면 Elasticsearch 는 404 (search_context_missing_exception) 로 응답한다
+     */
+    private static boolean isPointInTimeMissing(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ElasticsearchException elasticsearchException) {
+                return elasticsearchException.status() == 404;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,489 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.AUCTION_STATUS;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.BID_COUNT;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.CATEGORY;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.CATEGORY_KEYWORD;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.CREATE_AT;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.DESCRIPTION;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.LIKE_COUNT;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.MIN_PRICE;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.NAME;
+import static org.chzz.market.domain.auction.entity.AuctionDocument.Constant.NAME_AUTOCOMPLETE;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanTokenizerFactory;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets.PriceBucket;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult.Hit;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 내장 Lucene 경매 검색 엔진
+ * <p>
+ * Elasticsearch 인덱스 설정과 같이 이름/설명/카테고리는 nori 형태소 분석, 자동완성은 nori 토큰의 edge n-gram 으로 색인한다.
+ * 문서 원본은 JSON 으로 저장하여 조회와 카운터 갱신에 사용하고, 정렬/집계 필드는 doc values 로 둔다.
+ * <p>
+ * 인덱스는 노드 로컬 디렉터리에 있으므로 색인 릴레이가 실행되는 단일 노드 배포와 테스트에서만 사용한다 (여러 노드 실행은
+ * {@link org.chzz.market.domain.auction.service.LuceneNodeGuard} 가 감지). point-in-time 이 없어 커서 검색은 매 요청 최신
+ * 인덱스를 search_after 로 조회한다.
+ */
+@Slf4j
+public class LuceneAuctionSearchEngine implements AuctionSearchEngine, Closeable {
+    /**
+     * 커서에 담기는 point-in-time ID (Lucene 은 사용하지 않음)
+     */
+    static final String POINT_IN_TIME_ID = "lucene";
+
+    private static final String ID = "_id";
+    private static final String AUCTION_ID = "auctionId";
+    private static final String SOURCE = "_source";
+    private static final List<String> KEYWORD_FIELDS = List.of(NAME, DESCRIPTION, CATEGORY);
+    private static final Set<String> SORT_FIELDS = Set.of(CREATE_AT, MIN_PRICE);
+
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final QueryBuilder queryBuilder;
+    private final QueryBuilder autocompleteQueryBuilder;
+    private final AuctionPageableAdjuster pageableAdjuster;
+    private final ObjectMapper objectMapper;
+    private final long priceInterval;
+
+    public LuceneAuctionSearchEngine(Directory directory, AuctionPageableAdjuster pageableAdjuster,
+                                     ObjectMapper objectMapper, long priceInterval) throws IOException {
+        Analyzer analyzer = new PerFieldAnalyzerWrapper(new KoreanAnalyzer(), Map.of(NAME_AUTOCOMPLETE,
+                CustomAnalyzer.builder()
+                        .withTokenizer(KoreanTokenizerFactory.class, "decompoundMode", "mixed")
+                        .addTokenFilter(LowerCaseFilterFactory.class)
+                        .addTokenFilter(EdgeNGramFilterFactory.class, "minGramSize", "1", "maxGramSize", "20")
+                        .build()));
+        this.directory = directory;
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        this.queryBuilder = new QueryBuilder(analyzer);
+        this.autocompleteQueryBuilder = new QueryBuilder(CustomAnalyzer.builder()
+                .withTokenizer(KoreanTokenizerFactory.class, "decompoundMode", "mixed")
+                .addTokenFilter(LowerCaseFilterFactory.class)
+                .build());
+        this.pageableAdjuster = pageableAdjuster;
+        this.objectMapper = objectMapper;
+        this.priceInterval = priceInterval;
+    }
+
+    /**
+     * 집계를 함께 요청하면 상태별 개수는 키워드 조건만으로, 카테고리/가격 집계는 상태 조건까지 적용하여 한 번의 순회로 계산한다.
+     */
+    @Override
+    public AuctionSearchResult search(String keyword, AuctionStatus status, Pageable pageable, boolean withFacets) {
+        Query keywordQuery = keywordQuery(keyword);
+        Query query = filterByStatus(keywordQuery, status);
+        int offset = (int) pageable.getOffset();
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize(), toSort(pageable));
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            List<Hit> hits = toHits(searcher,
+                    Arrays.copyOfRange(scoreDocs, Math.min(offset, scoreDocs.length), scoreDocs.length));
+            return new AuctionSearchResult(hits, searcher.count(query), null,
+                    withFacets ? collectFacets(searcher, keywordQuery, status) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public AuctionSearchResult searchAfter(String keyword, AuctionStatus status, Pageable pageable,
+                                           String pointInTimeId, List<Object> searchAfter) {
+        Query query = filterByStatus(keywordQuery(keyword), status);
+        Sort sort = toSort(pageable);
+        IndexSearcher searcher = acquire();
+        try {
+            int size = pageable.getPageSize() + 1; // 다음 페이지 존재 여부 확인용 1건 추가
+            TopDocs topDocs = searchAfter == null
+                    ? searcher.search(query, size, sort)
+                    : searcher.searchAfter(toFieldDoc(sort, searchAfter), query, size, sort);
+            return new AuctionSearchResult(toHits(searcher, topDocs.scoreDocs), 0, POINT_IN_TIME_ID, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public String openPointInTime(AuctionStatus status) {
+        return POINT_IN_TIME_ID;
+    }
+
+    @Override
+    public void closePointInTime(String pointInTimeId) {
+    }
+
+    @Override
+    public List<AuctionDocument> findAllByIds(AuctionStatus status, List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return List.of();
+        }
+        IndexSearcher searcher = acquire();
+        try {
+            Map<Long, AuctionDocument> documents = findSources(searcher, auctionIds).entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> toDocument(entry.getValue())));
+            return auctionIds.stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public List<String> suggestNames(String prefix, int size) {
+        Query prefixQuery = autocompleteQueryBuilder.createBooleanQuery(NAME_AUTOCOMPLETE, prefix, Occur.MUST);
+        if (prefixQuery == null) {
+            return List.of();
+        }
+        // Elasticsearch 는 라이브 인덱스만 조회하므로 같은 결과가 되도록 종료된 경매를 제외한다
+        Query query = new BooleanQuery.Builder()
+                .add(prefixQuery, Occur.MUST)
+                .add(new TermQuery(new Term(AUCTION_STATUS, AuctionStatus.ENDED.name())), Occur.MUST_NOT)
+                .build();
+        IndexSearcher searcher = acquire();
+        try {
+            return toHits(searcher, searcher.search(query, size * 2).scoreDocs).stream()
+                    .map(hit -> hit.document().getName())
+                    .distinct()
+                    .limit(size)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 경매 ID 로 기존 문서를 교체하고 커밋한 뒤 검색기를 갱신
+     */
+    @Override
+    public synchronized Set<Long> write(List<AuctionDocument> documents, List<Long> deletedIds) {
+        try {
+            for (AuctionDocument document : documents) {
+                indexWriter.updateDocument(idTerm(document.getAuctionId()), toLuceneDocument(document));
+            }
+            indexWriter.deleteDocuments(deletedIds.stream().map(this::idTerm).toArray(Term[]::new));
+            commit();
+            return Set.of();
+        } catch (IOException e) {
+            log.error("Lucene 경매 색인 실패: count={}", documents.size() + deletedIds.size(), e);
+            Set<Long> failedIds = new HashSet<>(deletedIds);
+            documents.forEach(document -> failedIds.add(document.getAuctionId()));
+            return failedIds;
+        }
+    }
+
+    /**
+     * 저장된 원본의 카운터만 바꾸어 문서를 교체 (색인되지 않은 문서는 이후 전체 색인에 포함되므로 건너뜀)
+     */
+    @Override
+    public synchronized Set<Long> updateCounters(List<AuctionCounter> counters) {
+        if (counters.isEmpty()) {
+            return Set.of();
+        }
+        IndexSearcher searcher = acquire();
+        try {
+            Map<Long, ObjectNode> sources = findSources(searcher,
+                    counters.stream().map(AuctionCounter::auctionId).toList());
+            for (AuctionCounter counter : counters) {
+                ObjectNode source = sources.get(counter.auctionId());
+                if (source == null) {
+                    continue;
+                }
+                source.put(LIKE_COUNT, counter.likeCount());
+                source.put(BID_COUNT, counter.bidCount());
+                indexWriter.updateDocument(idTerm(counter.auctionId()), toLuceneDocument(toDocument(source)));
+            }
+            commit();
+            return Set.of();
+        } catch (IOException e) {
+            log.error("Lucene 카운터 갱신 실패: count={}", counters.size(), e);
+            return counters.stream()
+                    .map(AuctionCounter::auctionId)
+                    .collect(Collectors.toSet());
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 색인된 문서가 없는지 여부 (기동 시 전체 색인 대상 확인)
+     */
+    public boolean isEmpty() {
+        IndexSearcher searcher = acquire();
+        try {
+            return searcher.getIndexReader().numDocs() == 0;
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private Query keywordQuery(String keyword) {
+        List<Query> fieldQueries = KEYWORD_FIELDS.stream()
+                .map(field -> queryBuilder.createBooleanQuery(field, keyword))
+                .filter(Objects::nonNull)
+                .toList();
+        // multi_match(best_fields) 와 같이 가장 잘 일치하는 필드의 점수 사용
+        return fieldQueries.isEmpty() ? new MatchNoDocsQuery() : new DisjunctionMaxQuery(fieldQueries, 0f);
+    }
+
+    private static Query filterByStatus(Query keywordQuery, AuctionStatus status) {
+        return new BooleanQuery.Builder()
+                .add(keywordQuery, Occur.MUST)
+                .add(new TermQuery(new Term(AUCTION_STATUS, status.name())), Occur.FILTER)
+                .build();
+    }
+
+    /**
+     * 요청 정렬 뒤에 경매 ID 를 보조 정렬로 추가
+     */
+    private Sort toSort(Pageable pageable) {
+        List<SortField> sortFields = new ArrayList<>();
+        pageableAdjuster.adjustPageable(pageable).getSort().stream()
+                .filter(order -> SORT_FIELDS.contains(order.getProperty()))
+                .forEach(order -> sortFields.add(
+                        new SortField(order.getProperty(), SortField.Type.LONG, order.isDescending())));
+        sortFields.add(new SortField(AUCTION_ID, SortField.Type.LONG));
+        return new Sort(sortFields.toArray(SortField[]::new));
+    }
+
+    private static FieldDoc toFieldDoc(Sort sort, List<Object> searchAfter) {
+        if (searchAfter.size() != sort.getSort().length
+                || !searchAfter.stream().allMatch(Number.class::isInstance)) {
+            throw new AuctionException(INVALID_SEARCH_CURSOR);
+        }
+        Object[] fields = searchAfter.stream()
+                .map(value -> ((Number) value).longValue())
+                .toArray();
+        return new FieldDoc(Integer.MAX_VALUE, Float.NaN, fields);
+    }
+
+    private List<Hit> toHits(IndexSearcher searcher, ScoreDoc[] scoreDocs) throws IOException {
+        StoredFields storedFields = searcher.storedFields();
+        List<Hit> hits = new ArrayList<>(scoreDocs.length);
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            AuctionDocument document = toDocument(readSource(storedFields, scoreDoc.doc));
+            List<Object> sortValues = scoreDoc instanceof FieldDoc fieldDoc
+                    ? Arrays.asList(fieldDoc.fields)
+                    : List.of();
+            hits.add(new Hit(document, sortValues));
+        }
+        return hits;
+    }
+
+    private Map<Long, ObjectNode> findSources(IndexSearcher searcher, List<Long> auctionIds) throws IOException {
+        Query query = new TermInSetQuery(ID, auctionIds.stream()
+                .map(auctionId -> new BytesRef(String.valueOf(auctionId)))
+                .toList());
+        StoredFields storedFields = searcher.storedFields();
+        Map<Long, ObjectNode> sources = new HashMap<>();
+        for (ScoreDoc scoreDoc : searcher.search(query, auctionIds.size()).scoreDocs) {
+            ObjectNode source = readSource(storedFields, scoreDoc.doc);
+            sources.put(source.get(AUCTION_ID).asLong(), source);
+        }
+        return sources;
+    }
+
+    private AuctionSearchFacets collectFacets(IndexSearcher searcher, Query keywordQuery, AuctionStatus status)
+            throws IOException {
+        Map<AuctionStatus, Long> statuses = new EnumMap<>(AuctionStatus.class);
+        Map<String, Long> categoryCounts = new HashMap<>();
+        TreeMap<Long, Long> priceCounts = new TreeMap<>();
+        searcher.search(keywordQuery, new SimpleCollector() {
+            private SortedDocValues statusValues;
+            private SortedDocValues categoryValues;
+            private NumericDocValues priceValues;
+
+            @Override
+            protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                statusValues = DocValues.getSorted(context.reader(), AUCTION_STATUS);
+                categoryValues = DocValues.getSorted(context.reader(), CATEGORY_KEYWORD);
+                priceValues = DocValues.getNumeric(context.reader(), MIN_PRICE);
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                if (!statusValues.advanceExact(doc)) {
+                    return;
+                }
+                AuctionStatus docStatus = AuctionStatus.valueOf(
+                        statusValues.lookupOrd(statusValues.ordValue()).utf8ToString());
+                statuses.merge(docStatus, 1L, Long::sum);
+                if (docStatus != status) {
+                    return;
+                }
+                if (categoryValues.advanceExact(doc)) {
+                    categoryCounts.merge(categoryValues.lookupOrd(categoryValues.ordValue()).utf8ToString(), 1L,
+                            Long::sum);
+                }
+                if (priceValues.advanceExact(doc)) {
+                    priceCounts.merge(Math.floorDiv(priceValues.longValue(), priceInterval) * priceInterval, 1L,
+                            Long::sum);
+                }
+            }
+
+            @Override
+            public ScoreMode scoreMode() {
+                return ScoreMode.COMPLETE_NO_SCORES;
+            }
+        });
+
+        Map<String, Long> categories = new LinkedHashMap<>();
+        categoryCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> categories.put(entry.getKey(), entry.getValue()));
+        List<PriceBucket> prices = priceCounts.entrySet().stream()
+                .map(entry -> new PriceBucket(entry.getKey(), entry.getKey() + priceInterval, entry.getValue()))
+                .toList();
+        return new AuctionSearchFacets(categories, prices, statuses);
+    }
+
+    private Document toLuceneDocument(AuctionDocument auctionDocument) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(auctionDocument.getAuctionId()), Store.NO));
+        document.add(new NumericDocValuesField(AUCTION_ID, auctionDocument.getAuctionId()));
+        document.add(new StoredField(SOURCE, objectMapper.writeValueAsBytes(auctionDocument)));
+
+        document.add(new TextField(NAME, auctionDocument.getName(), Store.NO));
+        document.add(new TextField(NAME_AUTOCOMPLETE, auctionDocument.getName(), Store.NO));
+        if (auctionDocument.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, auctionDocument.getDescription(), Store.NO));
+        }
+        document.add(new TextField(CATEGORY, auctionDocument.getCategory(), Store.NO));
+        document.add(new SortedDocValuesField(CATEGORY_KEYWORD, new BytesRef(auctionDocument.getCategory())));
+        document.add(new StringField(AUCTION_STATUS, auctionDocument.getAuctionStatus().name(), Store.NO));
+        document.add(new SortedDocValuesField(AUCTION_STATUS,
+                new BytesRef(auctionDocument.getAuctionStatus().name())));
+        document.add(new NumericDocValuesField(MIN_PRICE, auctionDocument.getMinPrice()));
+        if (auctionDocument.getCreateAt() != null) {
+            document.add(new NumericDocValuesField(CREATE_AT,
+                    auctionDocument.getCreateAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+        return document;
+    }
+
+    private ObjectNode readSource(StoredFields storedFields, int doc) throws IOException {
+        BytesRef source = storedFields.document(doc).getBinaryValue(SOURCE);
+        return (ObjectNode) objectMapper.readTree(source.bytes, source.offset, source.length);
+    }
+
+    private AuctionDocument toDocument(ObjectNode source) {
+        try {
+            return objectMapper.treeToValue(source, AuctionDocument.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Term idTerm(Long auctionId) {
+        return new Term(ID, String.valueOf(auctionId));
+    }
+
+    private void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Lucene 검색기 반환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 시간 구간별 인기 검색어 점수 (구간마다 sorted set 하나)
+ * <p>
+ * 각 노드가 구간 동안 집계한 상위 검색어를 같은 구간 키에 더하므로 구간 키에는 클러스터 전체 점수가 쌓인다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TrendingKeywordRepository {
+    private static final String KEY_PREFIX = "auction:search:trending:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void merge(long window, Map<String, Long> counts, Duration ttl) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        String key = KEY_PREFIX + window;
+        try {
+            counts.forEach((keyword, count) -> redisTemplate.opsForZSet().incrementScore(key, keyword, count));
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("인기 검색어 병합 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 구간별 상위 검색어 점수를 합산
+     *
+     * @param limitPerWindow 구간마다 조회할 상위 검색어 수
+     */
+    public Map<String, Double> sumTopScores(List<Long> windows, int limitPerWindow) {
+        Map<String, Double> scores = new HashMap<>();
+        for (Long window : windows) {
+            try {
+                Set<TypedTuple<Object>> top = redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(KEY_PREFIX + window, 0, limitPerWindow - 1);
+                if (top == null) {
+                    continue;
+                }
+                top.forEach(tuple -> scores.merge((String) tuple.getValue(), tuple.getScore(), Double::sum));
+            } catch (Exception e) {
+                log.warn("인기 검색어 조회 실패: window={}", window, e);
+            }
+        }
+        return scores;
+    }
+}
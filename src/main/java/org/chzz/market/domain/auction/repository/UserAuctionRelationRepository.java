@@ -0,0 +1,155 @@
+package org.chzz.market.domain.auction.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionSummary.Relation;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 좋아요/입찰한 경매 ID 집합
+ * <p>
+ * 검색 결과의 사용자별 표시(좋아요 여부, 참여 여부)를 DB 조회 없이 판단하기 위해 사용한다. 적재 여부를 구분하기 위해 집합에는 항상
+ * 표시값이 포함되며, 적재되지 않은 집합은 변경하지 않아 일부만 담긴 집합이 조회되지 않도록 한다.
+ * <p>
+ * 변경마다 집합의 버전을 올리고, 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 반영한다(Lua 스크립트로 원자적으로 비교 후 적재).
+ * DB 조회와 적재 사이에 커밋된 변경이 있으면 적재를 건너뛰어, 변경 전 목록이 집합을 덮어쓰지 않도록 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserAuctionRelationRepository {
+    private static final String KEY_PREFIX = "user:auction:";
+    private static final String LOADED_MARKER = "0";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS[1]: 집합, KEYS[2]: 버전 / ARGV[1]: 기대 버전, ARGV[2]: TTL(초), ARGV[3..]: 표시값과 경매 ID
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 집합, KEYS[2]: 버전 / ARGV[1]: add|remove, ARGV[2]: 경매 ID, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> MUTATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                if ARGV[1] == 'add' then
+                    redis.call('SADD', KEYS[1], ARGV[2])
+                else
+                    redis.call('SREM', KEYS[1], ARGV[2])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * @return 조회한 경매 중 관계가 있는 경매 ID (집합이 적재되지 않았으면 empty)
+     */
+    public Optional<Set<Long>> findRelatedAuctionIds(Long userId, Relation relation, Collection<Long> auctionIds) {
+        String key = generateKey(userId, relation);
+        Object[] members = Stream.concat(Stream.of(LOADED_MARKER), auctionIds.stream().map(String::valueOf))
+                .toArray();
+        try {
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members);
+            if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+                return Optional.empty();
+            }
+            Set<Long> related = new HashSet<>();
+            for (Long auctionId : auctionIds) {
+                if (Boolean.TRUE.equals(result.get(String.valueOf(auctionId)))) {
+                    related.add(auctionId);
+                }
+            }
+            return Optional.of(related);
+        } catch (Exception e) {
+            log.warn("사용자 경매 관계 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 조회 전에 읽어 두는 집합 버전 (변경된 적이 없으면 0)
+     *
+     * @return 조회에 실패하면 empty (적재하지 않음)
+     */
+    public Optional<String> findVersion(Long userId, Relation relation) {
+        String key = generateKey(userId, relation);
+        try {
+            Object version = redisTemplate.opsForValue().get(key + VERSION_SUFFIX);
+            return Optional.of(version == null ? "0" : (String) version);
+        } catch (Exception e) {
+            log.warn("사용자 경매 관계 버전 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 에서 조회한 전체 경매 ID 로 집합 적재, 조회 이후 변경이 있었으면 적재하지 않는다
+     *
+     * @param version DB 조회 전에 {@link #findVersion} 으로 읽은 버전
+     */
+    public void load(Long userId, Relation relation, String version, List<Long> auctionIds) {
+        String key = generateKey(userId, relation);
+        Object[] args = Stream.concat(Stream.of(version, String.valueOf(TTL.toSeconds()), LOADED_MARKER),
+                        auctionIds.stream().map(String::valueOf))
+                .toArray();
+        try {
+            Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(key, key + VERSION_SUFFIX), args);
+            if (!Long.valueOf(1).equals(loaded)) {
+                log.debug("사용자 경매 관계가 조회 중 변경되어 적재하지 않음: key={}", key);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 경매 관계 적재 실패: key={}", key, e);
+        }
+    }
+
+    public void addIfPresent(Long userId, Relation relation, Long auctionId) {
+        mutate(userId, relation, "add", auctionId);
+    }
+
+    public void remove(Long userId, Relation relation, Long auctionId) {
+        mutate(userId, relation, "remove", auctionId);
+    }
+
+    /**
+     * 버전을 올리고, 적재된 집합에만 변경을 반영
+     */
+    private void mutate(Long userId, Relation relation, String operation, Long auctionId) {
+        String key = generateKey(userId, relation);
+        try {
+            redisTemplate.execute(MUTATE_SCRIPT, List.of(key, key + VERSION_SUFFIX), operation,
+                    String.valueOf(auctionId), String.valueOf(TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("사용자 경매 관계 변경 실패: key={}, operation={}", key, operation, e);
+        }
+    }
+
+    private String generateKey(Long userId, Relation relation) {
+        return KEY_PREFIX + relation.name().toLowerCase() + ":" + userId;
+    }
+}
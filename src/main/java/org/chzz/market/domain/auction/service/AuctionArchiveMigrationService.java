@@ -0,0 +1,80 @@
+package org.chzz.market.domain.auction.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 보관 인덱스 도입 이전에 종료되어 라이브 인덱스에 남아 있는 경매를 보관 인덱스로 이전
+ * <p>
+ * 라이브 인덱스의 종료 경매 ID 를 색인 아웃박스에 기록하면 색인 릴레이가 MySQL 기준으로 보관 인덱스에 색인하고 라이브 인덱스에서
+ * 삭제한다. 남은 경매가 없으면 Redis 에 완료를 기록하고, 모든 노드는 주기적으로 이를 확인하여 종료 경매를 보관 인덱스에서만
+ * 조회하도록 전환한다. 아웃박스 기록은 분산 락을 얻은 한 노드에서만 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+public class AuctionArchiveMigrationService {
+    private static final String POPULATED_KEY = "auction:search:archive:populated";
+    private static final String LOCK_KEY = "LOCK:auction:search:archive:migration";
+
+    private final AuctionElasticQueryRepository auctionElasticQueryRepository;
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+
+    @Value("${auction.search.archive.migration-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${auction.search.archive.check-interval-millis:60000}")
+    public void migrate() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(POPULATED_KEY))) {
+                auctionElasticQueryRepository.markArchivePopulated();
+                return;
+            }
+            RLock lock = redissonClient.getLock(LOCK_KEY);
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                return;
+            }
+            try {
+                enqueueLegacyEnded();
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("경매 보관 인덱스 이전 실패", e);
+        }
+    }
+
+    private void enqueueLegacyEnded() {
+        List<Long> auctionIds = auctionElasticQueryRepository.findEndedIdsInLive(batchSize);
+        if (auctionIds.isEmpty()) {
+            redisTemplate.opsForValue().set(POPULATED_KEY, Boolean.TRUE.toString());
+            auctionElasticQueryRepository.markArchivePopulated();
+            log.info("경매 보관 인덱스 이전 완료");
+            return;
+        }
+        // 릴레이가 아직 처리하지 못한 경매가 다음 확인에서 다시 기록될 수 있으나, 릴레이가 경매별로 합쳐 한 번만 색인한다
+        auctionIndexOutboxRepository.saveAll(auctionIds.stream()
+                .map(auctionId -> AuctionIndexOutbox.of(auctionId, true))
+                .toList());
+        log.info("경매 보관 인덱스 이전 대상 기록: {}건", auctionIds.size());
+    }
+}
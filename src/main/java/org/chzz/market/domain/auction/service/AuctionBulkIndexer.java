@@ -0,0 +1,281 @@
+package org.chzz.market.domain.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.chzz.market.domain.auction.repository.AuctionReindexLogRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 행을 경매 ID 단위로 모아 검색 엔진에 일괄 전송하는 버퍼
+ * <p>
+ * 같은 경매의 변경이 여러 번 들어와도 전송 시점의 경매 상태로 문서 하나만 만든다. 버퍼가 가득 차면 전송하고, 남은 행은 릴레이가
+ * 락을 놓기 전에 {@link #flush()} 로 전송한다. 버퍼와 조회 기준 ID 는 노드 메모리에 있으므로 락을 가진 동안에만 유지해야 다음에
+ * 락을 얻은 노드가 같은 행을 다시 보내지 않는다. 전송이 slow-threshold 보다 오래 걸리면 backoff 동안 새 행을 받지 않아 밀린
+ * 변경은 아웃박스 테이블에 남는다.
+ * <p>
+ * 버퍼 상태는 인스턴스 락으로 보호하고, 지표는 전송 중에도 막히지 않도록 별도 필드로 읽는다. {@link #writeTo} 는 색인 재구성
+ * 작업 스레드에서 동시에 호출되며 버퍼 상태를 사용하지 않으므로 락 없이 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBulkIndexer {
+    private final AuctionRepository auctionRepository;
+    private final AuctionSearchEngine auctionSearchEngine;
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    private final AuctionReindexLogRepository auctionReindexLogRepository;
+    private final AuctionSearchCacheService auctionSearchCacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.index.bulk.size:500}")
+    private int bulkSize;
+
+    @Value("${auction.index.bulk.slow-threshold-millis:2000}")
+    private long slowThresholdMillis;
+
+    @Value("${auction.index.bulk.backoff-millis:5000}")
+    private long backoffMillis;
+
+    @Value("${auction.index.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${auction.index.relay.base-backoff-millis:1000}")
+    private long baseRetryBackoffMillis;
+
+    @Value("${auction.index.relay.max-backoff-millis:300000}")
+    private long maxRetryBackoffMillis;
+
+    /**
+     * 경매 ID → 해당 경매의 아웃박스 행 (입력 순서 유지)
+     */
+    private final Map<Long, List<AuctionIndexOutbox>> buffer = new LinkedHashMap<>();
+    private long lastOutboxId = 0;
+    private long pausedUntilMillis = 0;
+    private volatile int bufferedCount = 0;
+
+    private Counter indexedCounter;
+    private Counter failedCounter;
+    private Counter coalescedCounter;
+    private DistributionSummary bulkSizeSummary;
+    private Timer bulkLatencyTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("auction.index.bulk.buffered", this, indexer -> indexer.bufferedCount)
+                .description("전송 대기 중인 경매 수")
+                .register(meterRegistry);
+        indexedCounter = Counter.builder("auction.index.relay.indexed")
+                .description("검색 엔진으로 전송된 경매 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("auction.index.relay.failed")
+                .description("검색 엔진 전송에 실패한 경매 수")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("auction.index.bulk.coalesced")
+                .description("같은 경매의 이전 변경과 합쳐진 아웃박스 행 수")
+                .register(meterRegistry);
+        bulkSizeSummary = DistributionSummary.builder("auction.index.bulk.size")
+                .description("_bulk 요청당 문서 수")
+                .register(meterRegistry);
+        bulkLatencyTimer = Timer.builder("auction.index.bulk.latency")
+                .description("_bulk 요청 처리 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 버퍼에 담은 행 이후부터 조회하기 위한 기준 ID
+     */
+    public synchronized long getLastOutboxId() {
+        return lastOutboxId;
+    }
+
+    /**
+     * 더 받을 수 있는 경매 수 (전송 지연으로 일시 중지된 경우 0)
+     */
+    public synchronized int remainingCapacity() {
+        if (System.currentTimeMillis() < pausedUntilMillis) {
+            return 0;
+        }
+        return Math.max(0, bulkSize - buffer.size());
+    }
+
+    public synchronized void add(List<AuctionIndexOutbox> outboxes) {
+        for (AuctionIndexOutbox outbox : outboxes) {
+            List<AuctionIndexOutbox> pending = buffer.computeIfAbsent(outbox.getAuctionId(), id -> new ArrayList<>());
+            if (!pending.isEmpty()) {
+                coalescedCounter.increment();
+            }
+            pending.add(outbox);
+            lastOutboxId = Math.max(lastOutboxId, outbox.getId());
+        }
+        bufferedCount = buffer.size();
+        if (buffer.size() >= bulkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 성공한 경매의 행은 삭제, 실패한 경매의 행은 재시도 예약
+     * <p>
+     * 전송 결과와 관계없이 버퍼와 조회 기준 ID 를 비우므로, 호출 후에는 처리하지 못한 행이 아웃박스 테이블에만 남는다.
+     */
+    public synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        Map<Long, List<AuctionIndexOutbox>> pending = new LinkedHashMap<>(buffer);
+        buffer.clear();
+        bufferedCount = 0;
+        // 전송 후에는 재시도 시각이 지난 이전 행도 다시 조회되도록 처음부터 조회
+        lastOutboxId = 0;
+
+        Set<Long> failedIds = new HashSet<>();
+        try {
+            failedIds.addAll(send(pending));
+        } catch (Exception e) {
+            log.error("경매 문서 일괄 전송 실패: count={}", pending.size(), e);
+            failedIds.addAll(pending.keySet());
+        }
+
+        List<Long> completedIds = new ArrayList<>();
+        List<AuctionIndexOutbox> failed = new ArrayList<>();
+        pending.forEach((auctionId, outboxes) -> {
+            if (failedIds.contains(auctionId)) {
+                failed.addAll(outboxes);
+            } else {
+                outboxes.forEach(outbox -> completedIds.add(outbox.getId()));
+            }
+        });
+        auctionIndexOutboxRepository.deleteAllByIdInBatch(completedIds);
+        scheduleRetry(failed);
+        indexedCounter.increment(pending.size() - failedIds.size());
+        failedCounter.increment(failedIds.size());
+    }
+
+    /**
+     * 검색 엔진으로 전송하고 소요 시간을 기록, 색인 재구성 중이면 변경 로그에도 기록
+     * <p>
+     * 등록/상태 전환/삭제 행이 있는 경매의 상태에 해당하는 검색 결과 캐시만 무효화한다. 내용 수정만 있는 경매는 캐시 TTL 로
+     * 반영한다.
+     *
+     * @return 전송에 실패한 경매 ID
+     */
+    private Set<Long> send(Map<Long, List<AuctionIndexOutbox>> pending) {
+        Set<Long> auctionIds = pending.keySet();
+        Set<Long> membershipChangedIds = pending.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(AuctionIndexOutbox::isMembershipChanged))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        long startedAt = System.nanoTime();
+        Set<AuctionStatus> changedStatuses = EnumSet.noneOf(AuctionStatus.class);
+        Set<Long> failedIds = write(auctionSearchEngine::write, auctionIds, membershipChangedIds, changedStatuses);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        if (!changedStatuses.isEmpty()) {
+            auctionSearchCacheService.invalidate(changedStatuses);
+        }
+
+        bulkSizeSummary.record(auctionIds.size());
+        bulkLatencyTimer.record(elapsed);
+        if (elapsed.toMillis() > slowThresholdMillis) {
+            pausedUntilMillis = System.currentTimeMillis() + backoffMillis;
+            log.warn("검색 엔진 응답 지연으로 색인 일시 중지: elapsed={}ms, backoff={}ms", elapsed.toMillis(),
+                    backoffMillis);
+        }
+        if (auctionReindexLogRepository.findActiveIndex().isPresent()) {
+            auctionReindexLogRepository.record(auctionIds);
+        }
+        return failedIds;
+    }
+
+    /**
+     * 현재 경매 상태로 문서를 만들어 지정한 방식으로 반영 (색인 재구성 시 새 인덱스에 기록)
+     *
+     * @param writer 색인할 문서와 삭제된 경매 ID 를 받아 실패한 경매 ID 를 반환
+     * @return 전송에 실패한 경매 ID
+     */
+    public Set<Long> writeTo(BiFunction<List<AuctionDocument>, List<Long>, Set<Long>> writer,
+                             Collection<Long> auctionIds) {
+        return write(writer, auctionIds, Set.of(), EnumSet.noneOf(AuctionStatus.class));
+    }
+
+    /**
+     * 현재 경매 상태로 문서를 만들어 색인하고, 없는 경매는 문서를 삭제
+     *
+     * @param membershipChangedIds 검색 결과의 구성이 바뀐 경매 ID
+     * @param changedStatuses      구성이 바뀐 경매의 상태를 담을 집합 (삭제된 경매는 상태를 알 수 없으므로 전체 상태)
+     */
+    private Set<Long> write(BiFunction<List<AuctionDocument>, List<Long>, Set<Long>> writer,
+                            Collection<Long> auctionIds, Set<Long> membershipChangedIds,
+                            Set<AuctionStatus> changedStatuses) {
+        Map<Long, Auction> auctions = auctionRepository.findAllWithImagesByIdIn(auctionIds).stream()
+                .collect(Collectors.toMap(Auction::getId, Function.identity()));
+
+        List<AuctionDocument> documents = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        Set<Long> failedIds = new HashSet<>();
+        for (Long auctionId : auctionIds) {
+            Auction auction = auctions.get(auctionId);
+            if (auction == null) {
+                deletedIds.add(auctionId);
+                if (membershipChangedIds.contains(auctionId)) {
+                    changedStatuses.addAll(EnumSet.allOf(AuctionStatus.class));
+                }
+                continue;
+            }
+            try {
+                documents.add(AuctionDocument.from(auction));
+                if (membershipChangedIds.contains(auctionId)) {
+                    changedStatuses.add(auction.getStatus());
+                }
+            } catch (Exception e) {
+                log.warn("경매 문서 생성 실패: auctionId={}", auctionId, e);
+                failedIds.add(auctionId);
+            }
+        }
+        failedIds.addAll(writer.apply(documents, deletedIds));
+        return failedIds;
+    }
+
+    /**
+     * 실패한 행을 시도 횟수별로 묶어 한 번의 UPDATE 로 재시도 예약 (다음 시도 시각이 시도 횟수로 정해지므로)
+     */
+    private void scheduleRetry(List<AuctionIndexOutbox> failed) {
+        Map<Integer, List<AuctionIndexOutbox>> byAttemptCount = failed.stream()
+                .collect(Collectors.groupingBy(outbox -> outbox.getAttemptCount() + 1));
+        byAttemptCount.forEach((attemptCount, outboxes) -> {
+            auctionIndexOutboxRepository.increaseAttemptCount(
+                    outboxes.stream().map(AuctionIndexOutbox::getId).toList(),
+                    AuctionIndexOutbox.nextAttemptAt(attemptCount, Duration.ofMillis(baseRetryBackoffMillis),
+                            Duration.ofMillis(maxRetryBackoffMillis)));
+            if (attemptCount >= maxAttempts) {
+                outboxes.forEach(outbox -> log.error("경매 문서 동기화 재시도 횟수 초과: auctionId={}, outboxId={}",
+                        outbox.getAuctionId(), outbox.getId()));
+            }
+        });
+    }
+}
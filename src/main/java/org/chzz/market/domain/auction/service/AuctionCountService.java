@@ -0,0 +1,92 @@
+package org.chzz.market.domain.auction.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionCount;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentDeleteEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.repository.AuctionCountRepository;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경매 목록 전체 개수(근사값) 관리
+ * <p>
+ * 등록/시작/종료/삭제가 커밋된 뒤 (상태, 카테고리)별 카운터를 증감하고, 주기적으로 DB 집계값으로 교체하여 오차를 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionCountService {
+    private final AuctionCountRepository auctionCountRepository;
+    private final AuctionQueryRepository auctionQueryRepository;
+
+    /**
+     * @param category null 인 경우 전체 카테고리
+     * @return 재계산 전이거나 조회에 실패한 경우 빈 값
+     */
+    public Optional<Long> getApproximateTotal(AuctionStatus status, Category category) {
+        return auctionCountRepository.find(status, category);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnRegister(AuctionDocumentSaveEvent event) {
+        Auction auction = event.auction();
+        auctionCountRepository.increase(auction.getStatus(), auction.getCategory(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void moveOnStart(AuctionStartEvent event) {
+        move(event.auction(), AuctionStatus.PRE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void moveOnEnd(AuctionEndEvent event) {
+        move(event.auction(), AuctionStatus.PROCEEDING);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void decreaseOnDelete(AuctionDocumentDeleteEvent event) {
+        Auction auction = event.auction();
+        auctionCountRepository.increase(auction.getStatus(), auction.getCategory(), -1);
+    }
+
+    /**
+     * DB 집계값으로 카운터 재계산 (애플리케이션 시작 시 1회 포함)
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${auction.count.reconcile-interval-millis:600000}")
+    public void reconcile() {
+        Map<AuctionStatus, Map<Category, Long>> counts = new EnumMap<>(AuctionStatus.class);
+        for (AuctionCount auctionCount : auctionQueryRepository.countGroupByStatusAndCategory()) {
+            counts.computeIfAbsent(auctionCount.status(), status -> new HashMap<>())
+                    .merge(auctionCount.category(), auctionCount.count(), Long::sum);
+        }
+        auctionCountRepository.replaceAll(counts);
+        log.debug("경매 개수 재계산 완료: {}", counts);
+    }
+
+    /**
+     * 이전 상태에서 현재 상태로 개수 이동
+     */
+    private void move(Auction auction, AuctionStatus previousStatus) {
+        if (auction.getStatus() == previousStatus) {
+            return;
+        }
+        auctionCountRepository.increase(previousStatus, auction.getCategory(), -1);
+        auctionCountRepository.increase(auction.getStatus(), auction.getCategory(), 1);
+    }
+}
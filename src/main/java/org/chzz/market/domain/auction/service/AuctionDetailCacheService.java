@@ -0,0 +1,91 @@
+package org.chzz.market.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentDeleteEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentModifyEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
+import org.chzz.market.domain.auction.repository.AuctionDetailCacheRepository;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.order.dto.event.OrderCompletedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경매 상세 캐시 무효화
+ * <p>
+ * 버전 증가 전에 캐시가 비워져야 새 ETag 에 이전 응답이 매핑되지 않으므로 가장 먼저 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionDetailCacheService {
+    private final AuctionDetailCacheRepository auctionDetailCacheRepository;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnModify(AuctionDocumentModifyEvent event) {
+        auctionDetailCacheRepository.evict(event.auction().getId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnStart(AuctionStartEvent event) {
+        auctionDetailCacheRepository.evict(event.auction().getId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnEnd(AuctionEndEvent event) {
+        auctionDetailCacheRepository.evict(event.auction().getId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnDelete(AuctionDocumentDeleteEvent event) {
+        auctionDetailCacheRepository.evict(event.auction().getId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnBid(BidCreatedEvent event) {
+        auctionDetailCacheRepository.evict(event.auctionId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnBidCancel(BidCancelledEvent event) {
+        auctionDetailCacheRepository.evict(event.auctionId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnLike(LikeUpdatedEvent event) {
+        auctionDetailCacheRepository.evict(event.auctionId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnOrder(OrderCompletedEvent event) {
+        auctionDetailCacheRepository.evict(event.auctionId());
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 수신하여 로컬 캐시 삭제
+     *
+     * @param message 경매 ID
+     */
+    public void onMessage(String message) {
+        try {
+            auctionDetailCacheRepository.evictLocal(Long.valueOf(message));
+        } catch (NumberFormatException e) {
+            log.error("경매 상세 캐시 무효화 메시지 처리 중 오류 발생 - 메시지: {}", message, e);
+        }
+    }
+}
@@ -4,11 +4,18 @@ import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_NOT_
 
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.config.datasource.PrimaryReader;
+import org.chzz.market.domain.auction.dto.AuctionDetailSnapshot;
 import org.chzz.market.domain.auction.dto.response.BaseAuctionDetailResponse;
-import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.dto.response.OfficialAuctionDetailResponse;
+import org.chzz.market.domain.auction.dto.response.PreAuctionDetailResponse;
 import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionDetailCacheRepository;
 import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
-import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.entity.Bid.BidStatus;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.like.repository.LikeRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,22 +23,60 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class AuctionDetailService {
-    private final AuctionRepository auctionRepository;
+    private static final int DEFAULT_REMAINING_BID_COUNT = 3;
+
     private final AuctionQueryRepository auctionQueryRepository;
+    private final AuctionDetailCacheRepository auctionDetailCacheRepository;
+    private final BidRepository bidRepository;
+    private final LikeRepository likeRepository;
+    private final PrimaryReader primaryReader;
 
+    /**
+     * 캐시는 변경 커밋 직후 비워지므로, 재적재는 레플리카 지연의 영향을 받지 않도록 프라이머리에서 조회한다.
+     */
     public BaseAuctionDetailResponse getAuctionDetails(Long userId, Long auctionId) {
-        return auctionRepository.findAuctionStatusById(auctionId)
-                .flatMap(status -> getAuctionDetailByStatus(status, userId, auctionId))
+        AuctionDetailSnapshot snapshot = auctionDetailCacheRepository.find(auctionId, () -> primaryReader.read(
+                        () -> auctionQueryRepository.findAuctionDetailSnapshotById(auctionId)))
                 .orElseThrow(() -> new AuctionException(AUCTION_NOT_FOUND));
+        return switch (snapshot.status()) {
+            case PRE -> toPreAuctionDetail(snapshot, userId);
+            case PROCEEDING, ENDED -> toOfficialAuctionDetail(snapshot, userId).clearOrderIfNotEligible();
+        };
     }
 
-    private Optional<BaseAuctionDetailResponse> getAuctionDetailByStatus(AuctionStatus status, Long userId,
-                                                                         Long auctionId) {
-        return switch (status) {
-            case PRE -> auctionQueryRepository.findPreAuctionDetailById(userId, auctionId)
-                    .map(response -> response);
-            case PROCEEDING, ENDED -> auctionQueryRepository.findOfficialAuctionDetailById(userId, auctionId)
-                    .map(response -> response.clearOrderIfNotEligible());
-        };
+    /**
+     * 공유 상세 정보에 사용자별 좋아요 여부 적용
+     */
+    private PreAuctionDetailResponse toPreAuctionDetail(AuctionDetailSnapshot snapshot, Long userId) {
+        boolean isLiked = userId != null
+                && likeRepository.findByUserIdAndAuctionId(userId, snapshot.auctionId()).isPresent();
+        PreAuctionDetailResponse response = new PreAuctionDetailResponse(snapshot.auctionId(),
+                snapshot.sellerNickname(), snapshot.sellerProfileImageUrl(), snapshot.auctionName(),
+                snapshot.description(), snapshot.minPrice(), snapshot.isSeller(userId), snapshot.status(),
+                snapshot.category(), snapshot.updatedAt(), snapshot.likeCount(), isLiked);
+        response.addImageList(snapshot.images());
+        return response;
+    }
+
+    /**
+     * 공유 상세 정보에 사용자별 입찰 정보 적용
+     */
+    private OfficialAuctionDetailResponse toOfficialAuctionDetail(AuctionDetailSnapshot snapshot, Long userId) {
+        Optional<Bid> userBid = userId == null
+                ? Optional.empty()
+                : bidRepository.findByAuctionIdAndBidderId(snapshot.auctionId(), userId);
+        Optional<Bid> activeBid = userBid.filter(bid -> bid.getStatus() == BidStatus.ACTIVE);
+        boolean isCancelled = userBid.filter(bid -> bid.getStatus() == BidStatus.CANCELLED).isPresent();
+
+        OfficialAuctionDetailResponse response = new OfficialAuctionDetailResponse(snapshot.auctionId(),
+                snapshot.sellerNickname(), snapshot.sellerProfileImageUrl(), snapshot.auctionName(),
+                snapshot.description(), snapshot.minPrice(), snapshot.isSeller(userId), snapshot.status(),
+                snapshot.category(), snapshot.timeRemaining(), snapshot.bidCount(), activeBid.isPresent(),
+                activeBid.map(Bid::getId).orElse(null),
+                activeBid.map(Bid::getAmount).orElse(0L),
+                activeBid.map(Bid::getCount).orElse(DEFAULT_REMAINING_BID_COUNT),
+                isCancelled, snapshot.isWinner(userId), snapshot.winnerId() != null, snapshot.isOrdered());
+        response.addImageList(snapshot.images());
+        return response;
     }
 }
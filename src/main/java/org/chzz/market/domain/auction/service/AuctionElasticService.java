@@ -7,50 +7,54 @@ import org.chzz.market.domain.auction.dto.event.AuctionDocumentModifyEvent;
 import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
 import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
 import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
-import org.chzz.market.domain.auction.entity.Auction;
-import org.chzz.market.domain.auction.entity.AuctionDocument;
-import org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository;
-import org.chzz.market.domain.auction.repository.AuctionElasticRepository;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 경매 변경을 Elasticsearch 동기화 아웃박스에 기록
+ * <p>
+ * 이벤트를 발행한 트랜잭션 안에서 동기적으로 기록하므로 경매 변경과 함께 커밋/롤백되며, 실제 색인은
+ * {@link AuctionIndexRelayService} 가 요청 스레드와 분리하여 처리한다. 내용 수정은 검색 결과의 구성을 바꾸지 않으므로 검색 결과
+ * 캐시를 무효화하지 않는 행으로 기록한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionElasticService {
-    private final AuctionElasticRepository auctionElasticRepository;
-    private final AuctionElasticQueryRepository auctionElasticQueryRepository;
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void saveAuctionDocument(AuctionDocumentSaveEvent event) {
-        auctionElasticRepository.save(AuctionDocument.from(event.auction()));
-        log.info("경매 문서를 Elasticsearch에 저장 완료: auctionId={}", event.auction().getId());
+        enqueue(event.auction().getId(), true);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void modifyAuctionDocument(AuctionDocumentModifyEvent event) {
-        auctionElasticQueryRepository.update(AuctionDocument.from(event.auction()));
-        log.info("경매 문서를 Elasticsearch에 수정 완료: auctionId={}", event.auction().getId());
+        enqueue(event.auction().getId(), false);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void updateStartAuctionStatus(AuctionStartEvent event) {
-        Auction auction = event.auction();
-        auctionElasticQueryRepository.updateAuctionToStartedStatus(AuctionDocument.from(event.auction()));
-        log.info("Elasticsearch에서 경매 상태를 '시작됨(STARTED)'으로 업데이트 완료: auctionId={}", auction.getId());
+        enqueue(event.auction().getId(), true);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * 종료된 경매는 {@link AuctionBulkIndexer} 가 보관 인덱스에 색인하고 라이브 인덱스에서 삭제한다.
+     */
+    @EventListener
     public void updateEndAuctionStatus(AuctionEndEvent event) {
-        Auction auction = event.auction();
-        auctionElasticQueryRepository.updateAuctionToEndedStatus(AuctionDocument.from(event.auction()));
-        log.info("Elasticsearch에서 경매 상태를 '종료됨(ENDED)'으로 업데이트 완료: auctionId={}", auction.getId());
+        enqueue(event.auction().getId(), true);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void deleteDocument(AuctionDocumentDeleteEvent event) {
-        auctionElasticRepository.deleteById(event.auction().getId());
-        log.info("Elasticsearch에서 경매 문서 삭제 완료: auctionId={}", event.auction().getId());
+        enqueue(event.auction().getId(), true);
+    }
+
+    private void enqueue(Long auctionId, boolean membershipChanged) {
+        auctionIndexOutboxRepository.save(AuctionIndexOutbox.of(auctionId, membershipChanged));
+        log.debug("경매 문서 동기화 요청 기록: auctionId={}", auctionId);
     }
 }
@@ -0,0 +1,118 @@
+package org.chzz.market.domain.auction.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 아웃박스에 기록된 경매 변경을 {@link AuctionBulkIndexer} 로 전달
+ * <p>
+ * 여러 노드가 같은 행을 중복 전송하지 않도록 분산 락을 획득한 노드만 실행한다. 밀린 행을 처리하는 동안 락이 만료되지 않도록
+ * 임대 시간 없이 획득하여 Redisson watchdog 이 연장하게 한다. 실패한 경매는 지수 백오프로 재시도하고, 최대 시도 횟수를 넘긴 행은
+ * 남겨 두어 수동 확인 대상으로 삼는다.
+ * <p>
+ * 지표
+ * <br> auction.index.lag.seconds: 전송 대기 중인 가장 오래된 변경 이후 경과 시간
+ * <br> auction.index.dead.rows: 최대 시도 횟수를 넘겨 더 이상 전송하지 않는 행 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionIndexRelayService {
+    private static final String LOCK_KEY = "LOCK:auction:index:relay";
+
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    private final AuctionBulkIndexer auctionBulkIndexer;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.index.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    private volatile long lagSeconds = 0;
+    private volatile long deadRows = 0;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("auction.index.lag.seconds", this, relay -> relay.lagSeconds)
+                .description("Elasticsearch 색인이 MySQL 보다 뒤처진 시간(초)")
+                .register(meterRegistry);
+        Gauge.builder("auction.index.dead.rows", this, relay -> relay.deadRows)
+                .description("최대 시도 횟수를 넘겨 수동 확인이 필요한 아웃박스 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.index.relay.interval-millis:1000}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!tryLock(lock)) {
+            return;
+        }
+        try {
+            int capacity;
+            while ((capacity = auctionBulkIndexer.remainingCapacity()) > 0) {
+                List<AuctionIndexOutbox> outboxes = auctionIndexOutboxRepository.findRelayTargets(
+                        auctionBulkIndexer.getLastOutboxId(), LocalDateTime.now(), maxAttempts,
+                        PageRequest.of(0, capacity));
+                if (outboxes.isEmpty()) {
+                    break;
+                }
+                auctionBulkIndexer.add(outboxes);
+            }
+        } catch (Exception e) {
+            log.error("경매 문서 동기화 실패", e);
+        } finally {
+            // 버퍼는 이 노드에만 있으므로 락을 놓기 전에 비워, 다음에 락을 얻은 노드가 같은 행을 다시 보내지 않도록 한다
+            flush();
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+            updateMetrics();
+        }
+    }
+
+    private void flush() {
+        try {
+            auctionBulkIndexer.flush();
+        } catch (Exception e) {
+            log.error("경매 문서 일괄 전송 실패", e);
+        }
+    }
+
+    private void updateMetrics() {
+        try {
+            lagSeconds = auctionIndexOutboxRepository.findOldestPendingCreatedAt(maxAttempts)
+                    .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L);
+            deadRows = auctionIndexOutboxRepository.countByAttemptCountGreaterThanEqual(maxAttempts);
+        } catch (Exception e) {
+            log.warn("경매 문서 동기화 지표 조회 실패", e);
+        }
+    }
+
+    private boolean tryLock(RLock lock) {
+        try {
+            // 임대 시간 -1: watchdog 이 락을 보유하는 동안 만료 시간을 연장
+            return lock.tryLock(0, -1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("경매 문서 동기화 락 획득 실패", e);
+        }
+        return false;
+    }
+}
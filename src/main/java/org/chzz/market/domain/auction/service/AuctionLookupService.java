@@ -2,11 +2,27 @@ package org.chzz.market.domain.auction.service;
 
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.END_WITHIN_MINUTES_PARAM_ALLOWED_FOR_PROCEEDING_ONLY;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.config.datasource.PrimaryReader;
+import org.chzz.market.common.dto.SlicePage;
+import org.chzz.market.common.dto.SlicePageRequest;
+import org.chzz.market.domain.auction.dto.AuctionBidDetail;
+import org.chzz.market.domain.auction.dto.AuctionLikeDetail;
+import org.chzz.market.domain.auction.dto.AuctionListItem;
+import org.chzz.market.domain.auction.dto.AuctionListSnapshot;
+import org.chzz.market.domain.auction.dto.response.OfficialAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
 import org.chzz.market.domain.auction.entity.Category;
 import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionListCacheRepository;
 import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionVersionRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,6 +33,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuctionLookupService {
     private final AuctionQueryRepository auctionQueryRepository;
+    private final AuctionListCacheRepository auctionListCacheRepository;
+    private final AuctionVersionRepository auctionVersionRepository;
+    private final AuctionCountService auctionCountService;
+    private final PrimaryReader primaryReader;
 
     /**
      * 경매 목록 조회
@@ -27,10 +47,88 @@ public class AuctionLookupService {
             throw new AuctionException(END_WITHIN_MINUTES_PARAM_ALLOWED_FOR_PROCEEDING_ONLY);
         }
         Integer endWithinSeconds = endWithinMinutes != null ? endWithinMinutes * 60 : null;
+        Page<AuctionListItem> sharedPage = getSharedPage(category, status, endWithinSeconds, pageable);
         return switch (status) {
-            case PRE -> auctionQueryRepository.findPreAuctions(userId, category, pageable);
-            case PROCEEDING, ENDED ->
-                    auctionQueryRepository.findOfficialAuctions(userId, category, status, endWithinSeconds, pageable);
+            case PRE -> overlayPreAuctions(userId, sharedPage);
+            case PROCEEDING, ENDED -> overlayOfficialAuctions(userId, sharedPage);
         };
     }
+
+    /**
+     * 사용자와 무관한 목록 페이지 조회 (캐시 우선)
+     * <p>
+     * 캐시 키는 목록 버전을 포함하여 변경 커밋 직후 바뀌므로, 재적재는 레플리카 지연의 영향을 받지 않도록 프라이머리에서 조회한다.
+     */
+    private Page<AuctionListItem> getSharedPage(Category category, AuctionStatus status, Integer endWithinSeconds,
+                                                Pageable pageable) {
+        Long listVersion = auctionVersionRepository.findListVersion(status).orElse(null);
+        String key = auctionListCacheRepository.generateKey(listVersion, status, category, endWithinSeconds, pageable);
+        return auctionListCacheRepository.find(key)
+                .map(snapshot -> snapshot.toPage(pageable))
+                .orElseGet(() -> {
+                    Page<AuctionListItem> page = primaryReader.read(
+                            () -> findSharedPage(category, status, endWithinSeconds, pageable));
+                    auctionListCacheRepository.save(key, AuctionListSnapshot.from(page));
+                    return page;
+                });
+    }
+
+    /**
+     * 전체 개수가 필요한 경우 카운터의 근사값을 사용하여 count 쿼리를 생략
+     * <p>
+     * 종료 임박 조건은 카운터로 관리하지 않으므로 count 쿼리를 사용한다.
+     */
+    private Page<AuctionListItem> findSharedPage(Category category, AuctionStatus status, Integer endWithinSeconds,
+                                                 Pageable pageable) {
+        Optional<Long> approximateTotal = SlicePageRequest.isSlice(pageable) || endWithinSeconds != null
+                ? Optional.empty()
+                : auctionCountService.getApproximateTotal(status, category);
+        Pageable request = approximateTotal.isPresent() ? SlicePageRequest.of(pageable) : pageable;
+        Page<AuctionListItem> page = switch (status) {
+            case PRE -> auctionQueryRepository.findPreAuctionListItems(category, request);
+            case PROCEEDING, ENDED -> auctionQueryRepository.findOfficialAuctionListItems(category, status,
+                    endWithinSeconds, request);
+        };
+        return approximateTotal
+                .map(total -> ((SlicePage<AuctionListItem>) page).withApproximateTotal(total))
+                .orElse(page);
+    }
+
+    /**
+     * 사전 경매 목록에 사용자별 정보(좋아요 여부) 적용
+     */
+    private Page<PreAuctionResponse> overlayPreAuctions(Long userId, Page<AuctionListItem> page) {
+        Map<Long, AuctionLikeDetail> auctionLikeDetails = userId == null || page.isEmpty()
+                ? Collections.emptyMap()
+                : auctionQueryRepository.findAuctionLikeDetailsByAuctionIds(getAuctionIds(page), userId).stream()
+                        .collect(Collectors.toMap(AuctionLikeDetail::auctionId, dto -> dto));
+
+        return page.map(item -> {
+            AuctionLikeDetail auctionLikeDetail = auctionLikeDetails.getOrDefault(item.auctionId(),
+                    new AuctionLikeDetail(item.auctionId(), item.likeCount(), false));
+            return new PreAuctionResponse(item, auctionLikeDetail, userId);
+        });
+    }
+
+    /**
+     * 정식 경매 목록에 사용자별 정보(참여 여부) 적용
+     */
+    private Page<OfficialAuctionResponse> overlayOfficialAuctions(Long userId, Page<AuctionListItem> page) {
+        Map<Long, AuctionBidDetail> auctionBidDetails = userId == null || page.isEmpty()
+                ? Collections.emptyMap()
+                : auctionQueryRepository.findAuctionBidDetailsByAuctionIds(getAuctionIds(page), userId).stream()
+                        .collect(Collectors.toMap(AuctionBidDetail::auctionId, dto -> dto));
+
+        return page.map(item -> {
+            AuctionBidDetail auctionBidDetail = auctionBidDetails.getOrDefault(item.auctionId(),
+                    new AuctionBidDetail(item.auctionId(), item.bidCount(), false));
+            return new OfficialAuctionResponse(item, auctionBidDetail, userId);
+        });
+    }
+
+    private List<Long> getAuctionIds(Page<AuctionListItem> page) {
+        return page.getContent().stream()
+                .map(AuctionListItem::auctionId)
+                .toList();
+    }
 }
@@ -0,0 +1,224 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_REINDEX_IN_PROGRESS;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionIndexNames;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.chzz.market.domain.auction.repository.AuctionReindexLogRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.ElasticAuctionSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 무중단 검색 색인 재구성
+ * <p>
+ * 1. 변경 로그 기록을 시작하고 설정/매핑을 적용한 새 버전 라이브/보관 인덱스 생성
+ * <br> 2. 경매 ID 범위를 나누어 병렬 작업자가 키셋 단위로 MySQL 에서 읽어 새 인덱스에 일괄 색인
+ * <br> 3. 작업 중 변경된 경매를 변경 로그에서 꺼내 새 인덱스에 반영
+ * <br> 4. 라이브/보관 별칭을 새 인덱스로 한 번에 교체한 뒤, 교체 직전에 이전 인덱스로 전송된 변경을 한 번 더 반영
+ * <p>
+ * 별칭 교체 전에 실패하거나 변경 로그를 모두 반영하지 못하면 새 인덱스를 삭제하며 별칭은 기존 인덱스를 그대로 가리킨다. 교체 후에는
+ * 새 인덱스가 검색에 사용되므로 삭제하지 않고, 반영하지 못한 변경은 아웃박스에 다시 기록하여 릴레이가 새 인덱스에 반영하도록 한다.
+ * Elasticsearch 검색 엔진을 사용하는 경우에만 등록된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+public class AuctionReindexService {
+    private static final String INDEX_PREFIX = AuctionElasticQueryRepository.AUCTION_INDEX + "_v";
+    private static final String ARCHIVE_INDEX_PREFIX = AuctionElasticQueryRepository.ARCHIVE_INDEX + "_v";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionElasticQueryRepository auctionElasticQueryRepository;
+    private final ElasticAuctionSearchEngine elasticAuctionSearchEngine;
+    private final AuctionReindexLogRepository auctionReindexLogRepository;
+    private final AuctionBulkIndexer auctionBulkIndexer;
+    private final AuctionSearchCacheService auctionSearchCacheService;
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    private final Executor threadPoolTaskExecutor;
+
+    @Value("${auction.reindex.parallelism:4}")
+    private int parallelism;
+
+    @Value("${auction.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${auction.reindex.max-catch-up-rounds:20}")
+    private int maxCatchUpRounds;
+
+    @Value("${auction.reindex.swap-grace-millis:5000}")
+    private long swapGraceMillis;
+
+    /**
+     * 재구성을 백그라운드에서 시작
+     *
+     * @return 새 라이브 인덱스 이름
+     */
+    public String start() {
+        String version = LocalDateTime.now().format(VERSION_FORMAT);
+        AuctionIndexNames indices = new AuctionIndexNames(INDEX_PREFIX + version, ARCHIVE_INDEX_PREFIX + version);
+        if (!auctionReindexLogRepository.start(indices.live())) {
+            throw new AuctionException(AUCTION_REINDEX_IN_PROGRESS);
+        }
+        threadPoolTaskExecutor.execute(() -> reindex(indices));
+        return indices.live();
+    }
+
+    private void reindex(AuctionIndexNames indices) {
+        long startedAt = System.currentTimeMillis();
+        boolean swapped = false;
+        try {
+            auctionElasticQueryRepository.createIndex(indices.live());
+            auctionElasticQueryRepository.createIndex(indices.archive());
+            long copied = copyAll(indices);
+            if (!catchUp(indices)) {
+                throw new IllegalStateException("변경 로그를 모두 반영하지 못해 별칭을 교체하지 않습니다.");
+            }
+            Set<String> previousIndices = auctionElasticQueryRepository.swapAliases(indices);
+            swapped = true;
+            Thread.sleep(swapGraceMillis);
+            catchUp(indices);
+            auctionSearchCacheService.invalidateAll();
+            previousIndices.forEach(auctionElasticQueryRepository::deleteIndex);
+            log.info("경매 색인 재구성 완료: indices={}, copied={}, elapsed={}ms", indices, copied,
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            if (swapped) {
+                // 별칭이 이미 새 인덱스를 가리키므로 삭제하지 않는다
+                log.error("경매 색인 재구성 별칭 교체 후 처리 실패, 새 인덱스 유지: indices={}", indices, e);
+            } else {
+                log.error("경매 색인 재구성 실패: indices={}", indices, e);
+                deleteQuietly(indices.live());
+                deleteQuietly(indices.archive());
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            if (swapped) {
+                requeueRemaining(indices);
+            }
+            auctionReindexLogRepository.finish();
+        }
+    }
+
+    /**
+     * 경매 ID 범위를 작업자 수만큼 나누어 병렬 색인
+     *
+     * @return 색인한 경매 수
+     */
+    private long copyAll(AuctionIndexNames indices) {
+        Long minId = auctionRepository.findMinId().orElse(null);
+        Long maxId = auctionRepository.findMaxId().orElse(null);
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+        long span = Math.max(1, (maxId - minId + parallelism) / parallelism);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (long from = minId - 1; from < maxId; from += span) {
+                long afterId = from;
+                long toId = Math.min(from + span, maxId);
+                futures.add(CompletableFuture.supplyAsync(() -> copyRange(indices, afterId, toId), workers));
+            }
+            return futures.stream()
+                    .mapToLong(CompletableFuture::join)
+                    .sum();
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * (afterId, toId] 범위를 키셋 단위로 색인, 실패한 경매는 변경 로그에 남겨 따라잡기 단계에서 다시 처리
+     */
+    private long copyRange(AuctionIndexNames indices, long afterId, long toId) {
+        long copied = 0;
+        List<Long> auctionIds;
+        do {
+            auctionIds = auctionRepository.findIdsInRange(afterId, toId, PageRequest.of(0, chunkSize));
+            if (auctionIds.isEmpty()) {
+                break;
+            }
+            Set<Long> failedIds = writeTo(indices, auctionIds);
+            auctionReindexLogRepository.record(failedIds);
+            copied += auctionIds.size() - failedIds.size();
+            afterId = auctionIds.get(auctionIds.size() - 1);
+        } while (auctionIds.size() == chunkSize);
+        log.debug("경매 색인 범위 완료: indices={}, toId={}, copied={}", indices, toId, copied);
+        return copied;
+    }
+
+    /**
+     * 변경 로그가 빌 때까지 새 인덱스에 반영
+     *
+     * @return 변경 로그를 모두 반영했는지 여부
+     */
+    private boolean catchUp(AuctionIndexNames indices) {
+        for (int round = 0; round < maxCatchUpRounds; round++) {
+            List<Long> auctionIds = auctionReindexLogRepository.pop(chunkSize);
+            if (auctionIds.isEmpty()) {
+                return true;
+            }
+            Set<Long> failedIds = writeTo(indices, auctionIds);
+            auctionReindexLogRepository.record(failedIds);
+        }
+        log.warn("경매 색인 재구성 변경 로그 반영 횟수 초과: indices={}", indices);
+        return false;
+    }
+
+    /**
+     * 별칭 교체 후 남은 변경 로그를 아웃박스로 옮겨, 로그가 삭제되어도 릴레이가 새 인덱스에 반영하도록 한다
+     */
+    private void requeueRemaining(AuctionIndexNames indices) {
+        try {
+            int requeued = 0;
+            List<Long> auctionIds;
+            while (!(auctionIds = auctionReindexLogRepository.pop(chunkSize)).isEmpty()) {
+                auctionIndexOutboxRepository.saveAll(auctionIds.stream()
+                        .map(auctionId -> AuctionIndexOutbox.of(auctionId, true))
+                        .toList());
+                requeued += auctionIds.size();
+            }
+            if (requeued > 0) {
+                log.warn("경매 색인 재구성 미반영 변경을 아웃박스에 재기록: indices={}, count={}", indices, requeued);
+            }
+        } catch (Exception e) {
+            log.error("경매 색인 재구성 미반영 변경 재기록 실패: indices={}", indices, e);
+        }
+    }
+
+    private Set<Long> writeTo(AuctionIndexNames indices, List<Long> auctionIds) {
+        return auctionBulkIndexer.writeTo(
+                (documents, deletedIds) -> elasticAuctionSearchEngine.write(indices, documents, deletedIds),
+                auctionIds);
+    }
+
+    private void deleteQuietly(String indexName) {
+        try {
+            auctionElasticQueryRepository.deleteIndex(indexName);
+        } catch (Exception e) {
+            log.warn("경매 색인 재구성 인덱스 삭제 실패: index={}", indexName, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.chzz.market.domain.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.util.SearchKeywordNormalizer;
+import org.chzz.market.domain.auction.dto.AuctionSearchSnapshot;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionSearchCacheRepository;
+import org.chzz.market.domain.auction.repository.AuctionVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 결과 캐시
+ * <p>
+ * 같은 검색어가 짧은 시간에 반복 검색되는 경우를 위해 결과 경매 ID 목록을 짧은 TTL 로 보관한다. 검색 색인에 문서가 반영되면 해당
+ * 상태의 검색 버전을 올려 캐시를 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionSearchCacheService {
+    private final AuctionSearchCacheRepository auctionSearchCacheRepository;
+    private final AuctionVersionRepository auctionVersionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.cache.search-max-keyword-length:50}")
+    private int maxKeywordLength;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder("auction.search.cache.requests")
+                .tag("result", "hit")
+                .description("검색 결과 캐시 조회 수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("auction.search.cache.requests")
+                .tag("result", "miss")
+                .description("검색 결과 캐시 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.search.cache.hit.ratio", this, AuctionSearchCacheService::hitRatio)
+                .description("검색 결과 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 버전은 색인 반영 시에만 생성되므로, 버전이 없으면(반영 이력 없음 또는 만료) 0 을 사용한다. 버전은 현재 시각(ms)으로
+     * 시작하므로 0 과 겹치지 않는다.
+     *
+     * @return 캐시하지 않는 검색(빈 검색어, 긴 검색어)이면 empty
+     */
+    public Optional<String> generateKey(String keyword, AuctionStatus status, Pageable pageable) {
+        String normalizedKeyword = SearchKeywordNormalizer.normalize(keyword);
+        if (normalizedKeyword.isEmpty() || normalizedKeyword.length() > maxKeywordLength) {
+            return Optional.empty();
+        }
+        long version = auctionVersionRepository.findSearchVersion(status).orElse(0L);
+        return Optional.of(auctionSearchCacheRepository.generateKey(version, status, normalizedKeyword, pageable));
+    }
+
+    public Optional<AuctionSearchSnapshot> find(String key) {
+        Optional<AuctionSearchSnapshot> snapshot = auctionSearchCacheRepository.find(key);
+        (snapshot.isPresent() ? hitCounter : missCounter).increment();
+        return snapshot;
+    }
+
+    public void save(String key, AuctionSearchSnapshot snapshot) {
+        auctionSearchCacheRepository.save(key, snapshot);
+    }
+
+    /**
+     * 색인된 문서의 상태와, 상태 전환(사전 → 진행 → 종료)으로 문서가 빠져나왔을 수 있는 이전 상태의 캐시를 무효화
+     */
+    public void invalidate(Collection<AuctionStatus> indexedStatuses) {
+        Set<AuctionStatus> statuses = EnumSet.noneOf(AuctionStatus.class);
+        for (AuctionStatus status : indexedStatuses) {
+            statuses.add(status);
+            switch (status) {
+                case PROCEEDING -> statuses.add(AuctionStatus.PRE);
+                case ENDED -> statuses.add(AuctionStatus.PROCEEDING);
+                default -> {
+                }
+            }
+        }
+        statuses.forEach(auctionVersionRepository::increaseSearchVersion);
+    }
+
+    public void invalidateAll() {
+        invalidate(EnumSet.allOf(AuctionStatus.class));
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+}
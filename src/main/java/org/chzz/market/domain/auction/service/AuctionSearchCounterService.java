@@ -0,0 +1,126 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.BIDDER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.entity.AuctionSummary.Relation;
+import org.chzz.market.domain.auction.repository.AuctionCounterChangeRepository;
+import org.chzz.market.domain.auction.repository.AuctionReindexLogRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.chzz.market.domain.auction.repository.UserAuctionRelationRepository;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.bid.entity.Bid.BidStatus;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.like.repository.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 결과를 DB 조회 없이 구성하기 위한 카운터와 사용자별 관계 관리
+ * <p>
+ * 좋아요/입찰 이벤트마다 문서를 갱신하지 않고 변경된 경매 ID 만 모아 두었다가 주기적으로 현재 값을 한 번의 _bulk 부분 갱신으로
+ * 전송한다. 인기 경매에 이벤트가 몰려도 주기당 문서 갱신은 한 번이다. 변경된 경매 ID 는 {@link AuctionCounterChangeRepository}
+ * (Redis 집합)에 기록하여 노드 재시작에도 유지된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionSearchCounterService {
+    private final AuctionRepository auctionRepository;
+    private final LikeRepository likeRepository;
+    private final BidRepository bidRepository;
+    private final AuctionSearchEngine auctionSearchEngine;
+    private final AuctionReindexLogRepository auctionReindexLogRepository;
+    private final UserAuctionRelationRepository userAuctionRelationRepository;
+    private final AuctionCounterChangeRepository auctionCounterChangeRepository;
+
+    @Value("${auction.index.counter.batch-size:500}")
+    private int batchSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLike(LikeUpdatedEvent event) {
+        if (event.isLiked()) {
+            userAuctionRelationRepository.addIfPresent(event.userId(), LIKER, event.auctionId());
+        } else {
+            userAuctionRelationRepository.remove(event.userId(), LIKER, event.auctionId());
+        }
+        auctionCounterChangeRepository.add(event.auctionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBid(BidCreatedEvent event) {
+        if (!event.isNewBidder()) {
+            return;
+        }
+        userAuctionRelationRepository.addIfPresent(event.bidderId(), BIDDER, event.auctionId());
+        auctionCounterChangeRepository.add(event.auctionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBidCancel(BidCancelledEvent event) {
+        userAuctionRelationRepository.remove(event.bidderId(), BIDDER, event.auctionId());
+        auctionCounterChangeRepository.add(event.auctionId());
+    }
+
+    /**
+     * 변경된 경매의 현재 카운터를 검색 문서에 부분 갱신
+     * <p>
+     * 색인 재구성 중에는 새 인덱스에도 반영되도록 변경 로그에 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${auction.index.counter.flush-interval-millis:2000}")
+    public void flush() {
+        List<Long> auctionIds;
+        while (!(auctionIds = auctionCounterChangeRepository.pop(batchSize)).isEmpty()) {
+            Set<Long> failedIds;
+            try {
+                List<AuctionCounter> counters = auctionRepository.findCountersByIdIn(auctionIds);
+                failedIds = auctionSearchEngine.updateCounters(counters);
+            } catch (Exception e) {
+                log.error("경매 카운터 조회 실패: count={}", auctionIds.size(), e);
+                failedIds = Set.copyOf(auctionIds);
+            }
+            if (auctionReindexLogRepository.findActiveIndex().isPresent()) {
+                auctionReindexLogRepository.record(auctionIds);
+            }
+            if (!failedIds.isEmpty()) {
+                // 다음 주기에 다시 시도
+                auctionCounterChangeRepository.addAll(failedIds);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 사용자가 관계를 맺은 경매 ID 조회
+     * <p>
+     * 사용자 집합이 아직 적재되지 않은 경우에만 DB 에서 한 번 적재한다.
+     */
+    public Set<Long> findRelatedAuctionIds(Long userId, Relation relation, Collection<Long> auctionIds) {
+        if (userId == null || auctionIds.isEmpty()) {
+            return Set.of();
+        }
+        return userAuctionRelationRepository.findRelatedAuctionIds(userId, relation, auctionIds)
+                .orElseGet(() -> {
+                    // DB 조회 중 커밋된 변경이 이전 목록으로 덮어써지지 않도록 조회 전 버전을 기준으로 적재
+                    Optional<String> version = userAuctionRelationRepository.findVersion(userId, relation);
+                    List<Long> related = relation == LIKER
+                            ? likeRepository.findAuctionIdsByUserId(userId)
+                            : bidRepository.findAuctionIdsByBidderIdAndStatus(userId, BidStatus.ACTIVE);
+                    version.ifPresent(v -> userAuctionRelationRepository.load(userId, relation, v, related));
+                    return Set.copyOf(related);
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.chzz.market.common.config.SearchCircuitBreakerConfig.AUCTION_SEARCH_EXECUTOR;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 엔진 호출 경로 (서킷 브레이커 → 제한 시간 → 전용 스레드)
+ * <p>
+ * 검색, 커서 검색, 자동완성이 같은 서킷 브레이커와 스레드를 공유하므로, 어느 호출이든 검색 엔진이 응답하지 않으면 요청 스레드가
+ * 묶이지 않고 서킷이 열린다. 검색 엔진 장애에 해당하는 예외만 empty 로 바꾸고, 그 외 예외(잘못된 커서 등)는 그대로 전달한다.
+ */
+@Slf4j
+@Component
+public class AuctionSearchEngineCaller {
+    private final CircuitBreaker auctionSearchCircuitBreaker;
+    private final TimeLimiter auctionSearchTimeLimiter;
+    private final Executor auctionSearchExecutor;
+
+    public AuctionSearchEngineCaller(CircuitBreaker auctionSearchCircuitBreaker,
+                                     TimeLimiter auctionSearchTimeLimiter,
+                                     @Qualifier(AUCTION_SEARCH_EXECUTOR) Executor auctionSearchExecutor) {
+        this.auctionSearchCircuitBreaker = auctionSearchCircuitBreaker;
+        this.auctionSearchTimeLimiter = auctionSearchTimeLimiter;
+        this.auctionSearchExecutor = auctionSearchExecutor;
+    }
+
+    /**
+     * @return 검색 엔진 장애로 실패했거나 서킷이 열려 호출하지 않은 경우 empty
+     */
+    public <T> Optional<T> call(Supplier<T> call) {
+        try {
+            return Optional.of(auctionSearchCircuitBreaker.executeCallable(() -> auctionSearchTimeLimiter
+                    .executeFutureSupplier(() -> CompletableFuture.supplyAsync(call, auctionSearchExecutor))));
+        } catch (CallNotPermittedException e) {
+            return Optional.empty();
+        } catch (TimeoutException | RejectedExecutionException | DataAccessException | UncheckedIOException e) {
+            log.warn("검색 엔진 호출 실패", e);
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 결과가 없는 호출 (point-in-time 닫기 등)
+     *
+     * @return 호출에 성공했는지 여부
+     */
+    public boolean run(Runnable call) {
+        return call(() -> {
+            call.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+}
@@ -1,51 +1,249 @@
 package org.chzz.market.domain.auction.service;
 
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.BIDDER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_SEARCH_UNAVAILABLE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.common.util.SearchKeywordNormalizer;
 import org.chzz.market.domain.auction.dto.AuctionBidDetail;
 import org.chzz.market.domain.auction.dto.AuctionLikeDetail;
+import org.chzz.market.domain.auction.dto.AuctionSearchCursor;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult.Hit;
+import org.chzz.market.domain.auction.dto.AuctionSearchSnapshot;
+import org.chzz.market.domain.auction.dto.response.FacetedSearchResponse;
 import org.chzz.market.domain.auction.dto.response.OfficialAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
+import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.entity.AuctionDocument;
 import org.chzz.market.domain.auction.entity.AuctionStatus;
-import org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository;
-import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionFullTextQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 경매 검색
+ * <p>
+ * 검색 결과는 검색 엔진 문서와 Redis 만으로 구성되므로 트랜잭션을 열지 않는다. 집계 결과는 페이지와 무관하므로
+ * (키워드, 상태)별로 노드 캐시에 보관하여 자주 검색되는 키워드는 집계 없이 조회한다.
+ * <p>
+ * 검색 엔진 호출은 {@link AuctionSearchEngineCaller} 의 제한 시간과 서킷 브레이커를 거치며, 검색 엔진 장애로 실패하거나 서킷이
+ * 열리면 MySQL 전문 검색으로 대체한다. 그 외 예외는 검색 엔진 장애가 아니므로 대체하지 않고 그대로 전달한다.
+ */
+@Slf4j
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class AuctionSearchService {
-    private final AuctionQueryRepository auctionQueryRepository;
-    private final AuctionElasticQueryRepository auctionElasticQueryRepository;
+    private final AuctionSearchCounterService auctionSearchCounterService;
+    private final AuctionSearchCacheService auctionSearchCacheService;
+    private final AuctionTrendingKeywordService auctionTrendingKeywordService;
+    private final AuctionSearchEngine auctionSearchEngine;
+    private final AuctionFullTextQueryRepository auctionFullTextQueryRepository;
+    private final AuctionSearchEngineCaller auctionSearchEngineCaller;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, AuctionSearchFacets> facetCache;
+
+    public AuctionSearchService(AuctionSearchCounterService auctionSearchCounterService,
+                                AuctionSearchCacheService auctionSearchCacheService,
+                                AuctionTrendingKeywordService auctionTrendingKeywordService,
+                                AuctionSearchEngine auctionSearchEngine,
+                                AuctionFullTextQueryRepository auctionFullTextQueryRepository,
+                                AuctionSearchEngineCaller auctionSearchEngineCaller,
+                                ObjectMapper objectMapper,
+                                @Value("${auction.search.facet.cache-max-size:1000}") long facetCacheMaxSize,
+                                @Value("${auction.search.facet.cache-ttl-seconds:30}") long facetCacheTtlSeconds) {
+        this.auctionSearchCounterService = auctionSearchCounterService;
+        this.auctionSearchCacheService = auctionSearchCacheService;
+        this.auctionTrendingKeywordService = auctionTrendingKeywordService;
+        this.auctionSearchEngine = auctionSearchEngine;
+        this.auctionFullTextQueryRepository = auctionFullTextQueryRepository;
+        this.auctionSearchEngineCaller = auctionSearchEngineCaller;
+        this.objectMapper = objectMapper;
+        this.facetCache = Caffeine.newBuilder()
+                .maximumSize(facetCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(facetCacheTtlSeconds))
+                .build();
+    }
 
     /**
      * 경매 검색
+     * <p>
+     * 캐시된 검색 결과가 있으면 경매 ID 로 문서만 조회한다. 검색 엔진 호출이 실패하거나 서킷 브레이커가 열려 있으면 MySQL
+     * 전문 검색으로 대체한다. 캐시 키와 같은 결과가 되도록 검색 엔진에는 정규화한 검색어를 전달한다.
      */
     public Page<?> search(Long userId, String keyword, AuctionStatus status, Pageable pageable) {
-        SearchHits<AuctionDocument> searchHits = auctionElasticQueryRepository.searchAuctions(keyword, status,
-                pageable);
-        List<AuctionDocument> auctionDocuments = searchHits.getSearchHits().stream().map(hit -> hit.getContent())
+        recordKeyword(keyword, pageable);
+        String normalizedKeyword = SearchKeywordNormalizer.normalize(keyword);
+        Optional<String> cacheKey = auctionSearchCacheService.generateKey(keyword, status, pageable);
+        Optional<AuctionSearchSnapshot> cached = cacheKey.flatMap(auctionSearchCacheService::find);
+        if (cached.isPresent()) {
+            Optional<List<AuctionDocument>> auctionDocuments = auctionSearchEngineCaller.call(
+                    () -> auctionSearchEngine.findAllByIds(status, cached.get().auctionIds()));
+            if (auctionDocuments.isPresent()) {
+                return toPage(userId, status, pageable, auctionDocuments.get(), cached.get().totalHits());
+            }
+            return searchFallback(userId, normalizedKeyword, status, pageable);
+        }
+
+        Optional<AuctionSearchResult> searchResult = auctionSearchEngineCaller.call(
+                () -> auctionSearchEngine.search(normalizedKeyword, status, pageable, false));
+        if (searchResult.isEmpty()) {
+            return searchFallback(userId, normalizedKeyword, status, pageable);
+        }
+        List<AuctionDocument> auctionDocuments = searchResult.get().documents();
+        long totalHits = searchResult.get().totalHits();
+        cacheKey.ifPresent(key -> auctionSearchCacheService.save(key, new AuctionSearchSnapshot(
+                auctionDocuments.stream().map(AuctionDocument::getAuctionId).toList(), totalHits)));
+        return toPage(userId, status, pageable, auctionDocuments, totalHits);
+    }
+
+    /**
+     * 집계 결과를 포함한 경매 검색
+     * <p>
+     * 캐시된 집계가 없을 때만 검색 요청에 집계를 포함한다. 대체 검색 시에는 캐시된 집계만 반환한다.
+     */
+    public FacetedSearchResponse searchWithFacets(Long userId, String keyword, AuctionStatus status,
+                                                  Pageable pageable) {
+        recordKeyword(keyword, pageable);
+        String normalizedKeyword = SearchKeywordNormalizer.normalize(keyword);
+        String facetKey = normalizedKeyword + ":" + status;
+        AuctionSearchFacets cachedFacets = facetCache.getIfPresent(facetKey);
+        Optional<AuctionSearchResult> searchResult = auctionSearchEngineCaller.call(
+                () -> auctionSearchEngine.search(normalizedKeyword, status, pageable, cachedFacets == null));
+        if (searchResult.isEmpty()) {
+            return FacetedSearchResponse.of(searchFallback(userId, normalizedKeyword, status, pageable),
+                    cachedFacets);
+        }
+        AuctionSearchFacets facets = cachedFacets;
+        if (facets == null) {
+            facets = searchResult.get().facets();
+            facetCache.put(facetKey, facets);
+        }
+        return FacetedSearchResponse.of(toPage(userId, status, pageable, searchResult.get().documents(),
+                searchResult.get().totalHits()), facets);
+    }
+
+    /**
+     * MySQL 전문 검색(ngram)으로 검색한 경매를 검색 문서와 같은 형태로 변환
+     */
+    private Page<?> searchFallback(Long userId, String keyword, AuctionStatus status, Pageable pageable) {
+        Page<Long> auctionIds = auctionFullTextQueryRepository.searchAuctionIds(keyword, status, pageable);
+        if (auctionIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Map<Long, Auction> auctions = auctionFullTextQueryRepository.findAllWithImagesByIdIn(auctionIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(Auction::getId, Function.identity()));
+        List<AuctionDocument> auctionDocuments = auctionIds.getContent().stream()
+                .map(auctions::get)
+                .filter(Objects::nonNull)
+                .map(AuctionDocument::from)
                 .toList();
+        return toPage(userId, status, pageable, auctionDocuments, auctionIds.getTotalElements());
+    }
 
+    private Page<?> toPage(Long userId, AuctionStatus status, Pageable pageable,
+                           List<AuctionDocument> auctionDocuments, long totalHits) {
         if (auctionDocuments.isEmpty()) {
             return Page.empty(pageable);
         }
 
         // 상태에 따라 응답 생성
         List<?> responses = createResponsesByStatus(userId, status, auctionDocuments);
-        return new PageImpl<>(responses, pageable, searchHits.getTotalHits());
+        return new PageImpl<>(responses, pageable, totalHits);
+    }
+
+    /**
+     * 커서 기반 경매 검색
+     * <p>
+     * 첫 요청(빈 커서)에서 point-in-time 을 열고, 이후 요청은 커서에 담긴 정렬 값 다음부터 조회하므로 페이지 깊이와 무관하게 일정한
+     * 비용으로 조회된다. 마지막 페이지에 도달하면 point-in-time 을 닫는다.
+     * <p>
+     * 커서는 검색 엔진의 정렬 값이므로 전문 검색으로 대체할 수 없다. 검색 엔진 장애로 실패하거나 서킷이 열려 있으면 검색을 일시적으로
+     * 사용할 수 없다는 예외를 던진다.
+     */
+    public CursorResponse<?> searchByCursor(Long userId, String keyword, AuctionStatus status, Pageable pageable,
+                                            String cursor) {
+        boolean isFirst = cursor.isBlank();
+        if (isFirst) {
+            auctionTrendingKeywordService.record(keyword);
+        }
+        AuctionSearchCursor current = isFirst
+                ? new AuctionSearchCursor(openPointInTime(status), null)
+                : AuctionSearchCursor.decode(cursor, objectMapper);
+
+        Optional<AuctionSearchResult> result;
+        try {
+            result = auctionSearchEngineCaller.call(() -> auctionSearchEngine.searchAfter(
+                    SearchKeywordNormalizer.normalize(keyword), status, pageable, current.pointInTimeId(),
+                    current.searchAfter()));
+        } catch (RuntimeException e) {
+            // 만료된 point-in-time 은 검색 엔진이 잘못된 커서 예외로 변환하며, 그 외 오류는 그대로 전달한다
+            closeIfFirst(isFirst, current.pointInTimeId());
+            throw e;
+        }
+        if (result.isEmpty()) {
+            closeIfFirst(isFirst, current.pointInTimeId());
+            throw new AuctionException(AUCTION_SEARCH_UNAVAILABLE);
+        }
+        AuctionSearchResult searchResult = result.get();
+
+        List<Hit> hits = searchResult.hits();
+        boolean hasNext = hits.size() > pageable.getPageSize();
+        List<Hit> pageHits = hasNext ? hits.subList(0, pageable.getPageSize()) : hits;
+        String pointInTimeId = searchResult.pointInTimeId() != null
+                ? searchResult.pointInTimeId()
+                : current.pointInTimeId();
+
+        List<?> responses = pageHits.isEmpty()
+                ? List.of()
+                : createResponsesByStatus(userId, status, pageHits.stream().map(Hit::document).toList());
+        if (!hasNext) {
+            // 닫기에 실패해도 point-in-time 은 keep-alive 가 지나면 만료된다
+            auctionSearchEngineCaller.run(() -> auctionSearchEngine.closePointInTime(pointInTimeId));
+            return CursorResponse.last(responses);
+        }
+        List<Object> searchAfter = pageHits.get(pageHits.size() - 1).sortValues();
+        String nextCursor = new AuctionSearchCursor(pointInTimeId, searchAfter).encode(objectMapper);
+        return new CursorResponse<>(responses, nextCursor, true);
+    }
+
+    private String openPointInTime(AuctionStatus status) {
+        return auctionSearchEngineCaller.call(() -> auctionSearchEngine.openPointInTime(status))
+                .orElseThrow(() -> new AuctionException(AUCTION_SEARCH_UNAVAILABLE));
+    }
+
+    /**
+     * 첫 요청에서 연 point-in-time 은 커서를 받지 못한 클라이언트가 다시 사용할 수 없으므로 바로 닫는다
+     */
+    private void closeIfFirst(boolean isFirst, String pointInTimeId) {
+        if (isFirst) {
+            auctionSearchEngineCaller.run(() -> auctionSearchEngine.closePointInTime(pointInTimeId));
+        }
     }
 
     /**
      * 상태에 따라 적절한 응답 생성
+     * <p>
+     * 좋아요/입찰 수는 검색 문서의 값을, 사용자별 표시는 Redis 의 사용자 집합을 사용하여 DB 를 조회하지 않는다.
      */
     private List<?> createResponsesByStatus(Long userId, AuctionStatus status, List<AuctionDocument> auctionDocuments) {
         List<Long> auctionIds = auctionDocuments.stream()
@@ -65,13 +263,12 @@ public class AuctionSearchService {
     private List<PreAuctionResponse> createPreAuctionResponses(Long userId,
                                                                List<AuctionDocument> auctionDocuments,
                                                                List<Long> auctionIds) {
-        Map<Long, AuctionLikeDetail> auctionLikeDetails = auctionQueryRepository.findAuctionLikeDetailsByAuctionIds(
-                        auctionIds, userId).stream()
-                .collect(Collectors.toMap(AuctionLikeDetail::auctionId, dto -> dto));
+        Set<Long> likedAuctionIds = auctionSearchCounterService.findRelatedAuctionIds(userId, LIKER, auctionIds);
 
         return auctionDocuments.stream().map(auctionDocument -> {
-            AuctionLikeDetail auctionLikeDetail = auctionLikeDetails.getOrDefault(auctionDocument.getAuctionId(),
-                    new AuctionLikeDetail(userId, 0L, false));
+            AuctionLikeDetail auctionLikeDetail = new AuctionLikeDetail(auctionDocument.getAuctionId(),
+                    countOrZero(auctionDocument.getLikeCount()),
+                    likedAuctionIds.contains(auctionDocument.getAuctionId()));
             return new PreAuctionResponse(auctionDocument, auctionLikeDetail, userId);
         }).toList();
     }
@@ -82,13 +279,30 @@ public class AuctionSearchService {
     private List<OfficialAuctionResponse> createOfficialAuctionResponses(Long userId,
                                                                          List<AuctionDocument> auctionDocuments,
                                                                          List<Long> auctionIds) {
-        Map<Long, AuctionBidDetail> auctionBidDetails = auctionQueryRepository.findAuctionBidDetailsByAuctionIds(
-                auctionIds, userId).stream().collect(Collectors.toMap(AuctionBidDetail::auctionId, dto -> dto));
+        Set<Long> participatedAuctionIds = auctionSearchCounterService.findRelatedAuctionIds(userId, BIDDER,
+                auctionIds);
 
         return auctionDocuments.stream().map(auctionDocument -> {
-            AuctionBidDetail auctionBidDetail = auctionBidDetails.getOrDefault(auctionDocument.getAuctionId(),
-                    new AuctionBidDetail(userId, 0L, false));
+            AuctionBidDetail auctionBidDetail = new AuctionBidDetail(auctionDocument.getAuctionId(),
+                    countOrZero(auctionDocument.getBidCount()),
+                    participatedAuctionIds.contains(auctionDocument.getAuctionId()));
             return new OfficialAuctionResponse(auctionDocument, auctionBidDetail, userId);
         }).toList();
     }
+
+    /**
+     * 같은 검색의 다음 페이지 요청은 인기 검색어 빈도에 포함하지 않는다
+     */
+    private void recordKeyword(String keyword, Pageable pageable) {
+        if (pageable.getPageNumber() == 0) {
+            auctionTrendingKeywordService.record(keyword);
+        }
+    }
+
+    /**
+     * 카운터 추가 이전에 색인된 문서는 값이 없을 수 있음
+     */
+    private static long countOrZero(Long count) {
+        return count != null ? count : 0L;
+    }
 }
@@ -0,0 +1,67 @@
+package org.chzz.market.domain.auction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.SearchKeywordNormalizer;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 경매 이름 자동완성
+ * <p>
+ * 접두어마다 최대 개수({@link #MAX_SIZE})만큼 조회해 노드별 Caffeine 캐시에 보관하고, 요청 개수만큼 잘라 반환한다. Caffeine 은
+ * 자주 조회되는 키를 우선 유지하므로 인기 접두어는 검색 엔진 요청 없이 메모리에서 응답한다.
+ */
+@Slf4j
+@Service
+public class AuctionSuggestService {
+    public static final int MAX_SIZE = 20;
+
+    private final AuctionSearchEngine auctionSearchEngine;
+    private final AuctionSearchEngineCaller auctionSearchEngineCaller;
+    private final Cache<String, List<String>> suggestionCache;
+
+    public AuctionSuggestService(AuctionSearchEngine auctionSearchEngine,
+                                 AuctionSearchEngineCaller auctionSearchEngineCaller,
+                                 @Value("${auction.suggest.cache-max-size:10000}") long cacheMaxSize,
+                                 @Value("${auction.suggest.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.auctionSearchEngine = auctionSearchEngine;
+        this.auctionSearchEngineCaller = auctionSearchEngineCaller;
+        this.suggestionCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    public List<String> suggest(String keyword, int size) {
+        String prefix = SearchKeywordNormalizer.normalize(keyword);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        List<String> suggestions = suggestionCache.getIfPresent(prefix);
+        if (suggestions == null) {
+            suggestions = load(prefix);
+        }
+        return suggestions.size() > size ? suggestions.subList(0, size) : suggestions;
+    }
+
+    /**
+     * 검색과 같은 제한 시간, 스레드, 서킷 브레이커를 거쳐 조회하며, 검색 실패 또는 서킷이 열린 경우 빈 목록을 반환하고 캐싱하지 않는다
+     */
+    private List<String> load(String prefix) {
+        try {
+            Optional<List<String>> suggestions = auctionSearchEngineCaller.call(
+                    () -> auctionSearchEngine.suggestNames(prefix, MAX_SIZE));
+            suggestions.ifPresent(loaded -> suggestionCache.put(prefix, loaded));
+            return suggestions.orElse(List.of());
+        } catch (Exception e) {
+            log.warn("경매 자동완성 조회 실패: prefix={}", prefix, e);
+            return List.of();
+        }
+    }
+}
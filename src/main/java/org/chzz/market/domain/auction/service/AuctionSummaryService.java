@@ -0,0 +1,126 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.BIDDER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.SELLER;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_NOT_FOUND;
+
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentDeleteEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentModifyEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionSummary;
+import org.chzz.market.domain.auction.entity.AuctionSummary.Relation;
+import org.chzz.market.domain.auction.error.AuctionErrorCode;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.AuctionSummaryRepository;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.error.BidException;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.order.dto.event.OrderCompletedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 마이페이지 경매 목록 읽기 모델({@link AuctionSummary}) 갱신
+ * <p>
+ * 원본 변경과 함께 커밋/롤백되도록 이벤트를 발행한 트랜잭션 안에서 동기적으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionSummaryService {
+    private final AuctionSummaryRepository auctionSummaryRepository;
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+
+    @EventListener
+    public void onRegister(AuctionDocumentSaveEvent event) {
+        Auction auction = event.auction();
+        saveIfAbsent(auction, auction.getSeller().getId(), SELLER);
+    }
+
+    /**
+     * 이미지 변경은 커밋 직전에 반영되므로 이미지 수정 이후에 실행되도록 같은 단계에서 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onModify(AuctionDocumentModifyEvent event) {
+        Auction auction = event.auction();
+        auctionSummaryRepository.updateAuctionInfo(auction.getId(), auction.getName(),
+                AuctionSummary.findFirstImageUrl(auction), auction.getMinPrice().longValue());
+    }
+
+    @EventListener
+    public void onStart(AuctionStartEvent event) {
+        Auction auction = event.auction();
+        auctionSummaryRepository.updateStatus(auction.getId(), auction.getStatus(), auction.getEndDateTime());
+    }
+
+    @EventListener
+    public void onEnd(AuctionEndEvent event) {
+        Auction auction = event.auction();
+        Long winningBidAmount = auction.getWinnerId() == null
+                ? 0L
+                : bidRepository.findByAuctionIdAndBidderId(auction.getId(), auction.getWinnerId())
+                        .map(Bid::getAmount)
+                        .orElse(0L);
+        auctionSummaryRepository.updateEnded(auction.getId(), auction.getWinnerId(), winningBidAmount);
+    }
+
+    @EventListener
+    public void onDelete(AuctionDocumentDeleteEvent event) {
+        auctionSummaryRepository.deleteByAuctionId(event.auction().getId());
+    }
+
+    @EventListener
+    public void onBid(BidCreatedEvent event) {
+        Bid bid = bidRepository.findByAuctionIdAndBidderId(event.auctionId(), event.bidderId())
+                .orElseThrow(() -> new BidException(BID_NOT_FOUND));
+        if (!event.isNewBidder()) {
+            auctionSummaryRepository.updateBidAmount(event.bidderId(), event.auctionId(), bid.getAmount());
+            return;
+        }
+        AuctionSummary summary = AuctionSummary.of(getAuction(event.auctionId()), event.bidderId(), BIDDER);
+        summary.updateBidAmount(bid.getAmount());
+        auctionSummaryRepository.save(summary);
+    }
+
+    @EventListener
+    public void onBidCancel(BidCancelledEvent event) {
+        auctionSummaryRepository.deleteRelation(event.bidderId(), event.auctionId(), BIDDER);
+    }
+
+    @EventListener
+    public void onLike(LikeUpdatedEvent event) {
+        if (event.isLiked()) {
+            saveIfAbsent(getAuction(event.auctionId()), event.userId(), LIKER);
+            return;
+        }
+        auctionSummaryRepository.deleteRelation(event.userId(), event.auctionId(), LIKER);
+    }
+
+    @EventListener
+    public void onOrder(OrderCompletedEvent event) {
+        auctionSummaryRepository.updateOrderId(event.auctionId(), event.orderId());
+    }
+
+    private void saveIfAbsent(Auction auction, Long userId, Relation relation) {
+        if (auctionSummaryRepository.findByUserIdAndAuctionIdAndRelation(userId, auction.getId(), relation)
+                .isEmpty()) {
+            auctionSummaryRepository.save(AuctionSummary.of(auction, userId, relation));
+        }
+    }
+
+    private Auction getAuction(Long auctionId) {
+        return auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new AuctionException(AuctionErrorCode.AUCTION_NOT_FOUND));
+    }
+}
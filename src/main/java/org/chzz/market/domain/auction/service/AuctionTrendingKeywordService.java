@@ -0,0 +1,131 @@
+package org.chzz.market.domain.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.CountMinSketch;
+import org.chzz.market.common.util.SearchKeywordNormalizer;
+import org.chzz.market.domain.auction.dto.response.TrendingKeywordResponse;
+import org.chzz.market.domain.auction.repository.TrendingKeywordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 검색어
+ * <p>
+ * 노드마다 count-min sketch 로 검색어 빈도를 추정하고 추정치 상위 K 개만 최소 힙으로 유지하므로, 검색어 종류와 무관하게
+ * 메모리가 일정하다. 주기적으로 상위 K 개를 Redis 의 현재 시간 구간에 더한 뒤 초기화하며, 조회 시 최근 구간들의 점수를 합산한다.
+ */
+@Slf4j
+@Service
+public class AuctionTrendingKeywordService {
+    public static final int MAX_SIZE = 20;
+
+    private final TrendingKeywordRepository trendingKeywordRepository;
+    private final int topK;
+    private final int sketchDepth;
+    private final int sketchWidth;
+    private final int maxKeywordLength;
+    private final long windowMillis;
+    private final int windowCount;
+
+    private CountMinSketch sketch;
+    private final Map<String, Long> topCounts = new HashMap<>();
+    private final PriorityQueue<String> minHeap = new PriorityQueue<>(Comparator.comparingLong(topCounts::get));
+
+    public AuctionTrendingKeywordService(TrendingKeywordRepository trendingKeywordRepository,
+                                         @Value("${auction.search.trending.top-k:100}") int topK,
+                                         @Value("${auction.search.trending.sketch-depth:4}") int sketchDepth,
+                                         @Value("${auction.search.trending.sketch-width:2048}") int sketchWidth,
+                                         @Value("${auction.search.trending.max-keyword-length:30}") int maxKeywordLength,
+                                         @Value("${auction.search.trending.window-minutes:10}") long windowMinutes,
+                                         @Value("${auction.search.trending.window-count:6}") int windowCount) {
+        this.trendingKeywordRepository = trendingKeywordRepository;
+        this.topK = topK;
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+        this.maxKeywordLength = maxKeywordLength;
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        this.windowCount = windowCount;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+    }
+
+    /**
+     * 검색어 빈도 기록
+     */
+    public void record(String keyword) {
+        String normalized = SearchKeywordNormalizer.normalize(keyword);
+        if (normalized.isEmpty() || normalized.length() > maxKeywordLength) {
+            return;
+        }
+        synchronized (this) {
+            long estimate = sketch.add(normalized, 1);
+            if (topCounts.containsKey(normalized)) {
+                // 힙 내부 순서가 바뀌므로 다시 넣는다
+                minHeap.remove(normalized);
+                topCounts.put(normalized, estimate);
+                minHeap.add(normalized);
+                return;
+            }
+            if (topCounts.size() >= topK) {
+                String least = minHeap.peek();
+                if (estimate <= topCounts.get(least)) {
+                    return;
+                }
+                minHeap.poll();
+                topCounts.remove(least);
+            }
+            topCounts.put(normalized, estimate);
+            minHeap.add(normalized);
+        }
+    }
+
+    /**
+     * 최근 구간들의 인기 검색어 조회
+     */
+    public List<TrendingKeywordResponse> getTrendingKeywords(int size) {
+        long currentWindow = currentWindow();
+        List<Long> windows = LongStream.range(0, windowCount)
+                .mapToObj(offset -> currentWindow - offset)
+                .toList();
+        return trendingKeywordRepository.sumTopScores(windows, topK).entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(size)
+                .map(entry -> new TrendingKeywordResponse(entry.getKey(), Math.round(entry.getValue())))
+                .toList();
+    }
+
+    /**
+     * 이번 주기의 상위 검색어를 Redis 에 더하고 다음 주기를 위해 초기화
+     */
+    @Scheduled(fixedDelayString = "${auction.search.trending.publish-interval-millis:60000}")
+    public void publish() {
+        Map<String, Long> counts;
+        synchronized (this) {
+            if (topCounts.isEmpty()) {
+                return;
+            }
+            counts = new HashMap<>(topCounts);
+            topCounts.clear();
+            minHeap.clear();
+            sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        }
+        trendingKeywordRepository.merge(currentWindow(), counts, Duration.ofMillis(windowMillis * (windowCount + 1)));
+    }
+
+    @PreDestroy
+    void publishOnShutdown() {
+        publish();
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / windowMillis;
+    }
+}
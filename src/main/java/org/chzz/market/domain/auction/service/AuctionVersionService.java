@@ -0,0 +1,143 @@
+package org.chzz.market.domain.auction.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentDeleteEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentModifyEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository.AuctionOrder;
+import org.chzz.market.domain.auction.repository.AuctionVersionRepository;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.order.dto.event.OrderCompletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 조건부 요청(If-None-Match)을 위한 경매 버전 관리
+ * <p>
+ * 캐시 무효화({@link AuctionDetailCacheService})가 끝난 뒤 버전이 올라가야 하므로 리스너는 기본(가장 낮은) 순서로 실행된다.
+ * <p>
+ * 남은 시간(timeRemaining)처럼 데이터 변경 없이 시간에 따라 달라지는 응답은 버전만으로 변경을 알 수 없으므로, 시간 구간을 ETag 에
+ * 포함하여 구간이 바뀌면 새 응답을 내려준다.
+ * <p>
+ * 목록 버전은 목록의 구성(등록, 상태 변경, 삭제)이나 정렬에 쓰이는 값(수정)이 바뀔 때만 증가한다. 입찰/좋아요 수만 바뀌는 변경은
+ * 목록 버전을 올리지 않으며, 목록 캐시 TTL 과 시간 구간 안에서 반영된다. 해당 수로 정렬하는 목록은 시간 구간을 ETag 에 포함한다.
+ * 버전이 없으면(변경 이력 없음 또는 만료) ETag 를 사용하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionVersionService {
+    private static final Set<String> COUNT_ORDERS = Set.of(AuctionOrder.POPULARITY.getName(),
+            AuctionOrder.LIKES.getName());
+
+    private final AuctionVersionRepository auctionVersionRepository;
+
+    @Value("${auction.etag.time-bucket-seconds:60}")
+    private long timeBucketSeconds;
+
+    /**
+     * 경매 상세 ETag, 사용자별 정보가 포함되므로 사용자 ID를 함께 사용
+     * <p>
+     * 조회 전에는 경매 상태를 알 수 없으므로 남은 시간 변화를 반영하기 위해 항상 시간 구간을 포함한다.
+     */
+    public Optional<String> getDetailETag(Long auctionId, Long userId) {
+        return auctionVersionRepository.findDetailVersion(auctionId)
+                .map(version -> toETag(version, userId) + "-" + currentTimeBucket());
+    }
+
+    /**
+     * 경매 목록 ETag
+     * <p>
+     * 진행 중 목록은 남은 시간과 minutes 필터 결과가 시간에 따라 달라지므로 시간 구간을 포함한다. 입찰/좋아요 수 정렬도 버전 없이
+     * 순서가 바뀌므로 시간 구간을 포함한다.
+     */
+    public Optional<String> getListETag(AuctionStatus status, Integer minutes, Sort sort, Long userId) {
+        boolean timeDependent = status == AuctionStatus.PROCEEDING || minutes != null
+                || sort.stream().anyMatch(order -> COUNT_ORDERS.contains(order.getProperty()));
+        return auctionVersionRepository.findListVersion(status)
+                .map(version -> timeDependent
+                        ? toETag(version, userId) + "-" + currentTimeBucket()
+                        : toETag(version, userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnRegister(AuctionDocumentSaveEvent event) {
+        auctionVersionRepository.increaseListVersion(event.auction().getStatus());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnModify(AuctionDocumentModifyEvent event) {
+        increase(event.auction(), AuctionStatus.PRE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnStart(AuctionStartEvent event) {
+        increase(event.auction(), AuctionStatus.PRE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnEnd(AuctionEndEvent event) {
+        increase(event.auction(), AuctionStatus.PROCEEDING);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnDelete(AuctionDocumentDeleteEvent event) {
+        increase(event.auction(), event.auction().getStatus());
+    }
+
+    /**
+     * 입찰/좋아요 수만 바뀌므로 상세 버전만 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnBid(BidCreatedEvent event) {
+        auctionVersionRepository.increaseDetailVersion(event.auctionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnBidCancel(BidCancelledEvent event) {
+        auctionVersionRepository.increaseDetailVersion(event.auctionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnLike(LikeUpdatedEvent event) {
+        auctionVersionRepository.increaseDetailVersion(event.auctionId());
+    }
+
+    /**
+     * 주문 여부(isOrdered)는 상세 응답에 포함되므로 상세 버전을 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increaseOnOrder(OrderCompletedEvent event) {
+        auctionVersionRepository.increaseDetailVersion(event.auctionId());
+    }
+
+    /**
+     * 상세 버전과 변경 전/후 상태의 목록 버전을 증가
+     */
+    private void increase(Auction auction, AuctionStatus previousStatus) {
+        auctionVersionRepository.increaseDetailVersion(auction.getId());
+        auctionVersionRepository.increaseListVersion(previousStatus);
+        if (auction.getStatus() != previousStatus) {
+            auctionVersionRepository.increaseListVersion(auction.getStatus());
+        }
+    }
+
+    private String toETag(Long version, Long userId) {
+        return version + "-" + (userId == null ? 0 : userId);
+    }
+
+    private long currentTimeBucket() {
+        return Instant.now().getEpochSecond() / timeBucketSeconds;
+    }
+}
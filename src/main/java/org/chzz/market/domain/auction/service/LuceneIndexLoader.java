@@ -0,0 +1,69 @@
+package org.chzz.market.domain.auction.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.LuceneAuctionSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내장 Lucene 인덱스가 비어 있으면 기동 시 MySQL 의 모든 경매를 색인
+ * <p>
+ * 색인 릴레이는 변경된 경매만 전달하므로, 새 디렉터리로 기동하거나 Elasticsearch 에서 전환하면 기존 경매가 검색되지 않는다.
+ * 스케줄러가 릴레이를 시작하기 전에 경매 ID 키셋 단위로 {@link AuctionBulkIndexer#writeTo} 를 통해 색인하고, 실패한 경매는
+ * 아웃박스에 기록하여 릴레이가 다시 보내도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "lucene")
+public class LuceneIndexLoader {
+    private final LuceneAuctionSearchEngine luceneAuctionSearchEngine;
+    private final AuctionRepository auctionRepository;
+    private final AuctionBulkIndexer auctionBulkIndexer;
+    private final AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    private final AuctionSearchCacheService auctionSearchCacheService;
+
+    @Value("${auction.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    @PostConstruct
+    void loadIfEmpty() {
+        if (!luceneAuctionSearchEngine.isEmpty()) {
+            return;
+        }
+        Long minId = auctionRepository.findMinId().orElse(null);
+        Long maxId = auctionRepository.findMaxId().orElse(null);
+        if (minId == null || maxId == null) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long copied = 0;
+        long afterId = minId - 1;
+        List<Long> auctionIds;
+        do {
+            auctionIds = auctionRepository.findIdsInRange(afterId, maxId, PageRequest.of(0, chunkSize));
+            if (auctionIds.isEmpty()) {
+                break;
+            }
+            Set<Long> failedIds = auctionBulkIndexer.writeTo(luceneAuctionSearchEngine::write, auctionIds);
+            if (!failedIds.isEmpty()) {
+                auctionIndexOutboxRepository.saveAll(failedIds.stream()
+                        .map(auctionId -> AuctionIndexOutbox.of(auctionId, true))
+                        .toList());
+            }
+            copied += auctionIds.size() - failedIds.size();
+            afterId = auctionIds.get(auctionIds.size() - 1);
+        } while (auctionIds.size() == chunkSize);
+        auctionSearchCacheService.invalidateAll();
+        log.info("Lucene 경매 전체 색인 완료: copied={}, elapsed={}ms", copied, System.currentTimeMillis() - startedAt);
+    }
+}
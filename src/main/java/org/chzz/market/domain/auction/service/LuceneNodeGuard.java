@@ -0,0 +1,90 @@
+package org.chzz.market.domain.auction.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내장 Lucene 검색 엔진의 단일 노드 확인
+ * <p>
+ * Lucene 인덱스는 노드 로컬이고 색인 릴레이는 락을 얻은 한 노드에서만 실행되므로, 여러 노드에서 실행하면 나머지 노드의 검색 결과가
+ * 갱신되지 않는다. 노드 ID 를 TTL 이 있는 Redis 키에 등록해 두고, 다른 노드가 이미 등록되어 있으면 오류로 기록하거나 설정에 따라
+ * 기동을 중단한다. 같은 JVM 의 여러 컨텍스트(테스트)는 같은 노드로 본다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.search.engine", havingValue = "lucene")
+public class LuceneNodeGuard {
+    private static final String NODE_KEY = "auction:search:lucene:node";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    private final Duration ttl;
+    private final boolean failOnMultiNode;
+
+    public LuceneNodeGuard(RedisTemplate<String, Object> redisTemplate,
+                           @Value("${auction.search.lucene.node-ttl-seconds:30}") long ttlSeconds,
+                           @Value("${auction.search.lucene.fail-on-multi-node:false}") boolean failOnMultiNode) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.failOnMultiNode = failOnMultiNode;
+    }
+
+    @PostConstruct
+    void register() {
+        Optional<String> otherNode = renew();
+        if (otherNode.isPresent() && failOnMultiNode) {
+            throw new IllegalStateException("내장 Lucene 검색 엔진은 단일 노드에서만 사용할 수 있습니다. 실행 중인 노드: "
+                    + otherNode.get());
+        }
+    }
+
+    /**
+     * TTL 의 1/3 간격으로 등록을 갱신하며, 다른 노드가 실행 중이면 매번 오류로 기록한다.
+     */
+    @Scheduled(fixedRateString = "#{${auction.search.lucene.node-ttl-seconds:30} * 1000 / 3}")
+    public void check() {
+        renew();
+    }
+
+    @PreDestroy
+    void unregister() {
+        try {
+            if (nodeId.equals(redisTemplate.opsForValue().get(NODE_KEY))) {
+                redisTemplate.delete(NODE_KEY);
+            }
+        } catch (Exception e) {
+            log.warn("Lucene 노드 등록 해제 실패", e);
+        }
+    }
+
+    /**
+     * @return 이미 등록된 다른 노드 ID
+     */
+    private Optional<String> renew() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(NODE_KEY, nodeId, ttl))) {
+                return Optional.empty();
+            }
+            Object registered = redisTemplate.opsForValue().get(NODE_KEY);
+            if (registered == null || nodeId.equals(registered)) {
+                redisTemplate.expire(NODE_KEY, ttl);
+                return Optional.empty();
+            }
+            log.error("내장 Lucene 검색 엔진이 여러 노드에서 실행 중입니다. 노드마다 인덱스가 달라 검색 결과가 어긋납니다. "
+                    + "현재 노드: {}, 실행 중인 노드: {}", nodeId, registered);
+            return Optional.of(registered.toString());
+        } catch (Exception e) {
+            log.warn("Lucene 노드 등록 확인 실패", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package org.chzz.market.domain.bid.dto.event;
+
+public record BidCancelledEvent(Long auctionId, Long bidderId) {
+}
@@ -0,0 +1,7 @@
+package org.chzz.market.domain.bid.dto.event;
+
+/**
+ * @param isNewBidder 최초 입찰 여부 (금액 수정이면 false)
+ */
+public record BidCreatedEvent(Long auctionId, Long bidderId, boolean isNewBidder) {
+}
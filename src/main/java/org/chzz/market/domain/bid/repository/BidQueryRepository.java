@@ -1,6 +1,7 @@
 package org.chzz.market.domain.bid.repository;
 
 import static com.querydsl.core.types.dsl.Expressions.numberTemplate;
+import static org.chzz.market.common.util.QuerydslUtil.fetchPage;
 import static org.chzz.market.common.util.QuerydslUtil.nullSafeBuilderIgnore;
 import static org.chzz.market.domain.auction.entity.QAuction.auction;
 import static org.chzz.market.domain.bid.entity.Bid.BidStatus.ACTIVE;
@@ -31,7 +32,6 @@ import org.chzz.market.domain.bid.dto.response.QBidInfoResponse;
 import org.chzz.market.domain.bid.entity.Bid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -51,21 +51,16 @@ public class BidQueryRepository {
                         .and(auction.id.eq(auctionId))
                         .and(bid.status.eq(ACTIVE)));
 
-        List<BidInfoResponse> content = baseQuery
+        JPAQuery<BidInfoResponse> contentQuery = baseQuery
                 .select(new QBidInfoResponse(
                         bid.amount,
                         user.nickname,
                         isWinner
                 ))
                 .join(user).on(bid.bidderId.eq(user.id))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        JPAQuery<Long> countQuery = baseQuery.
-                select(bid.count());
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(bid.count()).fetchOne());
     }
 
     /**
@@ -80,7 +75,7 @@ public class BidQueryRepository {
                         .and(bid.status.eq(ACTIVE))
                         .and(auctionStatusEqIgnoreNull(auctionStatus)));
 
-        List<BiddingRecord> result = baseQuery
+        JPAQuery<BiddingRecord> contentQuery = baseQuery
                 .select(Projections.constructor(
                         BiddingRecord.class,
                         auction.id,
@@ -93,16 +88,9 @@ public class BidQueryRepository {
                         bid.amount
                 ))
                 .leftJoin(image).on(image.auction.eq(auction).and(isRepresentativeImage()))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 카운트 쿼리 작성
-        JPAQuery<Long> countQuery = baseQuery
-                .select(bid.count());
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable));
 
-        return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(bid.count()).fetchOne());
     }
 
     /**
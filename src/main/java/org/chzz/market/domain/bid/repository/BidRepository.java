@@ -1,9 +1,20 @@
 package org.chzz.market.domain.bid.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.entity.Bid.BidStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BidRepository extends JpaRepository<Bid, Long> {
     Optional<Bid> findByAuctionIdAndBidderId(Long auctionId, Long userId);
+
+    /**
+     * 사용자가 입찰한 경매 ID (복제 지연 없이 원본 DB에서 조회)
+     */
+    @Transactional
+    @Query("SELECT b.auctionId FROM Bid b WHERE b.bidderId = :bidderId AND b.status = :status")
+    List<Long> findAuctionIdsByBidderIdAndStatus(Long bidderId, BidStatus status);
 }
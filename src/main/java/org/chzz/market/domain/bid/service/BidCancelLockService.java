@@ -6,9 +6,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.common.aop.redisrock.DistributedLock;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
 import org.chzz.market.domain.bid.entity.Bid;
 import org.chzz.market.domain.bid.error.BidException;
 import org.chzz.market.domain.bid.repository.BidRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class BidCancelLockService {
 
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 분산 락을 사용한 입찰 취소
@@ -29,6 +32,7 @@ public class BidCancelLockService {
         Bid bid = bidRepository.findById(bidId).orElseThrow(() -> new BidException(BID_NOT_FOUND));
         bid.cancelBid();
         auctionRepository.decrementBidCount(auctionId);
+        eventPublisher.publishEvent(new BidCancelledEvent(auctionId, userId));
         log.info("입찰이 취소되었습니다. 입찰 ID: {}, 사용자 ID: {}, 경매 ID: {}", bid.getId(), userId, auctionId);
     }
 }
@@ -5,18 +5,22 @@ import static org.chzz.market.domain.bid.error.BidErrorCode.BID_BELOW_MIN_PRICE;
 import static org.chzz.market.domain.bid.error.BidErrorCode.BID_BY_OWNER;
 import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.common.aop.redisrock.DistributedLock;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.error.AuctionException;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
 import org.chzz.market.domain.bid.dto.request.BidCreateRequest;
+import org.chzz.market.domain.bid.entity.Bid;
 import org.chzz.market.domain.bid.error.BidException;
 import org.chzz.market.domain.bid.repository.BidRepository;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.error.exception.UserException;
 import org.chzz.market.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,7 @@ public class BidCreateService {
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @DistributedLock(key = "'bid:' + #userId + ':' + #bidCreateRequest.auctionId")
@@ -36,16 +41,17 @@ public class BidCreateService {
         Auction auction = auctionRepository.findById(bidCreateRequest.getAuctionId())
                 .orElseThrow(() -> new AuctionException(AUCTION_NOT_FOUND));
         validateBidConditions(bidCreateRequest, user.getId(), auction);
-        bidRepository.findByAuctionIdAndBidderId(auction.getId(), userId)
-                .ifPresentOrElse(
-                        // 이미 입찰을 한 경우
-                        bid -> bid.adjustBidAmount(bidCreateRequest.getBidAmount()),
-                        // 입찰을 처음 하는 경우
-                        () -> {
-                            bidRepository.save(bidCreateRequest.toEntity(user.getId()));
-                            auctionRepository.incrementBidCount(auction.getId());
-                        }
-                );
+        Optional<Bid> existingBid = bidRepository.findByAuctionIdAndBidderId(auction.getId(), userId);
+        existingBid.ifPresentOrElse(
+                // 이미 입찰을 한 경우
+                bid -> bid.adjustBidAmount(bidCreateRequest.getBidAmount()),
+                // 입찰을 처음 하는 경우
+                () -> {
+                    bidRepository.save(bidCreateRequest.toEntity(user.getId()));
+                    auctionRepository.incrementBidCount(auction.getId());
+                }
+        );
+        eventPublisher.publishEvent(new BidCreatedEvent(auction.getId(), userId, existingBid.isEmpty()));
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.chzz.market.domain.image.dto.response;
 
 import com.querydsl.core.annotations.QueryProjection;
+import java.util.List;
 import org.chzz.market.domain.image.entity.Image;
 
 public record ImageResponse(
@@ -14,4 +15,16 @@ public record ImageResponse(
     public static ImageResponse from(Image image) {
         return new ImageResponse(image.getId(), image.getCdnPath());
     }
+
+    /**
+     * 이미지 테이블 left join 결과 중 이미지가 없는 행 제거
+     */
+    public static List<ImageResponse> filterEmpty(List<ImageResponse> images) {
+        if (images == null) {
+            return List.of();
+        }
+        return images.stream()
+                .filter(image -> image.imageId() != null)
+                .toList();
+    }
 }
@@ -0,0 +1,9 @@
+package org.chzz.market.domain.like.dto.event;
+
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+
+/**
+ * @param isLiked 좋아요 추가 여부 (취소면 false)
+ */
+public record LikeUpdatedEvent(Long auctionId, AuctionStatus status, Long userId, boolean isLiked) {
+}
@@ -4,9 +4,18 @@ import java.util.List;
 import java.util.Optional;
 import org.chzz.market.domain.like.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
     List<Like> findByAuctionId(Long auctionId);
 
     Optional<Like> findByUserIdAndAuctionId(Long userId, Long auctionId);
+
+    /**
+     * 사용자가 좋아요한 경매 ID (복제 지연 없이 원본 DB에서 조회)
+     */
+    @Transactional
+    @Query("SELECT l.auctionId FROM Like l WHERE l.userId = :userId")
+    List<Long> findAuctionIdsByUserId(Long userId);
 }
@@ -2,12 +2,16 @@ package org.chzz.market.domain.like.service;
 
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_NOT_FOUND;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.chzz.market.common.aop.redisrock.DistributedLock;
+import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.error.AuctionException;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
 import org.chzz.market.domain.like.entity.Like;
 import org.chzz.market.domain.like.repository.LikeRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LikeUpdateService {
     private final AuctionRepository auctionRepository;
     private final LikeRepository likeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @DistributedLock(key = "'like:' + #userId + ':' + #auctionId")
     public void updateLike(Long userId, Long auctionId) {
@@ -25,14 +30,16 @@ public class LikeUpdateService {
 
     @Transactional
     public void handleLikeTransaction(Long userId, Long auctionId) {
-        auctionRepository.findById(auctionId)
+        Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new AuctionException(AUCTION_NOT_FOUND));
 
-        likeRepository.findByUserIdAndAuctionId(userId, auctionId)
-                .ifPresentOrElse(
-                        like -> handleUnlike(like, auctionId),
-                        () -> handleLike(userId, auctionId)
-                );
+        Optional<Like> existingLike = likeRepository.findByUserIdAndAuctionId(userId, auctionId);
+        existingLike.ifPresentOrElse(
+                like -> handleUnlike(like, auctionId),
+                () -> handleLike(userId, auctionId)
+        );
+        eventPublisher.publishEvent(
+                new LikeUpdatedEvent(auctionId, auction.getStatus(), userId, existingLike.isEmpty()));
     }
 
     private void handleUnlike(Like like, Long auctionId) {
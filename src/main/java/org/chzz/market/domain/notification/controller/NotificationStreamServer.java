@@ -0,0 +1,113 @@
+package org.chzz.market.domain.notification.controller;
+
+import static org.chzz.market.common.filter.JWTFilter.AUTHORIZATION_HEADER;
+import static org.chzz.market.common.filter.JWTFilter.BEARER_TOKEN_PREFIX;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.JWTUtil;
+import org.chzz.market.domain.notification.repository.NotificationSinkRepository;
+import org.chzz.market.domain.notification.service.NotificationService;
+import org.chzz.market.domain.token.entity.TokenType;
+import org.chzz.market.domain.token.error.exception.TokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 리액티브 SSE 알림 스트림 서버 ({@code notification.stream.port} 설정 시)
+ * <p>
+ * 애플리케이션은 서블릿(Tomcat) 위에서 실행되므로, 스트림은 별도 포트의 Reactor Netty 서버로 제공하여 연결이 서블릿 비동기
+ * 요청이나 스레드를 점유하지 않고 이벤트 루프에서 처리되도록 한다. 인증은 /subscribe 와 같이 Authorization 헤더의 액세스 토큰으로
+ * 한다. 종료 시 모든 싱크를 완료하여 열린 스트림을 닫은 뒤 서버를 내린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.stream.port")
+public class NotificationStreamServer implements SmartLifecycle {
+    public static final String STREAM_PATH = "/api/v1/notifications/stream";
+
+    private final NotificationService notificationService;
+    private final NotificationSinkRepository notificationSinkRepository;
+    private final JWTUtil jwtUtil;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public NotificationStreamServer(NotificationService notificationService,
+                                    NotificationSinkRepository notificationSinkRepository,
+                                    JWTUtil jwtUtil,
+                                    @Value("${notification.stream.port}") int port) {
+        this.notificationService = notificationService;
+        this.notificationSinkRepository = notificationSinkRepository;
+        this.jwtUtil = jwtUtil;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        HttpHandler handler = RouterFunctions.toHttpHandler(RouterFunctions.route(GET(STREAM_PATH), this::stream));
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(handler))
+                .bindNow();
+        log.info("[SSE] 알림 스트림 서버 시작 Port: {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current == null) {
+            return;
+        }
+        notificationSinkRepository.completeAll();
+        try {
+            current.disposeNow();
+        } catch (IllegalStateException e) {
+            log.warn("[SSE] 알림 스트림 서버 종료 대기 시간 초과", e);
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 서버가 바인딩된 포트 (설정이 0 이면 임의 포트)
+     */
+    public int getPort() {
+        return server.port();
+    }
+
+    private Mono<ServerResponse> stream(ServerRequest request) {
+        String authorization = request.headers().firstHeader(AUTHORIZATION_HEADER);
+        if (authorization == null || !authorization.startsWith(BEARER_TOKEN_PREFIX)) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String accessToken = authorization.substring(BEARER_TOKEN_PREFIX.length());
+        Long userId;
+        try {
+            jwtUtil.validateToken(accessToken, TokenType.ACCESS);
+            userId = jwtUtil.getId(accessToken);
+        } catch (TokenException e) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .header("X-Accel-Buffering", "no")
+                .body(BodyInserters.fromServerSentEvents(notificationService.subscribeStream(userId)));
+    }
+}
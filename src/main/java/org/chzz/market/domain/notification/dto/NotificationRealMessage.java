@@ -1,6 +1,8 @@
 package org.chzz.market.domain.notification.dto;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.chzz.market.domain.notification.entity.NotificationType;
 import org.chzz.market.domain.notification.event.NotificationEvent;
 
@@ -19,4 +21,14 @@ public record NotificationRealMessage(
                 notificationEvent.additionalFields()
         );
     }
+
+    /**
+     * 주어진 사용자에 대한 알림만 담은 메시지
+     */
+    public NotificationRealMessage forUsers(Set<Long> userIds) {
+        Map<Long, Long> filtered = notificationIds.entrySet().stream()
+                .filter(entry -> userIds.contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new NotificationRealMessage(filtered, message, type, additionalFields);
+    }
 }
@@ -0,0 +1,153 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 SSE 연결 노드 집합 (userId → nodeId)
+ * <p>
+ * 알림을 연결이 있는 노드의 채널로만 발행하기 위해 사용한다. 사용자가 여러 노드에 연결할 수 있으므로 만료 시각을 점수로 하는 정렬
+ * 집합으로 관리하며, 노드의 마지막 연결이 끊기면 해당 노드를 제거한다. 연결이 유지되는 동안에는 하트비트마다 만료 시각을 연장하므로,
+ * 비정상 종료된 노드가 남긴 항목은 하트비트 주기의 몇 배 안에 조회에서 제외된다.
+ */
+@Slf4j
+@Repository
+public class NotificationPresenceRepository {
+    public static final String BROADCAST_CHANNEL = "notification";
+    private static final String NODE_CHANNEL_PREFIX = "notification:node:";
+    private static final String KEY_PREFIX = "notification:presence:node:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    @Getter
+    private final String nodeId;
+    private final Duration ttl;
+
+    public NotificationPresenceRepository(RedisTemplate<String, Object> redisTemplate,
+                                          @Value("${notification.node-id:#{T(java.util.UUID).randomUUID().toString()}}") String nodeId,
+                                          @Value("#{${notification.sse.heartbeat.interval-millis:60000} * 3}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.ttl = Duration.ofMillis(ttlMillis); // 하트비트를 두 번 놓쳐도 만료되지 않도록
+    }
+
+    /**
+     * 현재 노드가 수신하는 채널
+     */
+    public String nodeChannel() {
+        return channelOf(nodeId);
+    }
+
+    public static String channelOf(String nodeId) {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 현재 노드를 사용자의 연결 노드로 등록
+     */
+    public void register(Long userId) {
+        register(List.of(userId));
+    }
+
+    /**
+     * 현재 노드를 사용자들의 연결 노드로 등록하거나 만료 시각을 연장하고, 만료된 다른 노드 항목을 정리
+     */
+    public void register(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    userIds.forEach(userId -> {
+                        String key = generateKey(userId);
+                        redisOperations.opsForZSet().add(key, nodeId, now + ttl.toMillis());
+                        redisOperations.opsForZSet().removeRangeByScore(key, 0, now);
+                        redisOperations.expire(key, ttl);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("알림 연결 노드 등록 실패: userIds={}", userIds, e);
+        }
+    }
+
+    /**
+     * 사용자의 연결 노드에서 현재 노드를 제거
+     */
+    public void unregister(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    userIds.forEach(userId -> redisOperations.opsForZSet().remove(generateKey(userId), nodeId));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("알림 연결 노드 삭제 실패: userIds={}", userIds, e);
+        }
+    }
+
+    /**
+     * 사용자들의 만료되지 않은 연결 노드를 한 번의 왕복으로 조회하여 노드별로 묶는다. 연결된 노드가 없는 사용자는 제외된다.
+     *
+     * @return 노드 ID별 사용자 ID (조회에 실패하면 empty)
+     */
+    public Optional<Map<String, Set<Long>>> findUserIdsByNode(Collection<Long> userIds) {
+        List<Long> orderedUserIds = new ArrayList<>(userIds);
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    orderedUserIds.forEach(userId -> redisOperations.opsForZSet()
+                            .rangeByScore(generateKey(userId), now, Double.POSITIVE_INFINITY));
+                    return null;
+                }
+            });
+            Map<String, Set<Long>> userIdsByNode = new HashMap<>();
+            for (int i = 0; i < orderedUserIds.size(); i++) {
+                if (results.get(i) instanceof Collection<?> nodeIds) {
+                    Long userId = orderedUserIds.get(i);
+                    nodeIds.forEach(node -> userIdsByNode.computeIfAbsent((String) node, k -> new HashSet<>())
+                            .add(userId));
+                }
+            }
+            return Optional.of(userIdsByNode);
+        } catch (Exception e) {
+            log.warn("알림 연결 노드 조회 실패: userIds={}", userIds, e);
+            return Optional.empty();
+        }
+    }
+
+    private String generateKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -1,20 +1,19 @@
 package org.chzz.market.domain.notification.repository;
 
 import static java.lang.Boolean.FALSE;
+import static org.chzz.market.common.util.QuerydslUtil.fetchPage;
 import static org.chzz.market.domain.image.entity.QImage.image;
 import static org.chzz.market.domain.notification.entity.QNotification.notification;
 
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
 import org.chzz.market.domain.notification.dto.response.QNotificationResponse;
 import org.chzz.market.domain.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
@@ -25,7 +24,7 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         JPAQuery<?> baseQuery = jpaQueryFactory.from(notification)
                 .where(notification.userId.eq(userId));
 
-        List<NotificationResponse> content = baseQuery
+        JPAQuery<NotificationResponse> contentQuery = baseQuery
                 .select(new QNotificationResponse(
                         notification.id,
                         notification.message,
@@ -36,15 +35,9 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
                         notification.createdAt
                 ))
                 .where(notification.isDeleted.eq(FALSE))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(notification.createdAt.desc())
-                .fetch();
+                .orderBy(notification.createdAt.desc());
 
-        JPAQuery<Long> countQuery = baseQuery
-                .select(notification.count());
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+        return fetchPage(contentQuery, pageable, () -> baseQuery.select(notification.count()).fetchCount());
 
     }
 
@@ -0,0 +1,138 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+
+/**
+ * 사용자별 {@link Sinks.Many} 저장소 (리액티브 SSE)
+ * <p>
+ * 사용자당 하나의 멀티캐스트 싱크를 같은 사용자의 연결들이 함께 구독하므로, 이벤트는 연결 수와 관계없이 한 번만 발행된다. 전송되지 못한
+ * 이벤트는 버퍼 크기까지만 보관하고 넘치면 버려 느린 연결이 메모리를 계속 차지하지 않도록 한다. 마지막 연결이 끊기면 싱크를 제거한다.
+ */
+@Repository
+@Slf4j
+public class NotificationSinkRepository {
+    private final Map<Long, UserSink> sinks = new ConcurrentHashMap<>();
+    private final int bufferSize;
+
+    public NotificationSinkRepository(@Value("${notification.sse.buffer-size:32}") int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 사용자의 싱크를 구독하는 스트림을 반환합니다. 구독 시점에 연결이 등록되고, 종료/취소 시 해제됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자에게 전송될 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<String>> connect(Long userId) {
+        return Flux.defer(() -> {
+            // 연결 수 증감을 맵 갱신과 원자적으로 처리하여, 제거되는 싱크에 새 연결이 붙지 않도록 한다
+            UserSink userSink = sinks.compute(userId, (id, current) -> {
+                UserSink target = current == null ? new UserSink(bufferSize) : current;
+                target.connections++;
+                return target;
+            });
+            log.info("[SSE] 연결 저장 UserId: {}", userId);
+            return userSink.sink.asFlux().doFinally(signal -> release(userId, userSink));
+        });
+    }
+
+    /**
+     * 사용자에게 연결된 스트림이 있는지 확인합니다.
+     */
+    public boolean isConnected(Long userId) {
+        return sinks.containsKey(userId);
+    }
+
+    /**
+     * 사용자의 싱크에 이벤트를 발행합니다.
+     *
+     * @return 발행 성공 여부. 연결이 없거나 버퍼가 가득 찬 경우 false
+     */
+    public boolean emit(Long userId, ServerSentEvent<String> event) {
+        UserSink userSink = sinks.get(userId);
+        return userSink != null && userSink.emit(userId, event);
+    }
+
+    /**
+     * 조건에 맞는 사용자의 싱크에 이벤트를 발행합니다.
+     *
+     * @return 조건에 맞는 사용자 ID
+     */
+    public Set<Long> emitToAll(ServerSentEvent<String> event, Predicate<Long> userFilter) {
+        Set<Long> userIds = new HashSet<>();
+        sinks.forEach((userId, userSink) -> {
+            if (userFilter.test(userId)) {
+                userSink.emit(userId, event);
+                userIds.add(userId);
+            }
+        });
+        return userIds;
+    }
+
+    /**
+     * 모든 싱크를 완료하여 연결된 스트림을 종료합니다. (스트림 서버 종료 시)
+     */
+    public void completeAll() {
+        sinks.values().forEach(UserSink::complete);
+    }
+
+    /**
+     * 연결된 사용자 ID
+     */
+    public Set<Long> findAllUserIds() {
+        return Set.copyOf(sinks.keySet());
+    }
+
+    /**
+     * 연결된 사용자 수
+     */
+    public int countUsers() {
+        return sinks.size();
+    }
+
+    private void release(Long userId, UserSink userSink) {
+        sinks.computeIfPresent(userId, (id, current) -> {
+            if (current != userSink) {
+                return current;
+            }
+            return --current.connections == 0 ? null : current;
+        });
+        log.info("[SSE] 연결 삭제 UserId: {}", userId);
+    }
+
+    private static final class UserSink {
+        private final Sinks.Many<ServerSentEvent<String>> sink;
+        private int connections; // sinks.compute 안에서만 변경
+
+        private UserSink(int bufferSize) {
+            this.sink = Sinks.many().multicast().onBackpressureBuffer(bufferSize, false);
+        }
+
+        /**
+         * 싱크는 동시 발행을 허용하지 않으므로 (FAIL_NON_SERIALIZED) 사용자 단위로 직렬화한다.
+         */
+        private synchronized boolean emit(Long userId, ServerSentEvent<String> event) {
+            EmitResult result = sink.tryEmitNext(event);
+            if (result.isFailure()) {
+                log.info("[SSE] 이벤트 전송 실패 UserId: {} Result: {}", userId, result);
+            }
+            return result.isSuccess();
+        }
+
+        private synchronized void complete() {
+            sink.tryEmitComplete();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package org.chzz.market.domain.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
@@ -13,13 +17,17 @@ import org.chzz.market.domain.notification.entity.Notification;
 import org.chzz.market.domain.notification.error.NotificationErrorCode;
 import org.chzz.market.domain.notification.error.NotificationException;
 import org.chzz.market.domain.notification.repository.EmitterRepositoryImpl;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
 import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.NotificationSinkRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +36,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final EmitterRepositoryImpl emitterRepository;
+    private final NotificationSinkRepository notificationSinkRepository;
+    private final NotificationPresenceRepository notificationPresenceRepository;
+    private final SseHeartbeatWheel sseHeartbeatWheel;
     private final ObjectMapper objectMapper;
 
     /**
@@ -39,11 +50,37 @@ public class NotificationService {
     public SseEmitter subscribe(Long userId) {
         SseEmitter emitter = new SseEmitter(25 * 60 * 60 * 1000L); // 25시간으로 설정
         emitterRepository.save(userId, emitter);
-        setupEmitterCallbacks(userId, emitter);
+        notificationPresenceRepository.register(userId);
+        setupEmitterCallbacks(userId, emitter, sseHeartbeatWheel.register(userId, emitter));
         sendInitialConnectionEvent(userId, emitter);
         return emitter;
     }
 
+    /**
+     * 사용자 ID로 리액티브 SSE 스트림을 생성합니다. 연결마다 SseEmitter를 두지 않고 사용자별 싱크를 구독합니다.
+     * <p>
+     * 스트림은 Netty 이벤트 루프에서 구독되므로 연결 노드 등록/해제(Redis)는 별도 스케줄러에서 실행합니다. 등록은 싱크를 저장한 뒤
+     * 실행되어 {@link #releasePresenceIfDisconnected(Long)} 의 재확인이 SseEmitter 연결과 같이 동작합니다.
+     *
+     * @param userId 구독할 사용자 ID
+     * @return 초기 연결 이벤트로 시작하는 알림 스트림
+     */
+    public Flux<ServerSentEvent<String>> subscribeStream(Long userId) {
+        return notificationSinkRepository.connect(userId)
+                .doOnSubscribe(subscription -> {
+                    log.info("[SSE] 연결 성공 UserId: {}", userId);
+                    scheduleBlocking(() -> notificationPresenceRepository.register(userId));
+                })
+                .doFinally(signal -> scheduleBlocking(() -> {
+                    releasePresenceIfDisconnected(userId);
+                    log.info("[SSE] 연결 종료 UserId: {}", userId);
+                }))
+                .startWith(ServerSentEvent.builder("Connection Established")
+                        .id(userId + "_" + Instant.now().toEpochMilli())
+                        .event("init")
+                        .build());
+    }
+
     /**
      * 실시간으로 SSE를 통해 사용자에게 알림을 전송합니다.
      *
@@ -66,6 +103,7 @@ public class NotificationService {
                 }
             });
         });
+        sendReactiveNotification(userId, sseResponse);
     }
 
     /**
@@ -88,31 +126,79 @@ public class NotificationService {
     }
 
     /**
-     * 모든 emitters에 하트비트 메시지를 주기적으로 전송하여 연결 상태를 확인
+     * 종료 시 현재 노드에 연결된 사용자의 연결 노드 정보를 정리합니다.
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    public void sendHeartbeats() {
-        emitterRepository.findAllEmitters().forEach((userId, emitters) -> {
-            emitters.forEach(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                } catch (IOException e) {
-                    // 내부에서 추가로 IOException이 발생하므로, 프레임워크의 예외 처리 핸들러에 처리
-                    log.info("[SSE] 연결 정리 UserId: {}", userId);
-                }
-            });
-        });
+    @PreDestroy
+    public void releasePresence() {
+        Set<Long> userIds = new HashSet<>(emitterRepository.findAllEmitters().keySet());
+        userIds.addAll(notificationSinkRepository.findAllUserIds());
+        notificationPresenceRepository.unregister(userIds);
+    }
+
+    /**
+     * 사용자의 현재 노드 연결이 모두 끊겼으면 연결 노드에서 현재 노드를 제거합니다.
+     * <p>
+     * 확인과 제거 사이에 같은 사용자가 다시 구독하면 구독의 등록이 제거보다 먼저 끝날 수 있으므로, 제거 후 연결이 생겼으면 다시
+     * 등록합니다. 구독은 연결을 저장한 뒤 등록하므로 제거 후 확인에서 연결이 보이지 않았다면 구독의 등록은 제거 이후에 실행됩니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void releasePresenceIfDisconnected(Long userId) {
+        if (isConnected(userId)) {
+            return;
+        }
+        notificationPresenceRepository.unregister(List.of(userId));
+        if (isConnected(userId)) {
+            notificationPresenceRepository.register(userId);
+        }
+    }
+
+    private boolean isConnected(Long userId) {
+        return emitterRepository.findByUserId(userId).isPresent() || notificationSinkRepository.isConnected(userId);
+    }
+
+    /**
+     * 리액티브 스트림으로 연결된 사용자에게 알림을 발행합니다.
+     *
+     * @param userId      사용자 ID
+     * @param sseResponse 전송할 알림 메시지 객체
+     */
+    private void sendReactiveNotification(Long userId, NotificationSseResponse sseResponse) {
+        if (!notificationSinkRepository.isConnected(userId)) {
+            return;
+        }
+        try {
+            ServerSentEvent<String> event = ServerSentEvent.builder(objectMapper.writeValueAsString(sseResponse))
+                    .id(userId + "_" + Instant.now().toEpochMilli())
+                    .event("notification")
+                    .build();
+            if (notificationSinkRepository.emit(userId, event)) {
+                log.info("[SSE] 알림 전송 성공 UserId: {} {}", userId, sseResponse);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("[SSE] 알림 직렬화 실패 UserId: {} {}", userId, sseResponse, e);
+        }
+    }
+
+    /**
+     * 이벤트 루프를 막지 않도록 블로킹 작업을 별도 스케줄러에서 실행합니다.
+     */
+    private void scheduleBlocking(Runnable task) {
+        Schedulers.boundedElastic().schedule(task);
     }
 
     /**
      * SseEmitter의 콜백을 설정합니다.
      *
-     * @param userId  사용자 ID
-     * @param emitter 설정할 SseEmitter
+     * @param userId       사용자 ID
+     * @param emitter      설정할 SseEmitter
+     * @param connectionId 하트비트 휠에 등록된 연결 ID
      */
-    private void setupEmitterCallbacks(Long userId, SseEmitter emitter) {
+    private void setupEmitterCallbacks(Long userId, SseEmitter emitter, long connectionId) {
         emitter.onCompletion(() -> {
             emitterRepository.deleteEmitter(userId, emitter);
+            sseHeartbeatWheel.unregister(connectionId);
+            releasePresenceIfDisconnected(userId);
             log.info("[SSE] 연결 종료 UserId: {}", userId);
         });
         emitter.onTimeout(() -> {
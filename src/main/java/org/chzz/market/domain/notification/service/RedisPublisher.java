@@ -4,10 +4,14 @@ import static org.chzz.market.domain.notification.error.NotificationErrorCode.RE
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.domain.notification.dto.NotificationRealMessage;
 import org.chzz.market.domain.notification.error.NotificationException;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.retry.annotation.Recover;
@@ -21,12 +25,27 @@ public class RedisPublisher {
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic topic;
     private final ObjectMapper objectMapper;
+    private final NotificationPresenceRepository notificationPresenceRepository;
 
+    /**
+     * 알림 대상 사용자가 연결된 노드의 채널로만 해당 사용자분의 메시지를 발행합니다. 연결된 노드가 없는 사용자는 발행하지 않으며,
+     * 연결 노드 조회에 실패하면 모든 노드가 수신하는 채널로 발행합니다.
+     *
+     * @param notificationRealMessage 발행할 알림 메시지
+     */
     @Retryable(exclude = {JsonProcessingException.class})
     public void publish(NotificationRealMessage notificationRealMessage) {
         try {
-            String message = objectMapper.writeValueAsString(notificationRealMessage);
-            redisTemplate.convertAndSend(topic.getTopic(), message);
+            Optional<Map<String, Set<Long>>> userIdsByNode = notificationPresenceRepository.findUserIdsByNode(
+                    notificationRealMessage.notificationIds().keySet());
+            if (userIdsByNode.isEmpty()) {
+                redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(notificationRealMessage));
+                return;
+            }
+            for (Map.Entry<String, Set<Long>> entry : userIdsByNode.get().entrySet()) {
+                String message = objectMapper.writeValueAsString(notificationRealMessage.forUsers(entry.getValue()));
+                redisTemplate.convertAndSend(NotificationPresenceRepository.channelOf(entry.getKey()), message);
+            }
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize NotificationRealMessage to JSON. NotificationRealMessage: {}. Error: {}",
                     notificationRealMessage, e.getMessage(), e);
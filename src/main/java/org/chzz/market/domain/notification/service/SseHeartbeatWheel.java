@@ -0,0 +1,179 @@
+package org.chzz.market.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
+import org.chzz.market.domain.notification.repository.NotificationSinkRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 해시 타이머 휠 기반 SSE 하트비트
+ * <p>
+ * 하트비트 주기를 슬롯 수만큼 나누어 틱마다 한 슬롯의 연결에만 하트비트를 보낸다. 연결은 ID로 정해지는 슬롯에 속하므로 주기마다
+ * 한 번씩 하트비트를 받으며, 노드 전체의 쓰기가 한 번에 몰리지 않는다.
+ * <p>
+ * SseEmitter 쓰기는 블로킹이므로 크기가 제한된 전용 스레드에서 수행하고, 제한 시간 안에 끝나지 않거나 실패한 쓰기는 실패로
+ * 집계한다. 제한 시간을 넘긴 연결은 응답이 없는 것으로 보고 별도 종료 스레드에서 오류로 종료한다. 종료는 막힌 쓰기가 끝날 때까지
+ * 대기하므로, 소켓 쓰기 자체는 Tomcat 커넥터의 제한 시간({@link org.chzz.market.common.config.TomcatConfig})으로 끝나도록
+ * 한다. 이전 하트비트 쓰기가 아직 끝나지 않은 연결은 건너뛰어 느린 연결 하나가 쓰기 스레드를 여러 개 점유하지 않도록 한다. 리액티브
+ * 스트림은 싱크 발행이 논블로킹이므로 사용자 ID 로 정해지는 슬롯의 사용자 싱크에 바로 발행한다.
+ * <p>
+ * 하트비트를 보낸 슬롯의 사용자는 연결 노드 만료 시각도 함께 연장하여, 연결이 유지되는 동안 연결 노드 정보가 만료되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+    private static final ServerSentEvent<String> STREAM_HEARTBEAT = ServerSentEvent.<String>builder()
+            .comment("heartbeat")
+            .build();
+
+    private final List<Map<Long, Connection>> slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final NotificationPresenceRepository notificationPresenceRepository;
+    private final NotificationSinkRepository notificationSinkRepository;
+    private final MeterRegistry meterRegistry;
+    private final Executor writer;
+    private final Executor closer;
+    private final long writeTimeoutMillis;
+    private int cursor; // 스케줄러 스레드에서만 변경
+    private Counter failedCounter;
+
+    public SseHeartbeatWheel(NotificationPresenceRepository notificationPresenceRepository,
+                             NotificationSinkRepository notificationSinkRepository, MeterRegistry meterRegistry,
+                             @Qualifier("sseHeartbeatExecutor") Executor writer,
+                             @Qualifier("sseCloseExecutor") Executor closer,
+                             @Value("${notification.sse.heartbeat.slots:60}") int slotCount,
+                             @Value("${notification.sse.heartbeat.write-timeout-millis:5000}") long writeTimeoutMillis) {
+        this.notificationPresenceRepository = notificationPresenceRepository;
+        this.notificationSinkRepository = notificationSinkRepository;
+        this.meterRegistry = meterRegistry;
+        this.writer = writer;
+        this.closer = closer;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("notification.sse.heartbeat.connections", this, SseHeartbeatWheel::countConnections)
+                .description("하트비트 대상 SseEmitter 연결 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("notification.sse.heartbeat.failed")
+                .description("실패하거나 제한 시간을 넘긴 하트비트 쓰기 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결을 ID로 정해지는 슬롯에 등록합니다.
+     *
+     * @return 해제 시 사용할 연결 ID
+     */
+    public long register(Long userId, SseEmitter emitter) {
+        long connectionId = sequence.incrementAndGet();
+        slots.get(slotOf(connectionId)).put(connectionId, new Connection(userId, emitter, new AtomicBoolean()));
+        return connectionId;
+    }
+
+    public void unregister(long connectionId) {
+        slots.get(slotOf(connectionId)).remove(connectionId);
+    }
+
+    /**
+     * 틱마다 다음 슬롯의 연결에 하트비트를 보냅니다. (틱 간격 = 하트비트 주기 / 슬롯 수)
+     */
+    @Scheduled(fixedRateString = "#{${notification.sse.heartbeat.interval-millis:60000}"
+            + " / ${notification.sse.heartbeat.slots:60}}")
+    public void tick() {
+        int index = cursor;
+        Map<Long, Connection> slot = slots.get(index);
+        cursor = (cursor + 1) % slots.size();
+        slot.values().forEach(this::beat);
+        Set<Long> userIds = slot.values().stream()
+                .map(Connection::userId)
+                .collect(Collectors.toCollection(HashSet::new));
+        userIds.addAll(notificationSinkRepository.emitToAll(STREAM_HEARTBEAT, userId -> slotOf(userId) == index));
+        notificationPresenceRepository.register(userIds);
+    }
+
+    int slotOf(long id) {
+        return Math.floorMod(Long.hashCode(id), slots.size());
+    }
+
+    private void beat(Connection connection) {
+        if (!connection.inFlight().compareAndSet(false, true)) {
+            log.info("[SSE] 이전 하트비트 전송 중 UserId: {}", connection.userId());
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> send(connection), writer)
+                    .orTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            failedCounter.increment();
+                            log.info("[SSE] 하트비트 전송 실패 UserId: {} {}", connection.userId(), e.toString());
+                        }
+                        if (e instanceof TimeoutException) {
+                            completeWithError(connection, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            connection.inFlight().set(false);
+        }
+    }
+
+    /**
+     * 진행 중인 쓰기가 끝날 때까지 종료가 대기할 수 있으므로 타임아웃 스레드가 아닌 종료 스레드에서 종료합니다. 쓰기 스레드가 모두
+     * 막혀 있어도 종료가 그 뒤에 대기하지 않습니다.
+     */
+    private void completeWithError(Connection connection, Throwable e) {
+        try {
+            closer.execute(() -> connection.emitter().completeWithError(e));
+        } catch (RejectedExecutionException rejected) {
+            log.info("[SSE] 응답 없는 연결 종료 지연 UserId: {}", connection.userId());
+        }
+    }
+
+    private void send(Connection connection) {
+        try {
+            connection.emitter().send(SseEmitter.event().comment("heartbeat"));
+        } catch (Exception e) {
+            // 내부에서 추가로 IOException이 발생하므로, 프레임워크의 예외 처리 핸들러에 처리
+            throw new IllegalStateException(e);
+        } finally {
+            // 제한 시간을 넘긴 쓰기는 끝날 때까지 다음 하트비트를 건너뛴다
+            connection.inFlight().set(false);
+        }
+    }
+
+    private int countConnections() {
+        return slots.stream().mapToInt(Map::size).sum();
+    }
+
+    private record Connection(Long userId, SseEmitter emitter, AtomicBoolean inFlight) {
+    }
+}
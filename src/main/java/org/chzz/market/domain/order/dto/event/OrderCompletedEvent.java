@@ -0,0 +1,4 @@
+package org.chzz.market.domain.order.dto.event;
+
+public record OrderCompletedEvent(Long auctionId, Long orderId) {
+}
@@ -5,11 +5,13 @@ import org.chzz.market.domain.delivery.entity.Delivery;
 import org.chzz.market.domain.delivery.error.DeliveryErrorCode;
 import org.chzz.market.domain.delivery.error.DeliveryException;
 import org.chzz.market.domain.delivery.repository.DeliveryRepository;
+import org.chzz.market.domain.order.dto.event.OrderCompletedEvent;
 import org.chzz.market.domain.order.entity.Order;
 import org.chzz.market.domain.order.repository.OrderRepository;
 import org.chzz.market.domain.payment.dto.request.ShippingAddressRequest;
 import org.chzz.market.domain.payment.dto.SuccessfulPaymentEvent;
 import org.chzz.market.domain.payment.entity.Payment;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OrderService {
     private final OrderRepository orderRepository;
     private final DeliveryRepository deliveryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Async("threadPoolTaskExecutor")
     @TransactionalEventListener
@@ -32,5 +35,6 @@ public class OrderService {
                 .orElseThrow(() -> new DeliveryException(DeliveryErrorCode.ADDRESS_NOT_FOUND));
         Order order = Order.of(userId, payment, delivery, shippingAddressRequest.memo());
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderCompletedEvent(order.getAuction().getId(), order.getId()));
     }
 }
@@ -1,6 +1,7 @@
 package org.chzz.market.domain.user.dto.response;
 
 import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.entity.UserAuctionStats;
 
 public record UserProfileResponse(
         String nickname,
@@ -11,18 +12,15 @@ public record UserProfileResponse(
         Long preRegisterCount,
         Long registeredAuctionCount
 ) {
-    public static UserProfileResponse of(User user,
-                                         ParticipationCountsResponse counts,
-                                         Long preRegisterCount,
-                                         Long registeredAuctionCount) {
+    public static UserProfileResponse of(User user, UserAuctionStats stats) {
         return new UserProfileResponse(
                 user.getNickname(),
                 user.getBio(),
                 user.getProfileImageUrl(),
                 user.getProviderType().name(),
-                counts,
-                preRegisterCount,
-                registeredAuctionCount
+                new ParticipationCountsResponse(stats.getProceedingCount(), stats.getWonCount(), stats.getLostCount()),
+                stats.getPreAuctionCount(),
+                stats.getOfficialAuctionCount()
         );
     }
 }
@@ -0,0 +1,49 @@
+package org.chzz.market.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 경매 참여/등록 통계 (읽기 모델)
+ * <p>
+ * 입찰, 입찰 취소, 경매 등록/시작/종료/삭제 이벤트로 갱신되며 프로필 조회 시 PK 조회 한 번으로 사용된다.
+ */
+@Getter
+@Entity
+@Builder
+@Table(name = "user_auction_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class UserAuctionStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long proceedingCount;
+
+    @Column(nullable = false)
+    private long wonCount;
+
+    @Column(nullable = false)
+    private long lostCount;
+
+    @Column(nullable = false)
+    private long preAuctionCount;
+
+    @Column(nullable = false)
+    private long officialAuctionCount;
+
+    public static UserAuctionStats empty(Long userId) {
+        return UserAuctionStats.builder()
+                .userId(userId)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package org.chzz.market.domain.user.repository;
+
+import org.chzz.market.domain.user.entity.UserAuctionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface UserAuctionStatsRepository extends JpaRepository<UserAuctionStats, Long> {
+    /**
+     * 통계 행이 없으면 생성하고, 있으면 각 값을 증감
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_auction_stats
+                (user_id, proceeding_count, won_count, lost_count, pre_auction_count, official_auction_count)
+            VALUES (:userId, GREATEST(0, :proceeding), 0, 0, GREATEST(0, :preAuction), GREATEST(0, :officialAuction))
+            ON DUPLICATE KEY UPDATE
+                proceeding_count = GREATEST(0, proceeding_count + :proceeding),
+                pre_auction_count = GREATEST(0, pre_auction_count + :preAuction),
+                official_auction_count = GREATEST(0, official_auction_count + :officialAuction)
+            """, nativeQuery = true)
+    void upsert(Long userId, long proceeding, long preAuction, long officialAuction);
+
+    /**
+     * 경매 종료 시 활성 입찰자들의 진행중 카운트를 낙찰/미낙찰 카운트로 이동
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_auction_stats
+            SET proceeding_count = GREATEST(0, proceeding_count - 1),
+                won_count = won_count + CASE WHEN user_id = :winnerId THEN 1 ELSE 0 END,
+                lost_count = lost_count + CASE WHEN user_id = :winnerId THEN 0 ELSE 1 END
+            WHERE user_id IN (SELECT b.bidder_id FROM bid b WHERE b.auction_id = :auctionId AND b.status = 'ACTIVE')
+            """, nativeQuery = true)
+    void applyAuctionEnd(Long auctionId, Long winnerId);
+}
@@ -0,0 +1,68 @@
+package org.chzz.market.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentDeleteEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionStartEvent;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.bid.dto.event.BidCancelledEvent;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.user.repository.UserAuctionStatsRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 경매 통계 갱신
+ * <p>
+ * 원본 변경과 함께 커밋/롤백되도록 이벤트를 발행한 트랜잭션 안에서 동기적으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserAuctionStatsService {
+    private final UserAuctionStatsRepository userAuctionStatsRepository;
+
+    @EventListener
+    public void onRegister(AuctionDocumentSaveEvent event) {
+        Auction auction = event.auction();
+        if (auction.isPreAuction()) {
+            userAuctionStatsRepository.upsert(getSellerId(auction), 0, 1, 0);
+            return;
+        }
+        userAuctionStatsRepository.upsert(getSellerId(auction), 0, 0, 1);
+    }
+
+    @EventListener
+    public void onStart(AuctionStartEvent event) {
+        userAuctionStatsRepository.upsert(getSellerId(event.auction()), 0, -1, 1);
+    }
+
+    @EventListener
+    public void onDelete(AuctionDocumentDeleteEvent event) {
+        userAuctionStatsRepository.upsert(getSellerId(event.auction()), 0, -1, 0);
+    }
+
+    @EventListener
+    public void onBid(BidCreatedEvent event) {
+        if (event.isNewBidder()) {
+            userAuctionStatsRepository.upsert(event.bidderId(), 1, 0, 0);
+        }
+    }
+
+    @EventListener
+    public void onBidCancel(BidCancelledEvent event) {
+        userAuctionStatsRepository.upsert(event.bidderId(), -1, 0, 0);
+    }
+
+    @EventListener
+    public void onEnd(AuctionEndEvent event) {
+        Auction auction = event.auction();
+        userAuctionStatsRepository.applyAuctionEnd(auction.getId(), auction.getWinnerId());
+    }
+
+    private Long getSellerId(Auction auction) {
+        return auction.getSeller().getId();
+    }
+}
@@ -5,16 +5,14 @@ import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.chzz.market.domain.auction.entity.AuctionStatus;
-import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
-import org.chzz.market.domain.auction.repository.AuctionRepository;
 import org.chzz.market.domain.user.dto.request.UpdateUserProfileRequest;
 import org.chzz.market.domain.user.dto.request.UserCreateRequest;
 import org.chzz.market.domain.user.dto.response.NicknameAvailabilityResponse;
-import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
 import org.chzz.market.domain.user.dto.response.UserProfileResponse;
 import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.entity.UserAuctionStats;
 import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.repository.UserAuctionStatsRepository;
 import org.chzz.market.domain.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -26,8 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
-    private final AuctionRepository auctionRepository;
-    private final AuctionQueryRepository auctionQueryRepository;
+    private final UserAuctionStatsRepository userAuctionStatsRepository;
     @Value("${cloud.aws.cloudfront.domain}")
     private String cloudfrontDomain;
 
@@ -37,11 +34,9 @@ public class UserService {
     public UserProfileResponse getUserProfileById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException(USER_NOT_FOUND));
-        long preAuctionCount = auctionRepository.countBySellerIdAndStatusIn(userId, AuctionStatus.PRE);
-        long officialAuctionCount = auctionRepository.countBySellerIdAndStatusIn(userId, AuctionStatus.PROCEEDING,
-                AuctionStatus.ENDED);
-        ParticipationCountsResponse counts = auctionQueryRepository.getParticipationCounts(userId);
-        return UserProfileResponse.of(user, counts, preAuctionCount, officialAuctionCount);
+        UserAuctionStats stats = userAuctionStatsRepository.findById(userId)
+                .orElseGet(() -> UserAuctionStats.empty(userId));
+        return UserProfileResponse.of(user, stats);
     }
 
     /**
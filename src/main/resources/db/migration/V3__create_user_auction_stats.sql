@@ -0,0 +1,37 @@
+CREATE TABLE user_auction_stats
+(
+    user_id                BIGINT           NOT NULL,
+    proceeding_count       BIGINT DEFAULT 0 NOT NULL,
+    won_count              BIGINT DEFAULT 0 NOT NULL,
+    lost_count             BIGINT DEFAULT 0 NOT NULL,
+    pre_auction_count      BIGINT DEFAULT 0 NOT NULL,
+    official_auction_count BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_user_auction_stats PRIMARY KEY (user_id)
+);
+
+INSERT INTO user_auction_stats
+    (user_id, proceeding_count, won_count, lost_count, pre_auction_count, official_auction_count)
+SELECT u.user_id,
+       (SELECT COUNT(*)
+        FROM bid b
+                 JOIN auction a ON a.auction_id = b.auction_id
+        WHERE b.bidder_id = u.user_id
+          AND b.status = 'ACTIVE'
+          AND a.status = 'PROCEEDING'),
+       (SELECT COUNT(*)
+        FROM bid b
+                 JOIN auction a ON a.auction_id = b.auction_id
+        WHERE b.bidder_id = u.user_id
+          AND b.status = 'ACTIVE'
+          AND a.status = 'ENDED'
+          AND a.winner_id = u.user_id),
+       (SELECT COUNT(*)
+        FROM bid b
+                 JOIN auction a ON a.auction_id = b.auction_id
+        WHERE b.bidder_id = u.user_id
+          AND b.status = 'ACTIVE'
+          AND a.status = 'ENDED'
+          AND a.winner_id <> u.user_id),
+       (SELECT COUNT(*) FROM auction a WHERE a.seller_id = u.user_id AND a.status = 'PRE'),
+       (SELECT COUNT(*) FROM auction a WHERE a.seller_id = u.user_id AND a.status IN ('PROCEEDING', 'ENDED'))
+FROM users u;
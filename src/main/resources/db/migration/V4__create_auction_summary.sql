@@ -0,0 +1,59 @@
+CREATE TABLE auction_summary
+(
+    auction_summary_id BIGINT AUTO_INCREMENT NOT NULL,
+    user_id            BIGINT                NOT NULL,
+    auction_id         BIGINT                NOT NULL,
+    relation           VARCHAR(20)           NOT NULL,
+    seller_id          BIGINT                NOT NULL,
+    auction_name       VARCHAR(255)          NOT NULL,
+    image_url          VARCHAR(255)          NULL,
+    min_price          BIGINT                NULL,
+    status             VARCHAR(20)           NOT NULL,
+    end_date_time      datetime              NULL,
+    winner_id          BIGINT                NULL,
+    winning_bid_amount BIGINT                NULL,
+    bid_amount         BIGINT                NULL,
+    order_id           BIGINT                NULL,
+    like_count         BIGINT DEFAULT 0      NOT NULL,
+    bid_count          BIGINT DEFAULT 0      NOT NULL,
+    auction_created_at datetime              NOT NULL,
+    CONSTRAINT pk_auction_summary PRIMARY KEY (auction_summary_id)
+);
+
+ALTER TABLE auction_summary
+    ADD CONSTRAINT uc_auction_summary_relation UNIQUE (user_id, auction_id, relation);
+
+CREATE INDEX idx_auction_summary_user ON auction_summary (user_id, relation, status);
+
+CREATE INDEX idx_auction_summary_auction ON auction_summary (auction_id);
+
+INSERT INTO auction_summary
+(user_id, auction_id, relation, seller_id, auction_name, image_url, min_price, status, end_date_time, winner_id,
+ winning_bid_amount, bid_amount, order_id, like_count, bid_count, auction_created_at)
+SELECT r.user_id,
+       a.auction_id,
+       r.relation,
+       a.seller_id,
+       a.name,
+       (SELECT i.cdn_path FROM image i WHERE i.auction_id = a.auction_id AND i.sequence = 1 LIMIT 1),
+       a.min_price,
+       a.status,
+       a.end_date_time,
+       a.winner_id,
+       (SELECT COALESCE(MAX(b.amount), 0) FROM bid b WHERE b.auction_id = a.auction_id AND b.status = 'ACTIVE'),
+       r.bid_amount,
+       (SELECT MAX(o.order_id) FROM orders o WHERE o.auction_id = a.auction_id),
+       COALESCE(a.like_count, 0),
+       COALESCE(a.bid_count, 0),
+       COALESCE(a.created_at, NOW())
+FROM auction a
+         JOIN (SELECT seller_id AS user_id, auction_id, 'SELLER' AS relation, NULL AS bid_amount
+               FROM auction
+               UNION ALL
+               SELECT bidder_id, auction_id, 'BIDDER', amount
+               FROM bid
+               WHERE status = 'ACTIVE'
+               UNION ALL
+               SELECT user_id, auction_id, 'LIKER', NULL
+               FROM likes) r ON r.auction_id = a.auction_id
+WHERE a.status IS NOT NULL;
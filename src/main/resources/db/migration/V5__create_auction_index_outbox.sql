@@ -0,0 +1,11 @@
+CREATE TABLE auction_index_outbox
+(
+    auction_index_outbox_id BIGINT AUTO_INCREMENT NOT NULL,
+    auction_id              BIGINT                NOT NULL,
+    created_at              datetime              NOT NULL,
+    next_attempt_at         datetime              NOT NULL,
+    attempt_count           INT DEFAULT 0         NOT NULL,
+    CONSTRAINT pk_auction_index_outbox PRIMARY KEY (auction_index_outbox_id)
+);
+
+CREATE INDEX idx_auction_index_outbox_next_attempt ON auction_index_outbox (next_attempt_at);
@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX ft_auction_name_description ON auction (name, `description`) WITH PARSER ngram;
@@ -0,0 +1,3 @@
+ALTER TABLE auction_summary
+    DROP COLUMN like_count,
+    DROP COLUMN bid_count;
@@ -0,0 +1,2 @@
+ALTER TABLE auction_index_outbox
+    ADD COLUMN membership_changed BIT(1) DEFAULT 1 NOT NULL;
@@ -0,0 +1,59 @@
+package org.chzz.market.common.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @InjectMocks
+    private ReplicationRoutingDataSource replicationRoutingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카를 사용한다")
+    void readOnlyTransactionRoutesToReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaAvailable()).willReturn(true);
+
+        // when, then
+        assertThat(replicationRoutingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+    }
+
+    @Test
+    @DisplayName("레플리카 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리를 사용한다")
+    void laggingReplicaFallsBackToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaAvailable()).willReturn(false);
+
+        // when, then
+        assertThat(replicationRoutingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 항상 프라이머리를 사용한다")
+    void writeTransactionRoutesToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // when, then
+        assertThat(replicationRoutingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+}
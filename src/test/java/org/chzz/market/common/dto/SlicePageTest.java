@@ -0,0 +1,50 @@
+package org.chzz.market.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class SlicePageTest {
+
+    @Test
+    void 초과_조회한_결과에서_다음_페이지_여부를_판단한다() {
+        // given
+        List<Integer> content = List.of(1, 2, 3);
+
+        // when
+        SlicePage<Integer> page = SlicePage.fromOverFetched(content, PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void 근사_전체_개수가_현재_페이지보다_작으면_다음_페이지가_보이도록_보정한다() {
+        // given
+        SlicePage<Integer> page = new SlicePage<>(List.of(3, 4), PageRequest.of(1, 2), true);
+
+        // when
+        Page<Integer> result = page.withApproximateTotal(3);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void 마지막_페이지는_근사값_대신_실제_개수를_사용한다() {
+        // given
+        SlicePage<Integer> page = new SlicePage<>(List.of(3, 4), PageRequest.of(1, 2), false);
+
+        // when
+        Page<Integer> result = page.withApproximateTotal(10);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.isLast()).isTrue();
+    }
+}
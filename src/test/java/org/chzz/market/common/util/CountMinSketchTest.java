@@ -0,0 +1,40 @@
+package org.chzz.market.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void 추정_빈도는_실제_빈도보다_작지_않다() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("keyword" + (i % 100), 1);
+        }
+        sketch.add("맥북", 50);
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertThat(sketch.estimate("keyword" + i)).isGreaterThanOrEqualTo(10);
+        }
+        assertThat(sketch.estimate("맥북")).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void 충돌이_적으면_실제_빈도를_반환한다() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+
+        // when
+        long added = sketch.add("아이패드", 3);
+
+        // then
+        assertThat(added).isEqualTo(3);
+        assertThat(sketch.estimate("아이패드")).isEqualTo(3);
+        assertThat(sketch.estimate("갤럭시")).isZero();
+    }
+}
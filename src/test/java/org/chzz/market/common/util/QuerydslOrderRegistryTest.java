@@ -0,0 +1,62 @@
+package org.chzz.market.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.List;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository.AuctionOrder;
+import org.chzz.market.domain.bid.repository.BidQueryRepository.BidOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class QuerydslOrderRegistryTest {
+    private final QuerydslOrderRegistry registry = new QuerydslOrderRegistry(
+            List.of(AuctionOrder.POPULARITY, AuctionOrder.CHEAP, BidOrder.AMOUNT));
+
+    @Test
+    void 오름차순_요청은_기본_정렬을_그대로_사용한다() {
+        OrderSpecifier<?>[] result = registry.getQuerydslOrderTable().resolve(Sort.by("popularity"));
+
+        assertThat(result).containsExactly(AuctionOrder.POPULARITY.getOrderSpecifier());
+    }
+
+    @Test
+    void 내림차순_요청은_미리_계산된_반대_방향_정렬을_사용한다() {
+        QuerydslOrderTable table = registry.getQuerydslOrderTable();
+
+        OrderSpecifier<?>[] first = table.resolve(Sort.by(Sort.Direction.DESC, "cheap"));
+        OrderSpecifier<?>[] second = table.resolve(Sort.by(Sort.Direction.DESC, "cheap"));
+
+        assertThat(first).hasSize(1);
+        assertThat(first[0].getOrder()).isEqualTo(Order.DESC);
+        assertThat(first[0].getTarget()).isEqualTo(AuctionOrder.CHEAP.getOrderSpecifier().getTarget());
+        assertThat(second[0]).isSameAs(first[0]);
+    }
+
+    @Test
+    void 여러_정렬은_요청_순서대로_이어붙인다() {
+        OrderSpecifier<?>[] result = registry.getQuerydslOrderTable()
+                .resolve(Sort.by("bid-amount").and(Sort.by("popularity")));
+
+        assertThat(result).containsExactly(BidOrder.AMOUNT.getOrderSpecifier(),
+                AuctionOrder.POPULARITY.getOrderSpecifier());
+    }
+
+    @Test
+    void 정렬이_없거나_등록되지_않은_이름이면_기본_정렬을_사용한다() {
+        QuerydslOrderTable table = registry.getQuerydslOrderTable();
+
+        assertThat(table.resolve(Sort.unsorted())).containsExactly(OrderByNull.DEFAULT);
+        assertThat(table.resolve(Sort.by("unknown"))).containsExactly(OrderByNull.DEFAULT);
+        assertThat(registry.findOrderByName(null)).isEmpty();
+        assertThat(registry.isValidOrderProperty("unknown")).isFalse();
+    }
+
+    @Test
+    void 같은_이름의_정렬이_중복_등록되면_예외가_발생한다() {
+        assertThatThrownBy(() -> new QuerydslOrderRegistry(List.of(AuctionOrder.CHEAP, AuctionOrder.CHEAP)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
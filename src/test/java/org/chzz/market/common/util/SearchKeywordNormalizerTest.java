@@ -0,0 +1,31 @@
+package org.chzz.market.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SearchKeywordNormalizerTest {
+
+    @Test
+    void 대소문자와_연속_공백을_정규화한다() {
+        // when
+        String normalized = SearchKeywordNormalizer.normalize("  MacBook   Pro\t14 ");
+
+        // then
+        assertThat(normalized).isEqualTo("macbook pro 14");
+    }
+
+    @Test
+    void 전각_문자를_반각_문자로_정규화한다() {
+        // when
+        String normalized = SearchKeywordNormalizer.normalize("ＩＰＡＤ　에어");
+
+        // then
+        assertThat(normalized).isEqualTo("ipad 에어");
+    }
+
+    @Test
+    void null_은_빈_문자열로_정규화한다() {
+        assertThat(SearchKeywordNormalizer.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package org.chzz.market.domain.auction.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Base64;
+import java.util.List;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.junit.jupiter.api.Test;
+
+class AuctionSearchCursorTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 인코딩한_커서를_디코딩하면_같은_값이_된다() {
+        // given
+        AuctionSearchCursor cursor = new AuctionSearchCursor("pit-id", List.of(1000, 42));
+
+        // when
+        AuctionSearchCursor decoded = AuctionSearchCursor.decode(cursor.encode(objectMapper), objectMapper);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 인코딩한_커서는_URL에_안전한_문자만_사용한다() {
+        // when
+        String encoded = new AuctionSearchCursor("pit/id+=", List.of(1)).encode(objectMapper);
+
+        // then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void Base64가_아닌_커서는_예외가_발생한다() {
+        assertThatThrownBy(() -> AuctionSearchCursor.decode("!!not-base64!!", objectMapper))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(INVALID_SEARCH_CURSOR);
+    }
+
+    @Test
+    void 정렬_값이_없는_커서는_예외가_발생한다() {
+        // given
+        String encoded = Base64.getUrlEncoder().encodeToString("{\"pointInTimeId\":\"pit-id\"}".getBytes());
+
+        // when, then
+        assertThatThrownBy(() -> AuctionSearchCursor.decode(encoded, objectMapper))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(INVALID_SEARCH_CURSOR);
+    }
+}
@@ -2,15 +2,18 @@ package org.chzz.market.domain.auction.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.chzz.market.common.AWSConfig;
 import org.chzz.market.common.CustomSpringBootTest;
+import org.chzz.market.domain.auction.dto.AuctionBidDetail;
+import org.chzz.market.domain.auction.dto.AuctionDetailSnapshot;
+import org.chzz.market.domain.auction.dto.AuctionLikeDetail;
+import org.chzz.market.domain.auction.dto.AuctionListItem;
 import org.chzz.market.domain.auction.dto.response.EndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
-import org.chzz.market.domain.auction.dto.response.OfficialAuctionDetailResponse;
-import org.chzz.market.domain.auction.dto.response.OfficialAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.ProceedingAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
@@ -21,6 +24,7 @@ import org.chzz.market.domain.auction.entity.Category;
 import org.chzz.market.domain.bid.entity.Bid;
 import org.chzz.market.domain.bid.entity.Bid.BidStatus;
 import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.image.dto.response.ImageResponse;
 import org.chzz.market.domain.image.entity.Image;
 import org.chzz.market.domain.like.entity.Like;
 import org.chzz.market.domain.like.repository.LikeRepository;
@@ -29,6 +33,8 @@ import org.chzz.market.domain.order.repository.OrderRepository;
 import org.chzz.market.domain.payment.entity.Payment.PaymentMethod;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -57,6 +63,8 @@ class AuctionQueryRepositoryTest {
     private OrderRepository orderRepository;
     @Autowired
     private LikeRepository likeRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private User seller;
     private User user, user1;
@@ -134,8 +142,8 @@ class AuctionQueryRepositoryTest {
     }
 
     @Nested
-    @DisplayName("정식 경매 상세정보조회")
-    class OfficialAuctionDetail {
+    @DisplayName("경매 상세 공유 정보 조회")
+    class AuctionDetail {
         @Test
         void 본인의_제품을_조회한경우() {
             // Given
@@ -143,116 +151,82 @@ class AuctionQueryRepositoryTest {
                     1000);
 
             // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    seller.getId(), auction.getId());
+            Optional<AuctionDetailSnapshot> result = auctionQueryRepository.findAuctionDetailSnapshotById(
+                    auction.getId());
 
             // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsSeller()).isTrue();
-            assertThat(response.getIsParticipated()).isFalse();
-            assertThat(response.getIsWon()).isTrue();
-            assertThat(response.getIsOrdered()).isFalse();
+            AuctionDetailSnapshot snapshot = result.get();
+            assertThat(snapshot.isSeller(seller.getId())).isTrue();
+            assertThat(snapshot.isWinner(seller.getId())).isTrue();
+            assertThat(snapshot.isOrdered()).isFalse();
         }
 
         @Test
-        void 다른_사람_경매를_참여안한경우_조회한경우() {
+        void 다른_사람_경매를_조회한경우() {
             // Given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
 
             // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    user.getId(), auction.getId());
+            Optional<AuctionDetailSnapshot> result = auctionQueryRepository.findAuctionDetailSnapshotById(
+                    auction.getId());
 
             // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsSeller()).isFalse();
-            assertThat(response.getIsParticipated()).isFalse();
-        }
-
-        @Test
-        void 다른_사람_경매을_참여한경우_조회() {
-            // Given
-            Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
-            createBid(user, auction, 1000L, Bid.BidStatus.ACTIVE);
-
-            // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    user.getId(), auction.getId());
-
-            // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsSeller()).isFalse();
-            assertThat(response.getIsParticipated()).isTrue();
+            AuctionDetailSnapshot snapshot = result.get();
+            assertThat(snapshot.isSeller(user.getId())).isFalse();
+            assertThat(snapshot.isSeller(null)).isFalse();
+            assertThat(snapshot.isWinner(user.getId())).isFalse();
         }
 
         @Test
         void 없는_경매_인경우() {
             // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    user.getId(), -1L);
+            Optional<AuctionDetailSnapshot> result = auctionQueryRepository.findAuctionDetailSnapshotById(-1L);
 
             // Then
             assertThat(result).isEmpty();
         }
 
         @Test
-        void 비로그인_상태에서_조회한_경우() {
+        void 주문이_있을시_조회를_한다() {
             // Given
-            Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
+            Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING,
+                    user.getId(), 2000);
+            createBid(user, auction, 2000L, Bid.BidStatus.ACTIVE);
+            createOrder(auction, user, 2000L);
 
             // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    null, auction.getId());
+            Optional<AuctionDetailSnapshot> result = auctionQueryRepository.findAuctionDetailSnapshotById(
+                    auction.getId());
 
             // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsSeller()).isFalse();
-            assertThat(response.getIsParticipated()).isFalse();
-            assertThat(response.getBidId()).isNull();
-            assertThat(response.getBidAmount()).isEqualTo(0L);
-            assertThat(response.getRemainingBidCount()).isEqualTo(3);
+            AuctionDetailSnapshot snapshot = result.get();
+            assertThat(snapshot.isSeller(user.getId())).isFalse();
+            assertThat(snapshot.isWinner(user.getId())).isTrue();
+            assertThat(snapshot.isOrdered()).isTrue();
         }
 
         @Test
-        void 취소된_입찰이_있는_경우() {
+        void 이미지_목록을_포함해_한번의_쿼리로_조회한다() {
             // Given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
-            createBid(user, auction, 2000L, Bid.BidStatus.CANCELLED);
-
-            // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    user.getId(), auction.getId());
-
-            // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsCancelled()).isTrue();
-        }
-
-        @Test
-        void 주문이_있을시_조회를_한다() {
-            // Given
-            Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING,
-                    user.getId(), 2000);
-            createBid(user, auction, 2000L, Bid.BidStatus.ACTIVE);
-            createOrder(auction, user, 2000L);
+            auction.addImage(Image.builder().cdnPath("https://cdn.com/2").sequence(2).build());
+            entityManager.flush();
+            entityManager.clear();
+            Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
 
             // When
-            Optional<OfficialAuctionDetailResponse> result = auctionQueryRepository.findOfficialAuctionDetailById(
-                    user.getId(), auction.getId());
+            statistics.clear();
+            Optional<AuctionDetailSnapshot> snapshot = auctionQueryRepository.findAuctionDetailSnapshotById(
+                    auction.getId());
+            long snapshotQueryCount = statistics.getPrepareStatementCount();
+            statistics.setStatisticsEnabled(false);
 
             // Then
-            OfficialAuctionDetailResponse response = result.get();
-            assertThat(response).isNotNull();
-            assertThat(response.getIsSeller()).isFalse();
-            assertThat(response.getIsParticipated()).isTrue();
-            assertThat(response.getIsWon()).isTrue();
-            assertThat(response.getIsWinner()).isTrue();
-            assertThat(response.getIsOrdered()).isTrue();
+            assertThat(snapshotQueryCount).isEqualTo(1);
+            assertThat(snapshot.get().images()).extracting(ImageResponse::imageUrl)
+                    .containsExactly("https://cdn.com", "https://cdn.com/2");
         }
     }
 
@@ -260,71 +234,59 @@ class AuctionQueryRepositoryTest {
     @DisplayName("경매 목록 조회")
     class Auctions {
         @Test
-        public void 정식경매_목록_조회_테스트_본인것() throws Exception {
+        public void 정식경매_공유_목록_조회_테스트() throws Exception {
             //given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
             auctionRepository.save(auction);
             Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
 
             //when
-            Page<OfficialAuctionResponse> result = auctionQueryRepository.findOfficialAuctions(seller.getId(),
-                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, null, pageable);
+            Page<AuctionListItem> result = auctionQueryRepository.findOfficialAuctionListItems(Category.ELECTRONICS,
+                    AuctionStatus.PROCEEDING, null, pageable);
+
             //then
-            assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(result.getContent().get(0).getIsSeller()).isTrue();
+            AuctionListItem item = result.getContent().get(0);
+            assertThat(item.auctionName()).isEqualTo("맥북프로");
+            assertThat(item.sellerId()).isEqualTo(seller.getId());
+            assertThat(item.isSeller(seller.getId())).isTrue();
+            assertThat(item.isSeller(user.getId())).isFalse();
+            assertThat(item.isSeller(null)).isFalse();
         }
 
         @Test
-        public void 정식경매_목록_조회_테스트_남의것() throws Exception {
+        public void 정식경매_목록_참여정보_조회_입찰을_안했을때() throws Exception {
             //given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
             auctionRepository.save(auction);
-            Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
 
             //when
-            Page<OfficialAuctionResponse> result = auctionQueryRepository.findOfficialAuctions(user.getId(),
-                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, null, pageable);
-            //then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(result.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(result.getContent().get(0).getIsParticipated()).isFalse();
+            List<AuctionBidDetail> result = auctionQueryRepository.findAuctionBidDetailsByAuctionIds(
+                    List.of(auction.getId()), user.getId());
 
-            //when 비로그인
-            Page<OfficialAuctionResponse> result1 = auctionQueryRepository.findOfficialAuctions(null,
-                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, null, pageable);
             //then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(result.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(result.getContent().get(0).getIsParticipated()).isFalse();
+            assertThat(result).singleElement()
+                    .satisfies(detail -> assertThat(detail.isParticipated()).isFalse());
         }
 
         @Test
-        public void 정식경매_목록_조회_테스트_입찰을했을때() throws Exception {
+        public void 정식경매_목록_참여정보_조회_입찰을했을때() throws Exception {
             //given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PROCEEDING, null, 1000);
             auctionRepository.save(auction);
-            Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
-            Bid bid = createBid(user, auction, 1000L, BidStatus.ACTIVE);
-            bidRepository.save(bid);
+            createBid(user, auction, 1000L, BidStatus.ACTIVE);
+
             //when
-            Page<OfficialAuctionResponse> result = auctionQueryRepository.findOfficialAuctions(user.getId(),
-                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, null, pageable);
+            List<AuctionBidDetail> result = auctionQueryRepository.findAuctionBidDetailsByAuctionIds(
+                    List.of(auction.getId()), user.getId());
+
             //then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(result.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(result.getContent().get(0).getIsParticipated()).isTrue();
+            assertThat(result).singleElement()
+                    .satisfies(detail -> assertThat(detail.isParticipated()).isTrue());
         }
 
         @Test
-        public void 사전경매_목록조회_좋아요를_했을때() {
+        public void 사전경매_목록_좋아요정보_조회_좋아요를_했을때() {
             //given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PRE, null, 1000);
             auctionRepository.save(auction);
@@ -333,42 +295,29 @@ class AuctionQueryRepositoryTest {
 
             //when
             Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
-            Page<PreAuctionResponse> result = auctionQueryRepository.findPreAuctions(user.getId(),
-                    Category.ELECTRONICS, pageable);
+            Page<AuctionListItem> page = auctionQueryRepository.findPreAuctionListItems(Category.ELECTRONICS, pageable);
+            List<AuctionLikeDetail> result = auctionQueryRepository.findAuctionLikeDetailsByAuctionIds(
+                    List.of(auction.getId()), user.getId());
+
             //then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(result.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(result.getContent().get(0).getIsLiked()).isTrue();
+            assertThat(page.getContent()).extracting(AuctionListItem::auctionName).containsExactly("맥북프로");
+            assertThat(result).singleElement()
+                    .satisfies(detail -> assertThat(detail.isLiked()).isTrue());
         }
 
         @Test
-        public void 사전경매_목록조회_좋아요를_안했을때() {
+        public void 사전경매_목록_좋아요정보_조회_좋아요를_안했을때() {
             //given
             Auction auction = createAuction(seller, "맥북프로", "맥북프로 2019년형 팝니다.", AuctionStatus.PRE, null, 1000);
             auctionRepository.save(auction);
 
             //when
-            Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
-            Page<PreAuctionResponse> resultWithUserId = auctionQueryRepository.findPreAuctions(user.getId(),
-                    Category.ELECTRONICS, pageable);
-
-            assertThat(resultWithUserId).isNotNull();
-            assertThat(resultWithUserId.getContent()).hasSize(1);
-            assertThat(resultWithUserId.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(resultWithUserId.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(resultWithUserId.getContent().get(0).getIsLiked()).isFalse();
-
-            // when - 비로그인
-            Page<PreAuctionResponse> resultWithNull = auctionQueryRepository.findPreAuctions(null, Category.ELECTRONICS,
-                    pageable);
-
-            assertThat(resultWithNull).isNotNull();
-            assertThat(resultWithNull.getContent()).hasSize(1);
-            assertThat(resultWithNull.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
-            assertThat(resultWithNull.getContent().get(0).getIsSeller()).isFalse();
-            assertThat(resultWithNull.getContent().get(0).getIsLiked()).isFalse();
+            List<AuctionLikeDetail> result = auctionQueryRepository.findAuctionLikeDetailsByAuctionIds(
+                    List.of(auction.getId()), user.getId());
+
+            //then
+            assertThat(result).singleElement()
+                    .satisfies(detail -> assertThat(detail.isLiked()).isFalse());
         }
 
         @Test
@@ -384,14 +333,12 @@ class AuctionQueryRepositoryTest {
             Pageable pageable = PageRequest.of(0, 10, Sort.by("expensive"));
 
             //when
-            Page<OfficialAuctionResponse> result = auctionQueryRepository.findOfficialAuctions(seller.getId(),
-                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, null, pageable);
+            Page<AuctionListItem> result = auctionQueryRepository.findOfficialAuctionListItems(Category.ELECTRONICS,
+                    AuctionStatus.PROCEEDING, null, pageable);
 
             //then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(2);
-            assertThat(result.getContent().get(0).getAuctionName()).isEqualTo("아이패드"); // 가격이 더 높은 아이패드가 먼저
-            assertThat(result.getContent().get(1).getAuctionName()).isEqualTo("맥북프로"); // 가격이 낮은 맥북프로가 나중
+            assertThat(result.getContent()).extracting(AuctionListItem::auctionName)
+                    .containsExactly("아이패드", "맥북프로"); // 가격이 더 높은 아이패드가 먼저
         }
 
         @Test
@@ -421,28 +368,21 @@ class AuctionQueryRepositoryTest {
             auctionRepository.saveAll(List.of(auction1, auction2));
             Pageable pageable = PageRequest.of(0, 10, Sort.by("immediately"));
 
-            Page<OfficialAuctionResponse> resultWithin1Hour = auctionQueryRepository.findOfficialAuctions(null, null,
+            // when - endWithinSeconds 1시간 이내
+            Page<AuctionListItem> resultWithin1Hour = auctionQueryRepository.findOfficialAuctionListItems(null,
                     AuctionStatus.PROCEEDING, 3600, pageable);
 
             // then
-            assertThat(resultWithin1Hour).isNotNull();
-            assertThat(resultWithin1Hour.getContent()).hasSize(1);
-            assertThat(resultWithin1Hour.getContent().get(0).getAuctionName()).isEqualTo("맥북프로");
+            assertThat(resultWithin1Hour.getContent()).extracting(AuctionListItem::auctionName)
+                    .containsExactly("맥북프로");
 
             // when - endWithinSeconds 2시간 이내
-            Page<OfficialAuctionResponse> resultWithin2Hours = auctionQueryRepository.findOfficialAuctions(
-                    seller.getId(),
-                    Category.ELECTRONICS,
-                    AuctionStatus.PROCEEDING,
-                    7200, // 2시간 이내
-                    pageable
-            );
+            Page<AuctionListItem> resultWithin2Hours = auctionQueryRepository.findOfficialAuctionListItems(
+                    Category.ELECTRONICS, AuctionStatus.PROCEEDING, 7200, pageable);
 
             // then
-            assertThat(resultWithin2Hours).isNotNull();
-            assertThat(resultWithin2Hours.getContent()).hasSize(2);
-            assertThat(resultWithin2Hours.getContent().get(0).getAuctionName()).isEqualTo("맥북프로"); // 더 빨리 종료되는 맥북
-            assertThat(resultWithin2Hours.getContent().get(1).getAuctionName()).isEqualTo("아이패드"); // 나중에 종료되는 아이패드
+            assertThat(resultWithin2Hours.getContent()).extracting(AuctionListItem::auctionName)
+                    .containsExactly("맥북프로", "아이패드"); // 더 빨리 종료되는 맥북이 먼저
         }
     }
 
@@ -0,0 +1,185 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.chzz.market.common.CustomSpringBootTest;
+import org.chzz.market.common.dto.SlicePage;
+import org.chzz.market.common.dto.SlicePageRequest;
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.dto.response.EndedAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.PreAuctionResponse;
+import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.service.AuctionSummaryService;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+@CustomSpringBootTest
+@Transactional
+class AuctionSummaryQueryRepositoryTest {
+    @Autowired
+    private AuctionSummaryQueryRepository auctionSummaryQueryRepository;
+    @Autowired
+    private AuctionSummaryService auctionSummaryService;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by("newest"));
+
+    private User seller, winner, loser;
+
+    @BeforeEach
+    void setUp() {
+        seller = User.builder().email("seller").providerId("seller").providerType(User.ProviderType.KAKAO).build();
+        winner = User.builder().email("winner").providerId("winner").providerType(User.ProviderType.KAKAO).build();
+        loser = User.builder().email("loser").providerId("loser").providerType(User.ProviderType.KAKAO).build();
+        userRepository.saveAll(List.of(seller, winner, loser));
+    }
+
+    private Auction registerAuction(String name, AuctionStatus status) {
+        Auction auction = Auction.builder()
+                .seller(seller)
+                .name(name)
+                .description(name + " 팝니다.")
+                .status(status)
+                .category(Category.ELECTRONICS)
+                .minPrice(1000)
+                .endDateTime(status == AuctionStatus.PRE ? null : LocalDateTime.now().plusDays(1))
+                .build();
+        auction.addImage(Image.builder().cdnPath("https://cdn.com/" + name).sequence(1).build());
+        auctionRepository.save(auction);
+        auctionSummaryService.onRegister(new AuctionDocumentSaveEvent(auction));
+        return auction;
+    }
+
+    /**
+     * 입찰 서비스와 같이 경매를 조회한 뒤 입찰자 수를 증가시키고 이벤트를 처리
+     */
+    private void bid(Long auctionId, User bidder, Long amount) {
+        reload(auctionId);
+        bidRepository.save(Bid.builder().auctionId(auctionId).bidderId(bidder.getId()).amount(amount).build());
+        auctionRepository.incrementBidCount(auctionId);
+        auctionSummaryService.onBid(new BidCreatedEvent(auctionId, bidder.getId(), true));
+    }
+
+    private Auction reload(Long auctionId) {
+        entityManager.flush();
+        entityManager.clear();
+        return auctionRepository.findById(auctionId).orElseThrow();
+    }
+
+    @Test
+    void 이벤트로_갱신된_요약_테이블에서_낙찰_미낙찰_종료_목록을_조회한다() {
+        // given
+        Long auctionId = registerAuction("맥북프로", AuctionStatus.PROCEEDING).getId();
+        bid(auctionId, winner, 3000L);
+        bid(auctionId, loser, 2000L);
+        Auction auction = reload(auctionId);
+        auction.endAuction();
+        auction.assignWinner(winner.getId());
+        auctionSummaryService.onEnd(new AuctionEndEvent(auction));
+
+        // when
+        Page<WonAuctionResponse> won = auctionSummaryQueryRepository.findWonAuctionsByUserId(winner.getId(), pageable);
+        Page<LostAuctionResponse> lost = auctionSummaryQueryRepository.findLostAuctionsByUserId(loser.getId(),
+                pageable);
+        Page<EndedAuctionResponse> ended = auctionSummaryQueryRepository.findEndedAuctionsByUserId(seller.getId(),
+                pageable);
+
+        // then
+        assertThat(won.getContent()).singleElement().satisfies(response -> {
+            assertThat(response.getAuctionName()).isEqualTo("맥북프로");
+            assertThat(response.getImageUrl()).isEqualTo("https://cdn.com/맥북프로");
+            assertThat(response.getWinningAmount()).isEqualTo(3000L);
+            assertThat(response.getParticipantCount()).isEqualTo(2L);
+            assertThat(response.getIsOrdered()).isFalse();
+        });
+        assertThat(lost.getContent()).singleElement().satisfies(response -> {
+            assertThat(response.getBidAmount()).isEqualTo(2000L);
+            assertThat(response.getParticipantCount()).isEqualTo(2L);
+        });
+        assertThat(ended.getContent()).singleElement().satisfies(response -> {
+            assertThat(response.getIsSeller()).isTrue();
+            assertThat(response.getWinningBidAmount()).isEqualTo(3000L);
+            assertThat(response.getIsWon()).isTrue();
+        });
+        assertThat(auctionSummaryQueryRepository.findWonAuctionsByUserId(loser.getId(), pageable)).isEmpty();
+    }
+
+    @Test
+    void 좋아요_취소_시_좋아요한_경매_목록에서_제외된다() {
+        // given
+        Auction auction = registerAuction("아이패드", AuctionStatus.PRE);
+        auctionRepository.incrementLikeCount(auction.getId());
+        auctionSummaryService.onLike(new LikeUpdatedEvent(auction.getId(), AuctionStatus.PRE, winner.getId(), true));
+
+        // when
+        Page<PreAuctionResponse> liked = auctionSummaryQueryRepository.findLikedAuctionsByUserId(winner.getId(),
+                pageable);
+        auctionRepository.decrementLikeCount(auction.getId());
+        auctionSummaryService.onLike(new LikeUpdatedEvent(auction.getId(), AuctionStatus.PRE, winner.getId(), false));
+        Page<PreAuctionResponse> afterUnlike = auctionSummaryQueryRepository.findLikedAuctionsByUserId(
+                winner.getId(), pageable);
+
+        // then
+        assertThat(liked.getContent()).singleElement().satisfies(response -> {
+            assertThat(response.getIsLiked()).isTrue();
+            assertThat(response.getIsSeller()).isFalse();
+            assertThat(response.getLikeCount()).isEqualTo(1L);
+        });
+        assertThat(afterUnlike).isEmpty();
+        assertThat(auctionSummaryQueryRepository.findPreAuctionsByUserId(seller.getId(), pageable).getContent())
+                .singleElement()
+                .satisfies(response -> assertThat(response.getLikeCount()).isZero());
+    }
+
+    @Test
+    void 슬라이스_요청은_전체_개수_없이_다음_페이지_여부만_판단한다() {
+        // given
+        registerAuction("경매1", AuctionStatus.PRE);
+        registerAuction("경매2", AuctionStatus.PRE);
+        registerAuction("경매3", AuctionStatus.PRE);
+        Pageable first = SlicePageRequest.of(PageRequest.of(0, 2, Sort.by("newest")));
+        Pageable last = SlicePageRequest.of(PageRequest.of(1, 2, Sort.by("newest")));
+
+        // when
+        Page<PreAuctionResponse> firstPage = auctionSummaryQueryRepository.findPreAuctionsByUserId(seller.getId(),
+                first);
+        Page<PreAuctionResponse> lastPage = auctionSummaryQueryRepository.findPreAuctionsByUserId(seller.getId(),
+                last);
+
+        // then
+        assertThat(firstPage).isInstanceOf(SlicePage.class);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.getContent()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.isLast()).isTrue();
+    }
+}
@@ -0,0 +1,62 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import java.util.List;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticAuctionSearchEngineTest {
+    @Mock
+    private AuctionElasticQueryRepository auctionElasticQueryRepository;
+
+    @InjectMocks
+    private ElasticAuctionSearchEngine elasticAuctionSearchEngine;
+
+    private static ElasticsearchException elasticsearchException(int status, String type) {
+        return new ElasticsearchException("search", ErrorResponse.of(response -> response
+                .status(status)
+                .error(error -> error.type(type).reason(type))));
+    }
+
+    @Test
+    void 만료된_point_in_time은_잘못된_커서_예외로_변환한다() {
+        // given
+        given(auctionElasticQueryRepository.searchAuctionsAfter(any(), any(), any(), any(), any()))
+                .willThrow(new DataAccessResourceFailureException("search failed",
+                        elasticsearchException(404, "search_context_missing_exception")));
+
+        // when, then
+        assertThatThrownBy(() -> elasticAuctionSearchEngine.searchAfter("맥북", AuctionStatus.PROCEEDING,
+                PageRequest.of(0, 10), "pit-id", List.of(1L)))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(INVALID_SEARCH_CURSOR);
+    }
+
+    @Test
+    void 그_외_검색_오류는_그대로_전달한다() {
+        // given
+        given(auctionElasticQueryRepository.searchAuctionsAfter(any(), any(), any(), any(), any()))
+                .willThrow(new DataAccessResourceFailureException("search failed",
+                        elasticsearchException(503, "unavailable_shards_exception")));
+
+        // when, then
+        assertThatThrownBy(() -> elasticAuctionSearchEngine.searchAfter("맥북", AuctionStatus.PROCEEDING,
+                PageRequest.of(0, 10), "pit-id", List.of(1L)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+}
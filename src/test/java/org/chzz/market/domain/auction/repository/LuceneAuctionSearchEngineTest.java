@@ -0,0 +1,139 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets.PriceBucket;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.service.AuctionPageableAdjuster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class LuceneAuctionSearchEngineTest {
+    private LuceneAuctionSearchEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new LuceneAuctionSearchEngine(new ByteBuffersDirectory(), new AuctionPageableAdjuster(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), 10000);
+        engine.write(List.of(
+                document(1L, "맥북 프로", "전자기기", 15000, AuctionStatus.PROCEEDING),
+                document(2L, "맥북 에어", "전자기기", 5000, AuctionStatus.PROCEEDING),
+                document(3L, "맥북 파우치", "패션/잡화", 8000, AuctionStatus.PROCEEDING),
+                document(4L, "맥북 충전기", "전자기기", 3000, AuctionStatus.ENDED),
+                document(5L, "아이패드", "전자기기", 7000, AuctionStatus.PROCEEDING)
+        ), List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        engine.close();
+    }
+
+    private static AuctionDocument document(Long auctionId, String name, String category, int minPrice,
+                                            AuctionStatus status) {
+        return AuctionDocument.builder()
+                .auctionId(auctionId)
+                .sellerId(1L)
+                .name(name)
+                .description(name + " 팝니다.")
+                .minPrice(minPrice)
+                .category(category)
+                .auctionStatus(status)
+                .createAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(auctionId))
+                .build();
+    }
+
+    @Test
+    void 키워드와_상태로_검색하고_요청_정렬로_반환한다() {
+        // when
+        AuctionSearchResult result = engine.search("맥북", AuctionStatus.PROCEEDING,
+                PageRequest.of(0, 2, Sort.by("cheap")), false);
+
+        // then
+        assertThat(result.documents()).extracting(AuctionDocument::getAuctionId).containsExactly(2L, 3L);
+        assertThat(result.totalHits()).isEqualTo(3L);
+        assertThat(result.facets()).isNull();
+    }
+
+    @Test
+    void 상태별_개수는_상태_조건_없이_카테고리와_가격은_상태_조건으로_집계한다() {
+        // when
+        AuctionSearchResult result = engine.search("맥북", AuctionStatus.PROCEEDING,
+                PageRequest.of(0, 10, Sort.by("newest")), true);
+
+        // then
+        assertThat(result.facets().statuses())
+                .containsEntry(AuctionStatus.PROCEEDING, 3L)
+                .containsEntry(AuctionStatus.ENDED, 1L);
+        assertThat(result.facets().categories()).containsExactly(
+                entry("전자기기", 2L),
+                entry("패션/잡화", 1L));
+        assertThat(result.facets().prices()).containsExactly(
+                new PriceBucket(0, 10000, 2),
+                new PriceBucket(10000, 20000, 1));
+    }
+
+    @Test
+    void 커서_검색은_이전_페이지_마지막_정렬_값_다음부터_조회한다() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("newest"));
+        AuctionSearchResult first = engine.searchAfter("맥북", AuctionStatus.PROCEEDING, pageable,
+                engine.openPointInTime(AuctionStatus.PROCEEDING), null);
+
+        // when
+        AuctionSearchResult next = engine.searchAfter("맥북", AuctionStatus.PROCEEDING, pageable,
+                first.pointInTimeId(), first.hits().get(1).sortValues());
+
+        // then
+        assertThat(first.documents()).extracting(AuctionDocument::getAuctionId).containsExactly(3L, 2L, 1L);
+        assertThat(next.documents()).extracting(AuctionDocument::getAuctionId).containsExactly(1L);
+    }
+
+    @Test
+    void 카운터만_갱신해도_나머지_필드는_유지된다() {
+        // when
+        engine.updateCounters(List.of(new AuctionCounter(1L, AuctionStatus.PROCEEDING, 7L, 3L)));
+
+        // then
+        assertThat(engine.findAllByIds(AuctionStatus.PROCEEDING, List.of(1L, 99L))).singleElement()
+                .satisfies(document -> {
+                    assertThat(document.getName()).isEqualTo("맥북 프로");
+                    assertThat(document.getLikeCount()).isEqualTo(7L);
+                    assertThat(document.getBidCount()).isEqualTo(3L);
+                });
+    }
+
+    @Test
+    void 삭제된_경매는_검색과_자동완성에서_제외된다() {
+        // when
+        engine.write(List.of(), List.of(1L));
+
+        // then
+        assertThat(engine.search("맥북", AuctionStatus.PROCEEDING, PageRequest.of(0, 10), false).documents())
+                .extracting(AuctionDocument::getAuctionId)
+                .doesNotContain(1L);
+        assertThat(engine.suggestNames("맥북", 10)).doesNotContain("맥북 프로");
+    }
+
+    @Test
+    void 종료된_경매는_자동완성에서_제외된다() {
+        // when
+        List<String> names = engine.suggestNames("맥북", 10);
+
+        // then
+        assertThat(names).contains("맥북 프로").doesNotContain("맥북 충전기");
+    }
+}
@@ -0,0 +1,82 @@
+package org.chzz.market.domain.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+
+import java.util.List;
+import java.util.Set;
+import org.chzz.market.common.CustomSpringBootTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@CustomSpringBootTest
+class UserAuctionRelationRepositoryTest {
+    private static final Long USER_ID = 987654321L;
+    private static final String KEY = "user:auction:liker:" + USER_ID;
+
+    @Autowired
+    private UserAuctionRelationRepository userAuctionRelationRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(KEY, KEY + ":version"));
+    }
+
+    @Test
+    void 적재된_집합에서_조회한_경매_중_관계가_있는_경매만_반환한다() {
+        // given
+        String version = userAuctionRelationRepository.findVersion(USER_ID, LIKER).orElseThrow();
+        userAuctionRelationRepository.load(USER_ID, LIKER, version, List.of(1L, 2L));
+
+        // when
+        Set<Long> related = userAuctionRelationRepository.findRelatedAuctionIds(USER_ID, LIKER, List.of(1L, 3L))
+                .orElseThrow();
+
+        // then
+        assertThat(related).containsExactly(1L);
+    }
+
+    @Test
+    void 적재되지_않은_집합은_조회되지_않는다() {
+        // when
+        userAuctionRelationRepository.addIfPresent(USER_ID, LIKER, 1L);
+
+        // then
+        assertThat(userAuctionRelationRepository.findRelatedAuctionIds(USER_ID, LIKER, List.of(1L))).isEmpty();
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    @Test
+    void DB_조회_이후_변경이_있으면_적재하지_않는다() {
+        // given
+        String version = userAuctionRelationRepository.findVersion(USER_ID, LIKER).orElseThrow();
+        // DB 조회와 적재 사이에 좋아요가 커밋됨
+        userAuctionRelationRepository.addIfPresent(USER_ID, LIKER, 3L);
+
+        // when
+        userAuctionRelationRepository.load(USER_ID, LIKER, version, List.of(1L, 2L));
+
+        // then
+        assertThat(userAuctionRelationRepository.findRelatedAuctionIds(USER_ID, LIKER, List.of(1L, 3L))).isEmpty();
+    }
+
+    @Test
+    void 적재된_집합에는_변경을_반영한다() {
+        // given
+        String version = userAuctionRelationRepository.findVersion(USER_ID, LIKER).orElseThrow();
+        userAuctionRelationRepository.load(USER_ID, LIKER, version, List.of(1L, 2L));
+
+        // when
+        userAuctionRelationRepository.addIfPresent(USER_ID, LIKER, 3L);
+        userAuctionRelationRepository.remove(USER_ID, LIKER, 1L);
+
+        // then
+        assertThat(userAuctionRelationRepository.findRelatedAuctionIds(USER_ID, LIKER, List.of(1L, 2L, 3L)))
+                .hasValue(Set.of(2L, 3L));
+    }
+}
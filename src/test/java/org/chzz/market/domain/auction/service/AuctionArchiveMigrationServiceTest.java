@@ -0,0 +1,106 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionElasticQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionArchiveMigrationServiceTest {
+    @Mock
+    private AuctionElasticQueryRepository auctionElasticQueryRepository;
+    @Mock
+    private AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private AuctionArchiveMigrationService auctionArchiveMigrationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionArchiveMigrationService, "batchSize", 1000);
+    }
+
+    @Test
+    void 이전이_완료되었으면_보관_인덱스만_조회하도록_전환한다() {
+        // given
+        given(redisTemplate.hasKey(any())).willReturn(true);
+
+        // when
+        auctionArchiveMigrationService.migrate();
+
+        // then
+        then(auctionElasticQueryRepository).should().markArchivePopulated();
+        then(auctionElasticQueryRepository).should(never()).findEndedIdsInLive(anyInt());
+        then(redissonClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 라이브_인덱스에_종료_경매가_남아_있으면_아웃박스에_기록한다() throws InterruptedException {
+        // given
+        givenLockAcquired();
+        given(auctionElasticQueryRepository.findEndedIdsInLive(1000)).willReturn(List.of(1L, 2L));
+
+        // when
+        auctionArchiveMigrationService.migrate();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuctionIndexOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        then(auctionIndexOutboxRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AuctionIndexOutbox::getAuctionId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).allMatch(AuctionIndexOutbox::isMembershipChanged);
+        then(auctionElasticQueryRepository).should(never()).markArchivePopulated();
+        then(lock).should().unlock();
+    }
+
+    @Test
+    void 라이브_인덱스에_종료_경매가_없으면_완료를_기록한다() throws InterruptedException {
+        // given
+        givenLockAcquired();
+        given(auctionElasticQueryRepository.findEndedIdsInLive(1000)).willReturn(List.of());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        auctionArchiveMigrationService.migrate();
+
+        // then
+        then(valueOperations).should().set("auction:search:archive:populated", "true");
+        then(auctionElasticQueryRepository).should().markArchivePopulated();
+        then(auctionIndexOutboxRepository).shouldHaveNoInteractions();
+    }
+
+    private void givenLockAcquired() throws InterruptedException {
+        given(redisTemplate.hasKey(any())).willReturn(false);
+        given(redissonClient.getLock(any())).willReturn(lock);
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+    }
+}
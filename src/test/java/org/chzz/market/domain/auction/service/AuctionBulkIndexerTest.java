@@ -0,0 +1,186 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.chzz.market.domain.auction.repository.AuctionReindexLogRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBulkIndexerTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private AuctionSearchEngine auctionSearchEngine;
+    @Mock
+    private AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    @Mock
+    private AuctionReindexLogRepository auctionReindexLogRepository;
+    @Mock
+    private AuctionSearchCacheService auctionSearchCacheService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuctionBulkIndexer auctionBulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        auctionBulkIndexer = new AuctionBulkIndexer(auctionRepository, auctionSearchEngine,
+                auctionIndexOutboxRepository, auctionReindexLogRepository, auctionSearchCacheService, meterRegistry);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "bulkSize", 10);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "slowThresholdMillis", 2000L);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "backoffMillis", 5000L);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "maxAttempts", 10);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "baseRetryBackoffMillis", 1000L);
+        ReflectionTestUtils.setField(auctionBulkIndexer, "maxRetryBackoffMillis", 300000L);
+        auctionBulkIndexer.registerMetrics();
+    }
+
+    private AuctionIndexOutbox outbox(long id, long auctionId, int attemptCount) {
+        return outbox(id, auctionId, attemptCount, true);
+    }
+
+    private AuctionIndexOutbox outbox(long id, long auctionId, int attemptCount, boolean membershipChanged) {
+        return AuctionIndexOutbox.builder()
+                .id(id)
+                .auctionId(auctionId)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .attemptCount(attemptCount)
+                .membershipChanged(membershipChanged)
+                .build();
+    }
+
+    @Test
+    void 같은_경매의_변경은_문서_하나로_합쳐_전송한다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of());
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0), outbox(2L, 1L, 0), outbox(3L, 2L, 0)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        then(auctionSearchEngine).should().write(List.of(), List.of(1L, 2L));
+        then(auctionIndexOutboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.get("auction.index.bulk.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 내용_수정만_있는_경매는_검색_결과_캐시를_무효화하지_않는다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of());
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0, false), outbox(2L, 1L, 0, false)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        then(auctionSearchCacheService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 삭제된_경매는_모든_상태의_검색_결과_캐시를_무효화한다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of());
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0, false), outbox(2L, 1L, 0, true)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        then(auctionSearchCacheService).should().invalidate(EnumSet.allOf(AuctionStatus.class));
+    }
+
+    @Test
+    void 버퍼가_가득_차면_바로_전송한다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of());
+        List<AuctionIndexOutbox> outboxes = LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> outbox(id, id, 0))
+                .toList();
+
+        // when
+        auctionBulkIndexer.add(outboxes);
+
+        // then
+        then(auctionSearchEngine).should().write(eq(List.of()), anyList());
+        assertThat(auctionBulkIndexer.getLastOutboxId()).isZero();
+        assertThat(auctionBulkIndexer.remainingCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    void 버퍼가_가득_차지_않으면_전송하지_않는다() {
+        // when
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0)));
+
+        // then
+        then(auctionSearchEngine).shouldHaveNoInteractions();
+        assertThat(auctionBulkIndexer.getLastOutboxId()).isEqualTo(1L);
+        assertThat(auctionBulkIndexer.remainingCapacity()).isEqualTo(9);
+    }
+
+    @Test
+    void 전송이_느리면_백오프_동안_새_행을_받지_않는다() {
+        // given
+        ReflectionTestUtils.setField(auctionBulkIndexer, "slowThresholdMillis", -1L);
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of());
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        assertThat(auctionBulkIndexer.remainingCapacity()).isZero();
+    }
+
+    @Test
+    void 전송에_실패한_행은_한번의_UPDATE로_재시도를_예약한다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of(1L));
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0), outbox(2L, 1L, 0), outbox(3L, 2L, 0)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        then(auctionIndexOutboxRepository).should().deleteAllByIdInBatch(List.of(3L));
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(auctionIndexOutboxRepository).should().increaseAttemptCount(eq(List.of(1L, 2L)), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void 시도_횟수가_다른_실패_행은_시도_횟수별로_재시도를_예약한다() {
+        // given
+        given(auctionSearchEngine.write(anyList(), anyList())).willReturn(Set.of(1L, 2L));
+        auctionBulkIndexer.add(List.of(outbox(1L, 1L, 0), outbox(2L, 2L, 3)));
+
+        // when
+        auctionBulkIndexer.flush();
+
+        // then
+        then(auctionIndexOutboxRepository).should().increaseAttemptCount(eq(List.of(1L)), any());
+        then(auctionIndexOutboxRepository).should().increaseAttemptCount(eq(List.of(2L)), any());
+    }
+}
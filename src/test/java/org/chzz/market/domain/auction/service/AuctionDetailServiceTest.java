@@ -0,0 +1,138 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.chzz.market.common.config.datasource.PrimaryReader;
+import org.chzz.market.domain.auction.dto.AuctionDetailSnapshot;
+import org.chzz.market.domain.auction.dto.response.OfficialAuctionDetailResponse;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.repository.AuctionDetailCacheRepository;
+import org.chzz.market.domain.auction.repository.AuctionQueryRepository;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.entity.Bid.BidStatus;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.like.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionDetailServiceTest {
+    private static final Long AUCTION_ID = 1L;
+    private static final Long SELLER_ID = 10L;
+    private static final Long WINNER_ID = 20L;
+    private static final Long USER_ID = 30L;
+
+    @Mock
+    private AuctionQueryRepository auctionQueryRepository;
+    @Mock
+    private AuctionDetailCacheRepository auctionDetailCacheRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private PrimaryReader primaryReader;
+
+    @InjectMocks
+    private AuctionDetailService auctionDetailService;
+
+    @BeforeEach
+    void setUp() {
+        AuctionDetailSnapshot snapshot = new AuctionDetailSnapshot(AUCTION_ID, SELLER_ID, "판매자", null, "맥북프로",
+                "맥북프로 팝니다.", 1000, AuctionStatus.ENDED, Category.ELECTRONICS, LocalDateTime.now(),
+                LocalDateTime.now(), 0L, 1L, WINNER_ID, true, List.of());
+        given(auctionQueryRepository.findAuctionDetailSnapshotById(AUCTION_ID)).willReturn(Optional.of(snapshot));
+        willAnswer(invocation -> invocation.<Supplier<Optional<AuctionDetailSnapshot>>>getArgument(1).get())
+                .given(auctionDetailCacheRepository).find(eq(AUCTION_ID), any());
+        willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get())
+                .given(primaryReader).read(any());
+    }
+
+    private OfficialAuctionDetailResponse getDetail(Long userId) {
+        return (OfficialAuctionDetailResponse) auctionDetailService.getAuctionDetails(userId, AUCTION_ID);
+    }
+
+    @Test
+    void 캐시_재적재는_프라이머리에서_조회한다() {
+        // when
+        getDetail(null);
+
+        // then
+        then(primaryReader).should().read(any());
+    }
+
+    @Test
+    void 입찰한_사용자에게는_입찰_정보를_적용한다() {
+        // given
+        Bid bid = Bid.builder().id(5L).bidderId(USER_ID).auctionId(AUCTION_ID).amount(2000L).count(1).build();
+        given(bidRepository.findByAuctionIdAndBidderId(AUCTION_ID, USER_ID)).willReturn(Optional.of(bid));
+
+        // when
+        OfficialAuctionDetailResponse response = getDetail(USER_ID);
+
+        // then
+        assertThat(response.getIsParticipated()).isTrue();
+        assertThat(response.getBidId()).isEqualTo(5L);
+        assertThat(response.getBidAmount()).isEqualTo(2000L);
+        assertThat(response.getRemainingBidCount()).isEqualTo(1);
+        assertThat(response.getIsCancelled()).isFalse();
+    }
+
+    @Test
+    void 취소된_입찰이_있는_경우() {
+        // given
+        Bid bid = Bid.builder().id(5L).bidderId(USER_ID).auctionId(AUCTION_ID).amount(2000L)
+                .status(BidStatus.CANCELLED).build();
+        given(bidRepository.findByAuctionIdAndBidderId(AUCTION_ID, USER_ID)).willReturn(Optional.of(bid));
+
+        // when
+        OfficialAuctionDetailResponse response = getDetail(USER_ID);
+
+        // then
+        assertThat(response.getIsParticipated()).isFalse();
+        assertThat(response.getIsCancelled()).isTrue();
+    }
+
+    @Test
+    void 비로그인_상태에서_조회한_경우() {
+        // when
+        OfficialAuctionDetailResponse response = getDetail(null);
+
+        // then
+        assertThat(response.getIsSeller()).isFalse();
+        assertThat(response.getIsParticipated()).isFalse();
+        assertThat(response.getBidId()).isNull();
+        assertThat(response.getBidAmount()).isEqualTo(0L);
+        assertThat(response.getRemainingBidCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 주문_여부는_판매자와_낙찰자에게만_제공한다() {
+        // given
+        given(bidRepository.findByAuctionIdAndBidderId(AUCTION_ID, USER_ID)).willReturn(Optional.empty());
+        given(bidRepository.findByAuctionIdAndBidderId(AUCTION_ID, WINNER_ID)).willReturn(Optional.empty());
+
+        // when
+        OfficialAuctionDetailResponse other = getDetail(USER_ID);
+        OfficialAuctionDetailResponse winner = getDetail(WINNER_ID);
+
+        // then
+        assertThat(other.getIsOrdered()).isNull();
+        assertThat(winner.getIsWinner()).isTrue();
+        assertThat(winner.getIsOrdered()).isTrue();
+    }
+}
@@ -0,0 +1,56 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+import org.chzz.market.domain.auction.dto.event.AuctionDocumentSaveEvent;
+import org.chzz.market.domain.auction.dto.event.AuctionEndEvent;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionElasticServiceTest {
+    @Mock
+    private AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+
+    @InjectMocks
+    private AuctionElasticService auctionElasticService;
+
+    @Test
+    void 경매가_등록되면_아웃박스에_기록한다() {
+        // given
+        Auction auction = Auction.builder().id(1L).build();
+
+        // when
+        auctionElasticService.saveAuctionDocument(new AuctionDocumentSaveEvent(auction));
+
+        // then
+        ArgumentCaptor<AuctionIndexOutbox> captor = ArgumentCaptor.forClass(AuctionIndexOutbox.class);
+        then(auctionIndexOutboxRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getAuctionId()).isEqualTo(1L);
+        assertThat(captor.getValue().getAttemptCount()).isZero();
+        assertThat(captor.getValue().getNextAttemptAt()).isEqualTo(captor.getValue().getCreatedAt());
+        assertThat(captor.getValue().isMembershipChanged()).isTrue();
+    }
+
+    @Test
+    void 경매가_종료되면_아웃박스에_기록한다() {
+        // given
+        Auction auction = Auction.builder().id(2L).build();
+
+        // when
+        auctionElasticService.updateEndAuctionStatus(new AuctionEndEvent(auction));
+
+        // then
+        ArgumentCaptor<AuctionIndexOutbox> captor = ArgumentCaptor.forClass(AuctionIndexOutbox.class);
+        then(auctionIndexOutboxRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getAuctionId()).isEqualTo(2L);
+    }
+}
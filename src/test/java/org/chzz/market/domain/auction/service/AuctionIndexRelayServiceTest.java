@@ -0,0 +1,130 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionIndexRelayServiceTest {
+    @Mock
+    private AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    @Mock
+    private AuctionBulkIndexer auctionBulkIndexer;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private AuctionIndexRelayService auctionIndexRelayService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionIndexRelayService, "maxAttempts", 10);
+        given(redissonClient.getLock(any())).willReturn(lock);
+    }
+
+    @Test
+    void 다른_노드가_락을_보유중이면_아무것도_하지_않는다() throws InterruptedException {
+        // given
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(false);
+
+        // when
+        auctionIndexRelayService.relay();
+
+        // then
+        then(auctionBulkIndexer).shouldHaveNoInteractions();
+        then(auctionIndexOutboxRepository).shouldHaveNoInteractions();
+        then(lock).should(never()).unlock();
+    }
+
+    @Test
+    void 락을_획득하면_대기_행을_전송한_뒤_락을_해제한다() throws InterruptedException {
+        // given
+        List<AuctionIndexOutbox> outboxes = List.of(AuctionIndexOutbox.builder().id(1L).auctionId(10L).build());
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(auctionBulkIndexer.remainingCapacity()).willReturn(500);
+        given(auctionIndexOutboxRepository.findRelayTargets(anyLong(), any(), eq(10), any()))
+                .willReturn(outboxes)
+                .willReturn(List.of());
+
+        // when
+        auctionIndexRelayService.relay();
+
+        // then
+        then(auctionBulkIndexer).should().add(outboxes);
+        InOrder inOrder = inOrder(auctionBulkIndexer, lock);
+        inOrder.verify(auctionBulkIndexer).flush();
+        inOrder.verify(lock).unlock();
+    }
+
+    @Test
+    void 조회_중_오류가_발생해도_버퍼를_비운_뒤_락을_해제한다() throws InterruptedException {
+        // given
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(auctionBulkIndexer.remainingCapacity()).willReturn(500);
+        given(auctionIndexOutboxRepository.findRelayTargets(anyLong(), any(), eq(10), any()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        auctionIndexRelayService.relay();
+
+        // then
+        InOrder inOrder = inOrder(auctionBulkIndexer, lock);
+        inOrder.verify(auctionBulkIndexer).flush();
+        inOrder.verify(lock).unlock();
+    }
+
+    @Test
+    void 전송이_일시_중지되면_행을_조회하지_않는다() throws InterruptedException {
+        // given
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(auctionBulkIndexer.remainingCapacity()).willReturn(0);
+
+        // when
+        auctionIndexRelayService.relay();
+
+        // then
+        then(auctionIndexOutboxRepository).should(never()).findRelayTargets(anyLong(), any(), anyInt(), any());
+        then(lock).should().unlock();
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘긴_행_수를_기록한다() throws InterruptedException {
+        // given
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(auctionBulkIndexer.remainingCapacity()).willReturn(0);
+        given(auctionIndexOutboxRepository.countByAttemptCountGreaterThanEqual(10)).willReturn(3L);
+
+        // when
+        auctionIndexRelayService.relay();
+
+        // then
+        assertThat(ReflectionTestUtils.getField(auctionIndexRelayService, "deadRows")).isEqualTo(3L);
+    }
+}
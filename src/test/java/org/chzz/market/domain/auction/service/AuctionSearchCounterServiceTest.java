@@ -0,0 +1,150 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.auction.entity.AuctionSummary.Relation.LIKER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.chzz.market.domain.auction.dto.AuctionCounter;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionCounterChangeRepository;
+import org.chzz.market.domain.auction.repository.AuctionReindexLogRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.chzz.market.domain.auction.repository.UserAuctionRelationRepository;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.like.dto.event.LikeUpdatedEvent;
+import org.chzz.market.domain.like.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSearchCounterServiceTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private AuctionSearchEngine auctionSearchEngine;
+    @Mock
+    private AuctionReindexLogRepository auctionReindexLogRepository;
+    @Mock
+    private UserAuctionRelationRepository userAuctionRelationRepository;
+    @Mock
+    private AuctionCounterChangeRepository auctionCounterChangeRepository;
+
+    @InjectMocks
+    private AuctionSearchCounterService auctionSearchCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionSearchCounterService, "batchSize", 500);
+    }
+
+    @Test
+    void 변경된_경매는_Redis_집합에_기록한다() {
+        // when
+        auctionSearchCounterService.onLike(new LikeUpdatedEvent(1L, AuctionStatus.PRE, 10L, true));
+
+        // then
+        then(auctionCounterChangeRepository).should().add(1L);
+        then(auctionSearchEngine).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 꺼낸_경매의_현재_카운터를_한번의_부분_갱신으로_전송한다() {
+        // given
+        List<AuctionCounter> counters = List.of(new AuctionCounter(1L, AuctionStatus.PRE, 2L, 0L));
+        given(auctionCounterChangeRepository.pop(500)).willReturn(List.of(1L)).willReturn(List.of());
+        given(auctionRepository.findCountersByIdIn(List.of(1L))).willReturn(counters);
+        given(auctionSearchEngine.updateCounters(counters)).willReturn(Set.of());
+
+        // when
+        auctionSearchCounterService.flush();
+
+        // then
+        then(auctionSearchEngine).should(times(1)).updateCounters(anyList());
+        then(auctionCounterChangeRepository).should(never()).addAll(any());
+    }
+
+    @Test
+    void 전송에_실패한_경매는_집합에_되돌려_다음_주기에_다시_전송한다() {
+        // given
+        List<AuctionCounter> counters = List.of(new AuctionCounter(1L, AuctionStatus.PRE, 1L, 0L));
+        given(auctionCounterChangeRepository.pop(500)).willReturn(List.of(1L));
+        given(auctionRepository.findCountersByIdIn(List.of(1L))).willReturn(counters);
+        given(auctionSearchEngine.updateCounters(counters)).willReturn(Set.of(1L));
+
+        // when
+        auctionSearchCounterService.flush();
+
+        // then
+        then(auctionCounterChangeRepository).should().addAll(Set.of(1L));
+        then(auctionCounterChangeRepository).should(times(1)).pop(500);
+    }
+
+    @Test
+    void 색인_재구성_중에는_변경_로그에도_기록한다() {
+        // given
+        given(auctionCounterChangeRepository.pop(500)).willReturn(List.of(1L)).willReturn(List.of());
+        given(auctionRepository.findCountersByIdIn(List.of(1L))).willReturn(List.of());
+        given(auctionSearchEngine.updateCounters(List.of())).willReturn(Set.of());
+        given(auctionReindexLogRepository.findActiveIndex()).willReturn(Optional.of("auction_v1"));
+
+        // when
+        auctionSearchCounterService.flush();
+
+        // then
+        then(auctionReindexLogRepository).should().record(List.of(1L));
+    }
+
+    @Test
+    void 관계_집합이_없으면_DB_조회_전에_읽은_버전으로_적재한다() {
+        // given
+        given(userAuctionRelationRepository.findRelatedAuctionIds(10L, LIKER, List.of(1L, 2L)))
+                .willReturn(Optional.empty());
+        given(userAuctionRelationRepository.findVersion(10L, LIKER)).willReturn(Optional.of("3"));
+        given(likeRepository.findAuctionIdsByUserId(10L)).willReturn(List.of(1L));
+
+        // when
+        Set<Long> related = auctionSearchCounterService.findRelatedAuctionIds(10L, LIKER, List.of(1L, 2L));
+
+        // then
+        assertThat(related).containsExactly(1L);
+        InOrder inOrder = inOrder(userAuctionRelationRepository, likeRepository);
+        inOrder.verify(userAuctionRelationRepository).findVersion(10L, LIKER);
+        inOrder.verify(likeRepository).findAuctionIdsByUserId(10L);
+        inOrder.verify(userAuctionRelationRepository).load(10L, LIKER, "3", List.of(1L));
+    }
+
+    @Test
+    void 버전_조회에_실패하면_적재하지_않는다() {
+        // given
+        given(userAuctionRelationRepository.findRelatedAuctionIds(10L, LIKER, List.of(1L)))
+                .willReturn(Optional.empty());
+        given(userAuctionRelationRepository.findVersion(10L, LIKER)).willReturn(Optional.empty());
+        given(likeRepository.findAuctionIdsByUserId(10L)).willReturn(List.of(1L));
+
+        // when
+        auctionSearchCounterService.findRelatedAuctionIds(10L, LIKER, List.of(1L));
+
+        // then
+        then(userAuctionRelationRepository).should(never()).load(any(), any(), any(), anyList());
+    }
+}
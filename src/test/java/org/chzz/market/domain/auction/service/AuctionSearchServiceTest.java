@@ -0,0 +1,301 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_SEARCH_UNAVAILABLE;
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.INVALID_SEARCH_CURSOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.domain.auction.dto.AuctionSearchCursor;
+import org.chzz.market.domain.auction.dto.AuctionSearchFacets;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult;
+import org.chzz.market.domain.auction.dto.AuctionSearchResult.Hit;
+import org.chzz.market.domain.auction.dto.response.FacetedSearchResponse;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.entity.AuctionDocument;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.entity.Category;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionFullTextQueryRepository;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSearchServiceTest {
+    private static final String KEYWORD = "맥북";
+    private static final String POINT_IN_TIME_ID = "pit-id";
+
+    @Mock
+    private AuctionSearchCounterService auctionSearchCounterService;
+    @Mock
+    private AuctionSearchCacheService auctionSearchCacheService;
+    @Mock
+    private AuctionTrendingKeywordService auctionTrendingKeywordService;
+    @Mock
+    private AuctionSearchEngine auctionSearchEngine;
+    @Mock
+    private AuctionFullTextQueryRepository auctionFullTextQueryRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Pageable pageable = PageRequest.of(0, 2);
+    private AuctionSearchService auctionSearchService;
+
+    @BeforeEach
+    void setUp() {
+        auctionSearchService = new AuctionSearchService(auctionSearchCounterService, auctionSearchCacheService,
+                auctionTrendingKeywordService, auctionSearchEngine, auctionFullTextQueryRepository,
+                new AuctionSearchEngineCaller(CircuitBreaker.ofDefaults("auctionSearch"),
+                        TimeLimiter.ofDefaults("auctionSearch"), Runnable::run),
+                objectMapper, 100, 30);
+    }
+
+    private static List<Hit> hits(long count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new Hit(AuctionDocument.builder()
+                        .auctionId(id)
+                        .sellerId(100L)
+                        .name("맥북 " + id)
+                        .minPrice(1000)
+                        .auctionStatus(AuctionStatus.PRE)
+                        .endDateTime(LocalDateTime.now().plusDays(1))
+                        .build(), List.of(id)))
+                .toList();
+    }
+
+    private static AuctionSearchFacets facets(long count) {
+        return new AuctionSearchFacets(Map.of("전자기기", count), List.of(), Map.of(AuctionStatus.PRE, count));
+    }
+
+    private String cursor() {
+        return new AuctionSearchCursor(POINT_IN_TIME_ID, List.of(2L)).encode(objectMapper);
+    }
+
+    @Test
+    void 다음_페이지가_있으면_마지막_문서의_정렬_값으로_커서를_만든다() {
+        // given
+        given(auctionSearchEngine.openPointInTime(AuctionStatus.PRE)).willReturn(POINT_IN_TIME_ID);
+        given(auctionSearchEngine.searchAfter(KEYWORD, AuctionStatus.PRE, pageable, POINT_IN_TIME_ID, null))
+                .willReturn(new AuctionSearchResult(hits(3), 0, POINT_IN_TIME_ID, null));
+
+        // when
+        CursorResponse<?> response = auctionSearchService.searchByCursor(null, KEYWORD, AuctionStatus.PRE,
+                pageable, "");
+
+        // then
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        AuctionSearchCursor next = AuctionSearchCursor.decode(response.nextCursor(), objectMapper);
+        assertThat(next.pointInTimeId()).isEqualTo(POINT_IN_TIME_ID);
+        assertThat(next.searchAfter()).containsExactly(2);
+        then(auctionSearchEngine).should(never()).closePointInTime(any());
+    }
+
+    @Test
+    void 마지막_페이지에서는_point_in_time을_닫고_커서를_반환하지_않는다() {
+        // given
+        given(auctionSearchEngine.searchAfter(eq(KEYWORD), eq(AuctionStatus.PRE), eq(pageable),
+                eq(POINT_IN_TIME_ID), any()))
+                .willReturn(new AuctionSearchResult(hits(1), 0, null, null));
+
+        // when
+        CursorResponse<?> response = auctionSearchService.searchByCursor(null, KEYWORD, AuctionStatus.PRE,
+                pageable, cursor());
+
+        // then
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+        then(auctionSearchEngine).should().closePointInTime(POINT_IN_TIME_ID);
+    }
+
+    @Test
+    void 만료된_point_in_time이면_잘못된_커서_예외가_발생한다() {
+        // given
+        given(auctionSearchEngine.searchAfter(eq(KEYWORD), eq(AuctionStatus.PRE), eq(pageable),
+                eq(POINT_IN_TIME_ID), any()))
+                .willThrow(new AuctionException(INVALID_SEARCH_CURSOR));
+
+        // when, then
+        assertThatThrownBy(() -> auctionSearchService.searchByCursor(null, KEYWORD, AuctionStatus.PRE, pageable,
+                cursor()))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(INVALID_SEARCH_CURSOR);
+    }
+
+    @Test
+    void 검색_엔진_장애는_잘못된_커서가_아닌_검색_불가_예외로_알린다() {
+        // given
+        given(auctionSearchEngine.searchAfter(eq(KEYWORD), eq(AuctionStatus.PRE), eq(pageable),
+                eq(POINT_IN_TIME_ID), any()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when, then
+        assertThatThrownBy(() -> auctionSearchService.searchByCursor(null, KEYWORD, AuctionStatus.PRE, pageable,
+                cursor()))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(AUCTION_SEARCH_UNAVAILABLE);
+    }
+
+    @Test
+    void 첫_페이지_조회에_실패하면_열어둔_point_in_time을_닫는다() {
+        // given
+        given(auctionSearchEngine.openPointInTime(AuctionStatus.PRE)).willReturn(POINT_IN_TIME_ID);
+        given(auctionSearchEngine.searchAfter(KEYWORD, AuctionStatus.PRE, pageable, POINT_IN_TIME_ID, null))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when, then
+        assertThatThrownBy(() -> auctionSearchService.searchByCursor(null, KEYWORD, AuctionStatus.PRE, pageable,
+                ""))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(AUCTION_SEARCH_UNAVAILABLE);
+        then(auctionSearchEngine).should().closePointInTime(POINT_IN_TIME_ID);
+    }
+
+    @Test
+    void 서킷이_열려_있으면_point_in_time을_열지_않고_검색_불가_예외가_발생한다() {
+        // given
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("auctionSearch");
+        circuitBreaker.transitionToOpenState();
+        AuctionSearchService openService = new AuctionSearchService(auctionSearchCounterService,
+                auctionSearchCacheService, auctionTrendingKeywordService, auctionSearchEngine,
+                auctionFullTextQueryRepository, new AuctionSearchEngineCaller(circuitBreaker,
+                TimeLimiter.ofDefaults("auctionSearch"), Runnable::run), objectMapper, 100, 30);
+
+        // when, then
+        assertThatThrownBy(() -> openService.searchByCursor(null, KEYWORD, AuctionStatus.PRE, pageable, ""))
+                .isInstanceOf(AuctionException.class)
+                .extracting("errorCode")
+                .isEqualTo(AUCTION_SEARCH_UNAVAILABLE);
+        then(auctionSearchEngine).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 집계_캐시가_없으면_집계를_포함해_검색하고_캐시에_저장한다() {
+        // given
+        AuctionSearchFacets facets = facets(3);
+        given(auctionSearchEngine.search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(true)))
+                .willReturn(new AuctionSearchResult(hits(2), 3, null, facets));
+        given(auctionSearchEngine.search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(false)))
+                .willReturn(new AuctionSearchResult(hits(2), 3, null, null));
+
+        // when
+        FacetedSearchResponse first = auctionSearchService.searchWithFacets(null, KEYWORD, AuctionStatus.PRE,
+                pageable);
+        FacetedSearchResponse second = auctionSearchService.searchWithFacets(null, KEYWORD, AuctionStatus.PRE,
+                pageable);
+
+        // then
+        assertThat(first.facets()).isEqualTo(facets);
+        assertThat(second.facets()).isEqualTo(facets);
+        then(auctionSearchEngine).should().search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(true));
+        then(auctionSearchEngine).should().search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(false));
+    }
+
+    @Test
+    void 정규화한_키워드가_같으면_집계_캐시를_공유한다() {
+        // given
+        given(auctionSearchEngine.search(any(), eq(AuctionStatus.PRE), eq(pageable), anyBoolean()))
+                .willReturn(new AuctionSearchResult(hits(1), 1, null, facets(1)));
+
+        // when
+        auctionSearchService.searchWithFacets(null, KEYWORD, AuctionStatus.PRE, pageable);
+        auctionSearchService.searchWithFacets(null, "  " + KEYWORD + "  ", AuctionStatus.PRE, pageable);
+
+        // then
+        then(auctionSearchEngine).should().search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(true));
+    }
+
+    @Test
+    void 상태가_다르면_집계_캐시를_공유하지_않는다() {
+        // given
+        given(auctionSearchEngine.search(any(), any(), eq(pageable), anyBoolean()))
+                .willReturn(new AuctionSearchResult(hits(1), 1, null, facets(1)));
+
+        // when
+        auctionSearchService.searchWithFacets(null, KEYWORD, AuctionStatus.PRE, pageable);
+        auctionSearchService.searchWithFacets(null, KEYWORD, AuctionStatus.PROCEEDING, pageable);
+
+        // then
+        then(auctionSearchEngine).should().search(any(), eq(AuctionStatus.PRE), eq(pageable), eq(true));
+        then(auctionSearchEngine).should().search(any(), eq(AuctionStatus.PROCEEDING), eq(pageable), eq(true));
+    }
+
+    @Test
+    void 검색_엔진에는_캐시_키와_같은_정규화한_검색어를_전달한다() {
+        // given
+        given(auctionSearchEngine.search("macbook pro", AuctionStatus.PRE, pageable, false))
+                .willReturn(new AuctionSearchResult(hits(1), 1, null, null));
+
+        // when
+        auctionSearchService.search(null, "  MacBook   Pro ", AuctionStatus.PRE, pageable);
+
+        // then
+        then(auctionSearchEngine).should().search("macbook pro", AuctionStatus.PRE, pageable, false);
+    }
+
+    @Test
+    void 검색_엔진_장애_시_전문_검색_결과로_대체한다() {
+        // given
+        given(auctionSearchEngine.search(KEYWORD, AuctionStatus.PRE, pageable, false))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+        given(auctionFullTextQueryRepository.searchAuctionIds(KEYWORD, AuctionStatus.PRE, pageable))
+                .willReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        Auction auction = Auction.builder()
+                .id(1L)
+                .seller(User.builder().id(100L).build())
+                .name("맥북 1")
+                .minPrice(1000)
+                .status(AuctionStatus.PRE)
+                .category(Category.ELECTRONICS)
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .build();
+        auction.addImage(Image.builder().cdnPath("https://cdn.com").sequence(1).build());
+        given(auctionFullTextQueryRepository.findAllWithImagesByIdIn(List.of(1L))).willReturn(List.of(auction));
+
+        // when
+        Page<?> page = auctionSearchService.search(null, KEYWORD, AuctionStatus.PRE, pageable);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    @Test
+    void 검색_엔진_장애가_아닌_예외는_대체하지_않고_전달한다() {
+        // given
+        given(auctionSearchEngine.search(KEYWORD, AuctionStatus.PRE, pageable, false))
+                .willThrow(new IllegalArgumentException("unsupported sort"));
+
+        // when & then
+        assertThatThrownBy(() -> auctionSearchService.search(null, KEYWORD, AuctionStatus.PRE, pageable))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(auctionFullTextQueryRepository).should(never()).searchAuctionIds(any(), any(), any());
+    }
+}
@@ -0,0 +1,63 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import java.util.List;
+import org.chzz.market.domain.auction.repository.AuctionSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSuggestServiceTest {
+    @Mock
+    private AuctionSearchEngine auctionSearchEngine;
+
+    private AuctionSuggestService auctionSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        auctionSuggestService = new AuctionSuggestService(auctionSearchEngine,
+                new AuctionSearchEngineCaller(CircuitBreaker.ofDefaults("test"), TimeLimiter.ofDefaults("test"),
+                        Runnable::run), 100, 60);
+    }
+
+    @Test
+    void 같은_접두어는_캐시에서_요청_개수만큼_잘라_반환한다() {
+        // given
+        given(auctionSearchEngine.suggestNames("맥북", AuctionSuggestService.MAX_SIZE))
+                .willReturn(List.of("맥북 프로", "맥북 에어", "맥북 충전기"));
+
+        // when
+        List<String> first = auctionSuggestService.suggest("맥북", 10);
+        List<String> second = auctionSuggestService.suggest("  맥북 ", 2);
+
+        // then
+        assertThat(first).containsExactly("맥북 프로", "맥북 에어", "맥북 충전기");
+        assertThat(second).containsExactly("맥북 프로", "맥북 에어");
+        verify(auctionSearchEngine, times(1)).suggestNames("맥북", AuctionSuggestService.MAX_SIZE);
+    }
+
+    @Test
+    void 검색에_실패하면_빈_목록을_반환하고_캐싱하지_않는다() {
+        // given
+        given(auctionSearchEngine.suggestNames("아이", AuctionSuggestService.MAX_SIZE))
+                .willThrow(new IllegalStateException("timeout"))
+                .willReturn(List.of("아이패드"));
+
+        // when
+        List<String> failed = auctionSuggestService.suggest("아이", 10);
+        List<String> retried = auctionSuggestService.suggest("아이", 10);
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(retried).containsExactly("아이패드");
+    }
+}
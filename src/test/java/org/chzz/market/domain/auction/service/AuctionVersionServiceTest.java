@@ -0,0 +1,102 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+import org.chzz.market.domain.auction.entity.AuctionStatus;
+import org.chzz.market.domain.auction.repository.AuctionVersionRepository;
+import org.chzz.market.domain.bid.dto.event.BidCreatedEvent;
+import org.chzz.market.domain.order.dto.event.OrderCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionVersionServiceTest {
+    @Mock
+    private AuctionVersionRepository auctionVersionRepository;
+
+    @InjectMocks
+    private AuctionVersionService auctionVersionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionVersionService, "timeBucketSeconds", 60L);
+    }
+
+    @Test
+    void 진행중_목록_ETag에는_시간_구간이_포함된다() {
+        // given
+        given(auctionVersionRepository.findListVersion(AuctionStatus.PROCEEDING)).willReturn(Optional.of(3L));
+
+        // when
+        Optional<String> eTag = auctionVersionService.getListETag(AuctionStatus.PROCEEDING, null, Sort.unsorted(), 1L);
+
+        // then
+        assertThat(eTag).hasValueSatisfying(tag -> assertThat(tag).matches("3-1-\\d+"));
+    }
+
+    @Test
+    void 사전_경매_목록_ETag에는_시간_구간이_포함되지_않는다() {
+        // given
+        given(auctionVersionRepository.findListVersion(AuctionStatus.PRE)).willReturn(Optional.of(3L));
+
+        // when
+        Optional<String> eTag = auctionVersionService.getListETag(AuctionStatus.PRE, null, Sort.by("newest"), null);
+
+        // then
+        assertThat(eTag).hasValue("3-0");
+    }
+
+    @Test
+    void 좋아요순_목록_ETag에는_시간_구간이_포함된다() {
+        // given
+        given(auctionVersionRepository.findListVersion(AuctionStatus.PRE)).willReturn(Optional.of(3L));
+
+        // when
+        Optional<String> eTag = auctionVersionService.getListETag(AuctionStatus.PRE, null, Sort.by("likes"), null);
+
+        // then
+        assertThat(eTag).hasValueSatisfying(tag -> assertThat(tag).matches("3-0-\\d+"));
+    }
+
+    @Test
+    void 버전이_없으면_ETag를_사용하지_않는다() {
+        // given
+        given(auctionVersionRepository.findListVersion(AuctionStatus.ENDED)).willReturn(Optional.empty());
+
+        // when
+        Optional<String> eTag = auctionVersionService.getListETag(AuctionStatus.ENDED, null, Sort.unsorted(), null);
+
+        // then
+        assertThat(eTag).isEmpty();
+    }
+
+    @Test
+    void 입찰은_목록_버전을_증가시키지_않는다() {
+        // when
+        auctionVersionService.increaseOnBid(new BidCreatedEvent(1L, 2L, true));
+
+        // then
+        then(auctionVersionRepository).should().increaseDetailVersion(1L);
+        then(auctionVersionRepository).should(never()).increaseListVersion(any());
+    }
+
+    @Test
+    void 주문이_완료되면_상세_버전을_증가시킨다() {
+        // when
+        auctionVersionService.increaseOnOrder(new OrderCompletedEvent(1L, 10L));
+
+        // then
+        then(auctionVersionRepository).should().increaseDetailVersion(1L);
+    }
+}
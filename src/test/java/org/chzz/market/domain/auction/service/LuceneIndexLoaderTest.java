@@ -0,0 +1,81 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.chzz.market.domain.auction.entity.AuctionIndexOutbox;
+import org.chzz.market.domain.auction.repository.AuctionIndexOutboxRepository;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.repository.LuceneAuctionSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneIndexLoaderTest {
+    @Mock
+    private LuceneAuctionSearchEngine luceneAuctionSearchEngine;
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private AuctionBulkIndexer auctionBulkIndexer;
+    @Mock
+    private AuctionIndexOutboxRepository auctionIndexOutboxRepository;
+    @Mock
+    private AuctionSearchCacheService auctionSearchCacheService;
+
+    @InjectMocks
+    private LuceneIndexLoader luceneIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(luceneIndexLoader, "chunkSize", 2);
+    }
+
+    @Test
+    void 인덱스가_비어_있지_않으면_색인하지_않는다() {
+        // given
+        given(luceneAuctionSearchEngine.isEmpty()).willReturn(false);
+
+        // when
+        luceneIndexLoader.loadIfEmpty();
+
+        // then
+        then(auctionRepository).shouldHaveNoInteractions();
+        then(auctionBulkIndexer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 인덱스가_비어_있으면_모든_경매를_키셋_단위로_색인하고_실패한_경매는_아웃박스에_기록한다() {
+        // given
+        given(luceneAuctionSearchEngine.isEmpty()).willReturn(true);
+        given(auctionRepository.findMinId()).willReturn(Optional.of(1L));
+        given(auctionRepository.findMaxId()).willReturn(Optional.of(3L));
+        given(auctionRepository.findIdsInRange(0L, 3L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(auctionRepository.findIdsInRange(2L, 3L, PageRequest.of(0, 2))).willReturn(List.of(3L));
+        given(auctionBulkIndexer.writeTo(any(), eq(List.of(1L, 2L)))).willReturn(Set.of());
+        given(auctionBulkIndexer.writeTo(any(), eq(List.of(3L)))).willReturn(Set.of(3L));
+
+        // when
+        luceneIndexLoader.loadIfEmpty();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuctionIndexOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        then(auctionIndexOutboxRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AuctionIndexOutbox::getAuctionId).containsExactly(3L);
+        then(auctionSearchCacheService).should().invalidateAll();
+    }
+}
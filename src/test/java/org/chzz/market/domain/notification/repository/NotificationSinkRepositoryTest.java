@@ -0,0 +1,70 @@
+package org.chzz.market.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+class NotificationSinkRepositoryTest {
+    private final NotificationSinkRepository repository = new NotificationSinkRepository(2);
+
+    private static ServerSentEvent<String> event(String data) {
+        return ServerSentEvent.builder(data).event("notification").build();
+    }
+
+    @Test
+    void 같은_사용자의_모든_연결에_한_번의_발행으로_전달된다() {
+        // given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        repository.connect(1L).subscribe(event -> first.add(event.data()));
+        repository.connect(1L).subscribe(event -> second.add(event.data()));
+
+        // when
+        boolean emitted = repository.emit(1L, event("알림"));
+
+        // then
+        assertThat(emitted).isTrue();
+        assertThat(first).containsExactly("알림");
+        assertThat(second).containsExactly("알림");
+        assertThat(repository.countUsers()).isEqualTo(1);
+    }
+
+    @Test
+    void 마지막_연결이_끊기면_싱크가_제거된다() {
+        // given
+        Disposable first = repository.connect(1L).subscribe();
+        Disposable second = repository.connect(1L).subscribe();
+
+        // when
+        first.dispose();
+        boolean connectedAfterFirst = repository.isConnected(1L);
+        second.dispose();
+
+        // then
+        assertThat(connectedAfterFirst).isTrue();
+        assertThat(repository.isConnected(1L)).isFalse();
+        assertThat(repository.emit(1L, event("알림"))).isFalse();
+    }
+
+    @Test
+    void 조건에_맞는_사용자에게만_발행하고_대상_사용자를_반환한다() {
+        // given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        repository.connect(1L).subscribe(event -> first.add(event.data()));
+        repository.connect(2L).subscribe(event -> second.add(event.data()));
+
+        // when
+        Set<Long> userIds = repository.emitToAll(event("하트비트"), userId -> userId == 2L);
+
+        // then
+        assertThat(userIds).containsExactly(2L);
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("하트비트");
+    }
+}
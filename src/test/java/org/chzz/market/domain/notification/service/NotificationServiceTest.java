@@ -3,26 +3,39 @@ package org.chzz.market.domain.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 
+import java.util.List;
 import java.util.Optional;
 import org.chzz.market.domain.notification.entity.AuctionSuccessNotification;
 import org.chzz.market.domain.notification.entity.Notification;
 import org.chzz.market.domain.notification.error.NotificationErrorCode;
 import org.chzz.market.domain.notification.error.NotificationException;
+import org.chzz.market.domain.notification.repository.EmitterRepositoryImpl;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
 import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.NotificationSinkRepository;
 import org.chzz.market.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
+    @Mock
+    private EmitterRepositoryImpl emitterRepository;
+    @Mock
+    private NotificationPresenceRepository notificationPresenceRepository;
+    @Mock
+    private NotificationSinkRepository notificationSinkRepository;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -124,4 +137,19 @@ class NotificationServiceTest {
                 .isEqualTo(NotificationErrorCode.UNAUTHORIZED_ACCESS);
     }
 
+    @Test
+    @DisplayName("연결 노드를 제거하는 사이 같은 사용자가 다시 구독하면 연결 노드를 다시 등록한다.")
+    public void shouldRegisterPresenceAgainWhenResubscribedDuringRelease() {
+        // given
+        given(emitterRepository.findByUserId(user.getId()))
+                .willReturn(Optional.empty(), Optional.of(List.of(new SseEmitter())));
+
+        // when
+        notificationService.releasePresenceIfDisconnected(user.getId());
+
+        // then
+        InOrder inOrder = inOrder(notificationPresenceRepository);
+        inOrder.verify(notificationPresenceRepository).unregister(List.of(user.getId()));
+        inOrder.verify(notificationPresenceRepository).register(user.getId());
+    }
 }
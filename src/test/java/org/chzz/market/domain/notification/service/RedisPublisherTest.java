@@ -0,0 +1,76 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.entity.NotificationType;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@ExtendWith(MockitoExtension.class)
+class RedisPublisherTest {
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private NotificationPresenceRepository notificationPresenceRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisPublisher redisPublisher;
+    private NotificationRealMessage message;
+
+    @BeforeEach
+    void setUp() {
+        redisPublisher = new RedisPublisher(redisTemplate, new ChannelTopic("notification"), objectMapper,
+                notificationPresenceRepository);
+        message = new NotificationRealMessage(Map.of(1L, 10L, 2L, 20L, 3L, 30L), "알림",
+                NotificationType.AUCTION_SUCCESS, Map.of());
+    }
+
+    @Test
+    void 연결된_노드의_채널로_해당_노드_사용자의_알림만_발행한다() throws Exception {
+        // given
+        given(notificationPresenceRepository.findUserIdsByNode(message.notificationIds().keySet()))
+                .willReturn(Optional.of(Map.of("node-a", Set.of(1L, 2L))));
+
+        // when
+        redisPublisher.publish(message);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        then(redisTemplate).should().convertAndSend(eq("notification:node:node-a"), captor.capture());
+        NotificationRealMessage published = objectMapper.readValue((String) captor.getValue(),
+                NotificationRealMessage.class);
+        assertThat(published.notificationIds()).containsOnlyKeys(1L, 2L);
+        then(redisTemplate).should(never()).convertAndSend(eq("notification"), anyString());
+    }
+
+    @Test
+    void 연결_노드_조회에_실패하면_전체_채널로_발행한다() {
+        // given
+        given(notificationPresenceRepository.findUserIdsByNode(message.notificationIds().keySet()))
+                .willReturn(Optional.empty());
+
+        // when
+        redisPublisher.publish(message);
+
+        // then
+        then(redisTemplate).should().convertAndSend(eq("notification"), anyString());
+    }
+}
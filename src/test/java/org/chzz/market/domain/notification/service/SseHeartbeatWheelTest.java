@@ -0,0 +1,200 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import org.chzz.market.domain.notification.repository.NotificationPresenceRepository;
+import org.chzz.market.domain.notification.repository.NotificationSinkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class SseHeartbeatWheelTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationPresenceRepository notificationPresenceRepository =
+            mock(NotificationPresenceRepository.class);
+    private final NotificationSinkRepository notificationSinkRepository = new NotificationSinkRepository(32);
+    private final CountDownLatch writeBlocker = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor writer;
+    private ThreadPoolTaskExecutor closer;
+    private SseHeartbeatWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ThreadPoolTaskExecutor();
+        writer.setCorePoolSize(2);
+        writer.setMaxPoolSize(2);
+        writer.setQueueCapacity(10);
+        writer.initialize();
+        closer = new ThreadPoolTaskExecutor();
+        closer.setCorePoolSize(1);
+        closer.setMaxPoolSize(1);
+        closer.initialize();
+        wheel = new SseHeartbeatWheel(notificationPresenceRepository, notificationSinkRepository, meterRegistry,
+                writer, closer, 2, 200);
+        wheel.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBlocker.countDown();
+        writer.shutdown();
+        closer.shutdown();
+    }
+
+    private SseEmitter blockingEmitter() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        willAnswer(invocation -> {
+            writeBlocker.await();
+            return null;
+        }).given(emitter).send(any(SseEventBuilder.class));
+        return emitter;
+    }
+
+    private void tickUntil(long connectionId) {
+        for (int i = 0; i <= wheel.slotOf(connectionId); i++) {
+            wheel.tick();
+        }
+    }
+
+    @Test
+    void 틱마다_해당_슬롯의_연결에만_하트비트를_보낸다() throws IOException {
+        // given
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        wheel.register(1L, first); // 연결 ID 1 → 1번 슬롯
+        wheel.register(2L, second); // 연결 ID 2 → 0번 슬롯
+
+        // when
+        wheel.tick();
+
+        // then
+        then(second).should(timeout(1000)).send(any(SseEventBuilder.class));
+        then(first).should(after(200).never()).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    void 하트비트_쓰기에_실패하면_실패_수를_집계한다() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEventBuilder.class));
+        long connectionId = wheel.register(1L, emitter);
+
+        // when
+        tickUntil(connectionId);
+
+        // then
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() ->
+                assertThat(meterRegistry.get("notification.sse.heartbeat.failed").counter().count()).isEqualTo(1.0));
+    }
+
+    @Test
+    void 해제된_연결에는_하트비트를_보내지_않는다() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        long connectionId = wheel.register(1L, emitter);
+
+        // when
+        wheel.unregister(connectionId);
+        wheel.tick();
+        wheel.tick();
+
+        // then
+        then(emitter).should(after(200).never()).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    void 하트비트를_보낸_슬롯의_사용자는_연결_노드_만료_시각을_연장한다() {
+        // given
+        wheel.register(1L, mock(SseEmitter.class)); // 연결 ID 1 → 1번 슬롯
+        wheel.register(2L, mock(SseEmitter.class)); // 연결 ID 2 → 0번 슬롯
+
+        // when
+        wheel.tick();
+
+        // then
+        then(notificationPresenceRepository).should().register(Set.of(2L));
+    }
+
+    @Test
+    void 리액티브_스트림은_사용자_ID로_정해지는_슬롯에서_하트비트를_받는다() {
+        // given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        notificationSinkRepository.connect(1L).subscribe(event -> first.add(event.comment())); // 사용자 ID 1 → 1번 슬롯
+        notificationSinkRepository.connect(2L).subscribe(event -> second.add(event.comment())); // 사용자 ID 2 → 0번 슬롯
+
+        // when
+        wheel.tick();
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("heartbeat");
+        then(notificationPresenceRepository).should().register(Set.of(2L));
+    }
+
+    @Test
+    void 제한_시간을_넘긴_연결은_오류로_종료한다() throws IOException {
+        // given
+        SseEmitter emitter = blockingEmitter();
+        long connectionId = wheel.register(1L, emitter);
+
+        // when
+        tickUntil(connectionId);
+
+        // then
+        then(emitter).should(timeout(1000)).completeWithError(any(TimeoutException.class));
+        assertThat(meterRegistry.get("notification.sse.heartbeat.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 쓰기_스레드가_모두_막혀도_응답_없는_연결을_종료한다() throws IOException {
+        // given
+        SseEmitter first = blockingEmitter();
+        SseEmitter second = blockingEmitter();
+        wheel.register(1L, first); // 연결 ID 1 → 1번 슬롯
+        wheel.register(2L, second); // 연결 ID 2 → 0번 슬롯
+
+        // when
+        wheel.tick();
+        wheel.tick();
+
+        // then
+        then(first).should(timeout(1000)).completeWithError(any(TimeoutException.class));
+        then(second).should(timeout(1000)).completeWithError(any(TimeoutException.class));
+    }
+
+    @Test
+    void 이전_하트비트_쓰기가_끝나지_않은_연결은_건너뛴다() throws IOException {
+        // given
+        SseEmitter emitter = blockingEmitter();
+        wheel.register(1L, emitter); // 연결 ID 1 → 1번 슬롯
+
+        // when
+        wheel.tick();
+        wheel.tick();
+        wheel.tick();
+        wheel.tick();
+
+        // then
+        then(emitter).should(after(100).times(1)).send(any(SseEventBuilder.class));
+    }
+}
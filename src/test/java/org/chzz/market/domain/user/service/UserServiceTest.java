@@ -13,11 +13,15 @@ import java.util.Optional;
 import org.chzz.market.domain.user.dto.request.UpdateUserProfileRequest;
 import org.chzz.market.domain.user.dto.request.UserCreateRequest;
 import org.chzz.market.domain.user.dto.response.NicknameAvailabilityResponse;
+import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
+import org.chzz.market.domain.user.dto.response.UserProfileResponse;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.entity.User.ProviderType;
 import org.chzz.market.domain.user.entity.User.UserRole;
+import org.chzz.market.domain.user.entity.UserAuctionStats;
 import org.chzz.market.domain.user.error.UserErrorCode;
 import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.repository.UserAuctionStatsRepository;
 import org.chzz.market.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +39,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserAuctionStatsRepository userAuctionStatsRepository;
+
     @InjectMocks
     private UserService userService;
 
@@ -282,4 +289,50 @@ class UserServiceTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("유저 프로필 조회")
+    class UserProfileTest {
+        @Test
+        @DisplayName("1. 통계 읽기 모델에서 참여/등록 횟수를 조회한다")
+        void getUserProfile_FromStats() {
+            // given
+            User user = User.builder().id(1L).nickname("닉네임").providerType(ProviderType.KAKAO).build();
+            UserAuctionStats stats = UserAuctionStats.builder()
+                    .userId(1L)
+                    .proceedingCount(2)
+                    .wonCount(1)
+                    .lostCount(3)
+                    .preAuctionCount(4)
+                    .officialAuctionCount(5)
+                    .build();
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+            when(userAuctionStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+
+            // when
+            UserProfileResponse response = userService.getUserProfileById(1L);
+
+            // then
+            assertThat(response.participantCount()).isEqualTo(new ParticipationCountsResponse(2, 1, 3));
+            assertThat(response.preRegisterCount()).isEqualTo(4L);
+            assertThat(response.registeredAuctionCount()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("2. 통계가 없는 사용자는 0으로 조회한다")
+        void getUserProfile_WithoutStats() {
+            // given
+            User user = User.builder().id(1L).nickname("닉네임").providerType(ProviderType.KAKAO).build();
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+            when(userAuctionStatsRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // when
+            UserProfileResponse response = userService.getUserProfileById(1L);
+
+            // then
+            assertThat(response.participantCount()).isEqualTo(new ParticipationCountsResponse(0, 0, 0));
+            assertThat(response.preRegisterCount()).isZero();
+            assertThat(response.registeredAuctionCount()).isZero();
+        }
+    }
 }